@@ -0,0 +1,95 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a history of {@value #HISTORY_LENGTH} alternating credits and debits. {@code minorUnits}
+ * rehydrates an {@link Account}, whose balance is a {@code long} count of minor units; {@code
+ * bigDecimal} folds the same amounts with the former {@link BigDecimal} based money. Run with
+ * {@code -prof gc} to compare the bytes allocated per replay.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountReplayBenchmark {
+
+  static final int HISTORY_LENGTH = 1_000_000;
+
+  private List<AccountEvent> history;
+  private BigDecimalMoney initialBalance;
+  private BigDecimalMoney creditAmount;
+  private BigDecimalMoney debitAmount;
+
+  @Setup
+  public void setUp() {
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountId accountId = AccountId.newId();
+    EventId eventId = EventId.newId();
+    TransactionId transactionId = TransactionId.newId();
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    BigDecimal credit = new BigDecimal("12.34");
+    BigDecimal debit = new BigDecimal("5.67");
+    Money credited = Money.of(credit, usd);
+    Money debited = Money.of(debit, usd);
+
+    history = new ArrayList<>(HISTORY_LENGTH);
+    history.add(
+        new AccountOpened(
+            AccountEventMeta.of(eventId, accountId, occurredAt, 1L), usd, Money.zero(usd)));
+    for (long version = 2L; version <= HISTORY_LENGTH; version++) {
+      AccountEventMeta meta = AccountEventMeta.of(eventId, accountId, occurredAt, version);
+      history.add(
+          version % 2 == 0
+              ? new FundsCredited(meta, transactionId, credited)
+              : new FundsDebited(meta, transactionId, debited));
+    }
+    initialBalance = BigDecimalMoney.of(BigDecimal.ZERO, usd);
+    creditAmount = BigDecimalMoney.of(credit, usd);
+    debitAmount = BigDecimalMoney.of(debit, usd);
+
+    if (!bigDecimal().amount().equals(minorUnits().getBalance().amount())) {
+      throw new IllegalStateException("Replays disagree on the final balance");
+    }
+  }
+
+  @Benchmark
+  public Account minorUnits() {
+    return Account.rehydrate(history);
+  }
+
+  @Benchmark
+  public BigDecimalMoney bigDecimal() {
+    BigDecimalMoney balance = initialBalance;
+    for (AccountEvent event : history) {
+      balance =
+          switch (event) {
+            case FundsCredited _ -> balance.add(creditAmount);
+            case FundsDebited _ -> balance.subtract(debitAmount);
+            default -> balance;
+          };
+    }
+    return balance;
+  }
+}
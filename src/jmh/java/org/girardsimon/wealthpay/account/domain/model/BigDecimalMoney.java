@@ -0,0 +1,40 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Former {@link Money} implementation, holding a {@link BigDecimal} amount and rescaling it on
+ * every operation. Kept as the baseline of {@link AccountReplayBenchmark}.
+ */
+record BigDecimalMoney(BigDecimal amount, SupportedCurrency currency) {
+
+  BigDecimalMoney {
+    if (amount == null || currency == null) {
+      throw new IllegalArgumentException("amount and currency must not be null");
+    }
+    int defaultFractionDigits = currency.toJavaCurrency().getDefaultFractionDigits();
+    amount = amount.setScale(defaultFractionDigits, RoundingMode.HALF_EVEN);
+  }
+
+  static BigDecimalMoney of(BigDecimal amount, SupportedCurrency currency) {
+    return new BigDecimalMoney(amount, currency);
+  }
+
+  BigDecimalMoney add(BigDecimalMoney money) {
+    ensureSameCurrency(money);
+    return BigDecimalMoney.of(this.amount.add(money.amount), this.currency);
+  }
+
+  BigDecimalMoney subtract(BigDecimalMoney money) {
+    ensureSameCurrency(money);
+    return BigDecimalMoney.of(this.amount.subtract(money.amount), this.currency);
+  }
+
+  private void ensureSameCurrency(BigDecimalMoney money) {
+    if (!this.currency.equals(money.currency)) {
+      throw new IllegalArgumentException(
+          "Currencies mismatch: %s vs %s".formatted(this.currency, money.currency));
+    }
+  }
+}
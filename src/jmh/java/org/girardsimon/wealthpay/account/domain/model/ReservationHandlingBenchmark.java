@@ -0,0 +1,98 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.command.CancelReservation;
+import org.girardsimon.wealthpay.account.domain.command.DebitAccount;
+import org.girardsimon.wealthpay.account.domain.command.ReserveFunds;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Handles commands on an account holding {@code openReservations} open reservations. Both {@code
+ * debit} and {@code reserveThenCancel} read the available balance; their scores should not depend
+ * on the number of open reservations. {@code streamedReservedTotal} is the stream reduction over
+ * every reservation that each of those commands used to pay for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationHandlingBenchmark {
+
+  @Param({"10000", "100000"})
+  public int openReservations;
+
+  private final Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+  private final EventId eventId = EventId.newId();
+  private final EventIdGenerator eventIdGenerator = () -> eventId;
+
+  private Account account;
+  private Map<ReservationId, Money> reservationMap;
+  private ReserveFunds reserveFunds;
+  private CancelReservation cancelReservation;
+  private DebitAccount debitAccount;
+
+  @Setup
+  public void setUp() {
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountId accountId = AccountId.newId();
+    Money reserved = Money.of(BigDecimal.ONE, usd);
+    List<AccountEvent> history = new ArrayList<>(openReservations + 1);
+    history.add(
+        new AccountOpened(
+            AccountEventMeta.of(eventId, accountId, occurredAt, 1L),
+            usd,
+            Money.of(new BigDecimal("1000000000.00"), usd)));
+    reservationMap = new HashMap<>();
+    for (int i = 0; i < openReservations; i++) {
+      ReservationId reservationId = ReservationId.newId();
+      AccountEventMeta meta = AccountEventMeta.of(eventId, accountId, occurredAt, i + 2L);
+      history.add(new FundsReserved(meta, reservationId, reserved));
+      reservationMap.put(reservationId, reserved);
+    }
+    account = Account.rehydrate(history);
+
+    ReservationId reservationId = ReservationId.newId();
+    reserveFunds = new ReserveFunds(accountId, reservationId, reserved);
+    cancelReservation = new CancelReservation(accountId, reservationId);
+    debitAccount =
+        new DebitAccount(TransactionId.newId(), accountId, Money.of(new BigDecimal("0.01"), usd));
+  }
+
+  @Benchmark
+  public List<AccountEvent> debit() {
+    return account.handle(debitAccount, eventIdGenerator, occurredAt);
+  }
+
+  @Benchmark
+  public List<AccountEvent> reserveThenCancel() {
+    account.handle(reserveFunds, eventIdGenerator, occurredAt);
+    return account.handle(cancelReservation, eventIdGenerator, occurredAt);
+  }
+
+  @Benchmark
+  public Money streamedReservedTotal() {
+    return reservationMap.values().stream().reduce(Money.zero(SupportedCurrency.USD), Money::add);
+  }
+}
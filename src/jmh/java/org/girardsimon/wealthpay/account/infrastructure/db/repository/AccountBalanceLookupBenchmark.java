@@ -0,0 +1,126 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.ProjectionMode;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountBalanceViewEntryToDomainMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link AccountBalanceReadModel#getAccountBalances}, which loads every account with a
+ * single {@code account_id = ANY(?)} query, with one {@link
+ * AccountBalanceReadModel#getAccountBalance} call per account, for lookups of 1, 100 and 1000
+ * accounts. The balance cache is emptied before each lookup so that both hit the database, and
+ * lookups are not coalesced so that each single-account lookup runs its own query.
+ *
+ * <p>Besides throughput, the {@code statements} secondary result reports the round trips each
+ * lookup costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AccountBalanceLookupBenchmark {
+
+  @Param({"1", "100", "1000"})
+  int accountsPerLookup;
+
+  private BenchmarkDatabase database;
+  private AccountBalanceReadModel accountBalanceReadModel;
+  private List<AccountId> accountIds;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class RoundTrips {
+    public long statements;
+  }
+
+  @Setup(Level.Trial)
+  public void startDatabase() throws SQLException {
+    database = BenchmarkDatabase.start();
+    accountBalanceReadModel =
+        new AccountBalanceReadModel(
+            database.dsl(),
+            new AccountBalanceViewEntryToDomainMapper(),
+            new SimpleMeterRegistry(),
+            ProjectionMode.INLINE,
+            10_000L,
+            Duration.ofMinutes(5),
+            Duration.ZERO,
+            1);
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.now();
+    accountIds = new ArrayList<>(accountsPerLookup);
+    List<AccountEvent> openings = new ArrayList<>(accountsPerLookup);
+    for (int i = 0; i < accountsPerLookup; i++) {
+      AccountId accountId = AccountId.newId();
+      accountIds.add(accountId);
+      openings.add(
+          new AccountOpened(
+              AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+              usd,
+              Money.of(BigDecimal.TEN, usd)));
+    }
+    accountBalanceReadModel.project(openings);
+    database.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopDatabase() throws SQLException {
+    database.close();
+  }
+
+  @Setup(Level.Invocation)
+  public void emptyCache() {
+    accountBalanceReadModel.evictAll();
+  }
+
+  @Benchmark
+  public Map<AccountId, AccountBalanceView> singleAnyQuery(RoundTrips roundTrips) {
+    long before = database.executedStatements();
+    Map<AccountId, AccountBalanceView> balances =
+        accountBalanceReadModel.getAccountBalances(accountIds);
+    roundTrips.statements += database.executedStatements() - before;
+    return balances;
+  }
+
+  @Benchmark
+  public void queryPerAccount(RoundTrips roundTrips, Blackhole blackhole) {
+    long before = database.executedStatements();
+    for (AccountId accountId : accountIds) {
+      blackhole.consume(accountBalanceReadModel.getAccountBalance(accountId));
+    }
+    roundTrips.statements += database.executedStatements() - before;
+  }
+}
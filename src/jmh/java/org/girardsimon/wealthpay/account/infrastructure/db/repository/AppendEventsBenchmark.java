@@ -0,0 +1,181 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.EventStore.EVENT_STORE;
+import static org.jooq.impl.DSL.max;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountEventSerializer;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
+import org.girardsimon.wealthpay.account.jooq.tables.records.EventStoreRecord;
+import org.jooq.InsertValuesStep5;
+import org.jooq.JSONB;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the multi-row {@link AccountEventRepository#appendEvents} with the former one INSERT per
+ * event loop, for appends of 1, 10 and 100 events each committed in its own transaction.
+ *
+ * <p>Besides throughput, the {@code statements} secondary result reports the round trips each
+ * append costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AppendEventsBenchmark {
+
+  @Param({"1", "10", "100"})
+  int eventsPerAppend;
+
+  private BenchmarkDatabase database;
+  private AccountEventSerializer accountEventSerializer;
+  private AccountEventRepository accountEventRepository;
+  private AccountId accountId;
+  private List<AccountEvent> events;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class RoundTrips {
+    public long statements;
+  }
+
+  @Setup(Level.Trial)
+  public void startDatabase() throws SQLException {
+    database = BenchmarkDatabase.start();
+    ObjectMapper objectMapper = new ObjectMapper();
+    accountEventSerializer = new AccountEventSerializer(objectMapper);
+    accountEventRepository =
+        new AccountEventRepository(
+            database.dsl(),
+            new EventStoreEntryToAccountEventMapper(objectMapper),
+            accountEventSerializer,
+            new AccountTransactionRepository(database.dsl(), 1_000_000L, 0.01));
+  }
+
+  @TearDown(Level.Trial)
+  public void stopDatabase() throws SQLException {
+    database.close();
+  }
+
+  @Setup(Level.Invocation)
+  public void newStream() {
+    accountId = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.now();
+    events = new ArrayList<>(eventsPerAppend);
+    events.add(
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd)));
+    for (long version = 2L; version <= eventsPerAppend; version++) {
+      events.add(
+          new FundsCredited(
+              AccountEventMeta.of(EventId.newId(), accountId, occurredAt, version),
+              TransactionId.newId(),
+              Money.of(BigDecimal.ONE, usd)));
+    }
+  }
+
+  @Benchmark
+  public void conditionalMultiRowInsert(RoundTrips roundTrips) throws SQLException {
+    long before = database.executedStatements();
+    accountEventRepository.appendEvents(accountId, 0L, events);
+    database.commit();
+    roundTrips.statements += database.executedStatements() - before;
+  }
+
+  @Benchmark
+  public void preReadThenMultiRowInsert(RoundTrips roundTrips) throws SQLException {
+    long before = database.executedStatements();
+    preReadVersion();
+    InsertValuesStep5<EventStoreRecord, UUID, UUID, Long, String, JSONB> insert =
+        database
+            .dsl()
+            .insertInto(EVENT_STORE)
+            .columns(
+                EVENT_STORE.EVENT_ID,
+                EVENT_STORE.ACCOUNT_ID,
+                EVENT_STORE.VERSION,
+                EVENT_STORE.EVENT_TYPE,
+                EVENT_STORE.PAYLOAD);
+    for (AccountEvent event : events) {
+      insert =
+          insert.values(
+              event.eventId().id(),
+              accountId.id(),
+              event.version(),
+              event.getClass().getSimpleName(),
+              accountEventSerializer.apply(event));
+    }
+    insert.execute();
+    database.commit();
+    roundTrips.statements += database.executedStatements() - before;
+  }
+
+  @Benchmark
+  public void preReadThenInsertPerEvent(RoundTrips roundTrips) throws SQLException {
+    long before = database.executedStatements();
+    preReadVersion();
+    for (AccountEvent event : events) {
+      database
+          .dsl()
+          .insertInto(EVENT_STORE)
+          .columns(
+              EVENT_STORE.EVENT_ID,
+              EVENT_STORE.ACCOUNT_ID,
+              EVENT_STORE.VERSION,
+              EVENT_STORE.EVENT_TYPE,
+              EVENT_STORE.PAYLOAD)
+          .values(
+              event.eventId().id(),
+              accountId.id(),
+              event.version(),
+              event.getClass().getSimpleName(),
+              accountEventSerializer.apply(event))
+          .execute();
+    }
+    database.commit();
+    roundTrips.statements += database.executedStatements() - before;
+  }
+
+  private void preReadVersion() {
+    database
+        .dsl()
+        .select(max(EVENT_STORE.VERSION))
+        .from(EVENT_STORE)
+        .where(EVENT_STORE.ACCOUNT_ID.eq(accountId.id()))
+        .fetchOneInto(Long.class);
+  }
+}
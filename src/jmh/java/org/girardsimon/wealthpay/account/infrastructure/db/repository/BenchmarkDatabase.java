@@ -0,0 +1,85 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL container migrated with the account schema, shared by the persistence benchmarks.
+ *
+ * <p>The {@link DSLContext} runs on a single connection with auto-commit disabled, so benchmarks
+ * commit explicitly and pay one commit per simulated command, like the application does. Every
+ * statement sent to the server is counted to report round trips per operation.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+  private final PostgreSQLContainer postgres;
+  private final Connection connection;
+  private final DSLContext dsl;
+  private final AtomicLong executedStatements = new AtomicLong();
+
+  private BenchmarkDatabase(PostgreSQLContainer postgres, Connection connection) {
+    this.postgres = postgres;
+    this.connection = connection;
+    this.dsl =
+        DSL.using(
+            new DefaultConfiguration()
+                .set(connection)
+                .set(SQLDialect.POSTGRES)
+                .set(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeEnd(ExecuteContext ctx) {
+                        executedStatements.incrementAndGet();
+                      }
+                    }));
+  }
+
+  static BenchmarkDatabase start() throws SQLException {
+    PostgreSQLContainer postgres =
+        new PostgreSQLContainer("postgres:16")
+            .withDatabaseName("wealthpay")
+            .withUsername("wealthpay")
+            .withPassword("wealthpay");
+    postgres.start();
+    Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .defaultSchema("account")
+        .schemas("account")
+        .locations("classpath:db/migration/account")
+        .load()
+        .migrate();
+    Connection connection =
+        DriverManager.getConnection(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    connection.setAutoCommit(false);
+    return new BenchmarkDatabase(postgres, connection);
+  }
+
+  DSLContext dsl() {
+    return dsl;
+  }
+
+  long executedStatements() {
+    return executedStatements.get();
+  }
+
+  void commit() throws SQLException {
+    connection.commit();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    connection.close();
+    postgres.stop();
+  }
+}
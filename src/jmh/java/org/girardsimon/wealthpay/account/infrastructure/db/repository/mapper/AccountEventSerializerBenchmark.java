@@ -0,0 +1,101 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.event.AccountClosed;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
+import org.girardsimon.wealthpay.account.domain.event.ReservationCancelled;
+import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.jooq.JSONB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the streaming {@link AccountEventSerializer} with the former tree-based implementation
+ * for every {@link AccountEvent} subtype. Run with {@code -prof gc} to get the allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) next to the time per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountEventSerializerBenchmark {
+
+  @Param({
+    "AccountOpened",
+    "AccountClosed",
+    "FundsCredited",
+    "FundsDebited",
+    "FundsReserved",
+    "ReservationCancelled",
+    "ReservationCaptured"
+  })
+  String eventType;
+
+  private AccountEvent event;
+  private AccountEventSerializer streamingSerializer;
+  private TreeAccountEventSerializer treeSerializer;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    streamingSerializer = new AccountEventSerializer(objectMapper);
+    treeSerializer = new TreeAccountEventSerializer(objectMapper);
+    event = sampleEvent(eventType);
+    if (!streamingSerializer.apply(event).data().equals(treeSerializer.apply(event).data())) {
+      throw new IllegalStateException("Serializers disagree on " + eventType);
+    }
+  }
+
+  @Benchmark
+  public JSONB streaming() {
+    return streamingSerializer.apply(event);
+  }
+
+  @Benchmark
+  public JSONB tree() {
+    return treeSerializer.apply(event);
+  }
+
+  private static AccountEvent sampleEvent(String eventType) {
+    SupportedCurrency eur = SupportedCurrency.EUR;
+    AccountEventMeta meta =
+        AccountEventMeta.of(
+            EventId.newId(), AccountId.newId(), Instant.parse("2025-11-16T15:00:00.123Z"), 2L);
+    Money money = Money.of(new BigDecimal("1234.56"), eur);
+    return switch (eventType) {
+      case "AccountOpened" -> new AccountOpened(meta, eur, money);
+      case "AccountClosed" -> new AccountClosed(meta);
+      case "FundsCredited" -> new FundsCredited(meta, TransactionId.newId(), money);
+      case "FundsDebited" -> new FundsDebited(meta, TransactionId.newId(), money);
+      case "FundsReserved" -> new FundsReserved(meta, ReservationId.newId(), money);
+      case "ReservationCancelled" -> new ReservationCancelled(meta, ReservationId.newId(), money);
+      case "ReservationCaptured" -> new ReservationCaptured(meta, ReservationId.newId(), money);
+      default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+    };
+  }
+}
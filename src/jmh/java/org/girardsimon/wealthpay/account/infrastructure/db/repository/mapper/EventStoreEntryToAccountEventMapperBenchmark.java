@@ -0,0 +1,108 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
+import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.jooq.tables.pojos.EventStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Decodes a realistic mix of {@value #ROWS} event store rows (mostly credits, debits and
+ * reservation cycles) with the streaming {@link EventStoreEntryToAccountEventMapper} and with the
+ * former tree-based mapper. Scores are per decoded row; run with {@code -prof gc} to compare the
+ * bytes allocated per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventStoreEntryToAccountEventMapperBenchmark {
+
+  static final int ROWS = 1_000;
+
+  private List<EventStore> rows;
+  private EventStoreEntryToAccountEventMapper streamingMapper;
+  private TreeEventStoreEntryToAccountEventMapper treeMapper;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    streamingMapper = new EventStoreEntryToAccountEventMapper(objectMapper);
+    treeMapper = new TreeEventStoreEntryToAccountEventMapper(objectMapper);
+    AccountEventSerializer serializer = new AccountEventSerializer(objectMapper);
+
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency eur = SupportedCurrency.EUR;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00.123456Z");
+    rows = new ArrayList<>(ROWS);
+    for (long version = 1L; version <= ROWS; version++) {
+      AccountEventMeta meta = AccountEventMeta.of(EventId.newId(), accountId, occurredAt, version);
+      Money money = Money.of(BigDecimal.valueOf(version % 500 + 1, 2), eur);
+      AccountEvent event =
+          switch ((int) (version % 4)) {
+            case 1 ->
+                version == 1L
+                    ? new AccountOpened(meta, eur, money)
+                    : new FundsCredited(meta, TransactionId.newId(), money);
+            case 2 -> new FundsDebited(meta, TransactionId.newId(), money);
+            case 3 -> new FundsReserved(meta, ReservationId.newId(), money);
+            default -> new ReservationCaptured(meta, ReservationId.newId(), money);
+          };
+      EventStore row = new EventStore();
+      row.setEventId(event.eventId().id());
+      row.setAccountId(accountId.id());
+      row.setVersion(version);
+      row.setEventType(event.getClass().getSimpleName());
+      row.setPayload(serializer.apply(event));
+      rows.add(row);
+      if (!streamingMapper.apply(row).equals(treeMapper.apply(row))) {
+        throw new IllegalStateException("Mappers disagree on " + row);
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void streaming(Blackhole blackhole) {
+    for (EventStore row : rows) {
+      blackhole.consume(streamingMapper.apply(row));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void tree(Blackhole blackhole) {
+    for (EventStore row : rows) {
+      blackhole.consume(treeMapper.apply(row));
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
+
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.MapperUtils.getRequiredField;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.event.AccountClosed;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
+import org.girardsimon.wealthpay.account.domain.event.ReservationCancelled;
+import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.jooq.tables.pojos.EventStore;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Former {@link EventStoreEntryToAccountEventMapper} implementation, reading every payload into a
+ * {@link JsonNode} tree. Kept as the baseline of {@link
+ * EventStoreEntryToAccountEventMapperBenchmark}.
+ */
+class TreeEventStoreEntryToAccountEventMapper implements Function<EventStore, AccountEvent> {
+
+  private static final String OCCURRED_AT = "occurredAt";
+  private static final String AMOUNT = "amount";
+  private static final String CURRENCY = "currency";
+  private static final String RESERVATION_ID = "reservationId";
+  private static final String INITIAL_BALANCE = "initialBalance";
+  private static final String TRANSACTION_ID = "transactionId";
+
+  private final ObjectMapper objectMapper;
+
+  TreeEventStoreEntryToAccountEventMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  private static Money extractMoney(JsonNode root) {
+    SupportedCurrency currency =
+        SupportedCurrency.valueOf(getRequiredField(root, CURRENCY).asString());
+    BigDecimal amount = getRequiredField(root, AMOUNT).decimalValue();
+    return Money.of(amount, currency);
+  }
+
+  private static AccountEventMeta getAccountEventMeta(EventStore eventStore, JsonNode root) {
+    return AccountEventMeta.of(
+        EventId.of(eventStore.getEventId()),
+        AccountId.of(eventStore.getAccountId()),
+        Instant.parse(getRequiredField(root, OCCURRED_AT).asString()),
+        eventStore.getVersion());
+  }
+
+  @Override
+  public AccountEvent apply(EventStore eventStore) {
+    String eventType = eventStore.getEventType();
+
+    return switch (eventType) {
+      case "AccountOpened" -> mapAccountOpened(eventStore);
+      case "AccountClosed" -> mapAccountClosed(eventStore);
+      case "ReservationCaptured" -> mapReservationCaptured(eventStore);
+      case "FundsCredited" -> mapFundsCredited(eventStore);
+      case "FundsDebited" -> mapFundsDebited(eventStore);
+      case "FundsReserved" -> mapFundsReserved(eventStore);
+      case "ReservationCancelled" -> mapReservationCancelled(eventStore);
+      default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+    };
+  }
+
+  private ReservationCancelled mapReservationCancelled(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+
+    String reservationId = getRequiredField(root, RESERVATION_ID).asString();
+
+    return new ReservationCancelled(
+        getAccountEventMeta(eventStore, root),
+        ReservationId.of(UUID.fromString(reservationId)),
+        extractMoney(root));
+  }
+
+  private FundsReserved mapFundsReserved(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+
+    String reservationId = getRequiredField(root, RESERVATION_ID).asString();
+
+    return new FundsReserved(
+        getAccountEventMeta(eventStore, root),
+        ReservationId.of(UUID.fromString(reservationId)),
+        extractMoney(root));
+  }
+
+  private FundsDebited mapFundsDebited(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+
+    String transactionId = root.get(TRANSACTION_ID).asString();
+
+    return new FundsDebited(
+        getAccountEventMeta(eventStore, root),
+        TransactionId.of(UUID.fromString(transactionId)),
+        extractMoney(root));
+  }
+
+  private FundsCredited mapFundsCredited(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+
+    String transactionId = getRequiredField(root, TRANSACTION_ID).asString();
+
+    return new FundsCredited(
+        getAccountEventMeta(eventStore, root),
+        TransactionId.of(UUID.fromString(transactionId)),
+        extractMoney(root));
+  }
+
+  private AccountClosed mapAccountClosed(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+    return new AccountClosed(getAccountEventMeta(eventStore, root));
+  }
+
+  private ReservationCaptured mapReservationCaptured(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+
+    String reservationId = getRequiredField(root, RESERVATION_ID).asString();
+
+    return new ReservationCaptured(
+        getAccountEventMeta(eventStore, root),
+        ReservationId.of(UUID.fromString(reservationId)),
+        extractMoney(root));
+  }
+
+  private AccountOpened mapAccountOpened(EventStore eventStore) {
+    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+
+    SupportedCurrency currency =
+        SupportedCurrency.valueOf(getRequiredField(root, CURRENCY).asString());
+    BigDecimal amount = getRequiredField(root, INITIAL_BALANCE).decimalValue();
+
+    return new AccountOpened(
+        getAccountEventMeta(eventStore, root), currency, Money.of(amount, currency));
+  }
+}
@@ -7,10 +7,17 @@ package org.girardsimon.wealthpay.account.jooq;
 import java.util.Arrays;
 import java.util.List;
 
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceRebuildCheckpoint;
 import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBucket;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBucketStream;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountSnapshot;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountTransaction;
 import org.girardsimon.wealthpay.account.jooq.tables.EventStore;
 import org.girardsimon.wealthpay.account.jooq.tables.FlywaySchemaHistory;
+import org.girardsimon.wealthpay.account.jooq.tables.IdempotentRequest;
 import org.girardsimon.wealthpay.account.jooq.tables.Outbox;
+import org.girardsimon.wealthpay.account.jooq.tables.ProjectionCheckpoint;
 import org.jooq.Catalog;
 import org.jooq.Table;
 import org.jooq.impl.SchemaImpl;
@@ -29,11 +36,36 @@ public class Account extends SchemaImpl {
      */
     public static final Account ACCOUNT = new Account();
 
+    /**
+     * The table <code>account.account_balance_rebuild_checkpoint</code>.
+     */
+    public final AccountBalanceRebuildCheckpoint ACCOUNT_BALANCE_REBUILD_CHECKPOINT = AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT;
+
     /**
      * The table <code>account.account_balance_view</code>.
      */
     public final AccountBalanceView ACCOUNT_BALANCE_VIEW = AccountBalanceView.ACCOUNT_BALANCE_VIEW;
 
+    /**
+     * The table <code>account.account_bucket</code>.
+     */
+    public final AccountBucket ACCOUNT_BUCKET = AccountBucket.ACCOUNT_BUCKET;
+
+    /**
+     * The table <code>account.account_bucket_stream</code>.
+     */
+    public final AccountBucketStream ACCOUNT_BUCKET_STREAM = AccountBucketStream.ACCOUNT_BUCKET_STREAM;
+
+    /**
+     * The table <code>account.account_snapshot</code>.
+     */
+    public final AccountSnapshot ACCOUNT_SNAPSHOT = AccountSnapshot.ACCOUNT_SNAPSHOT;
+
+    /**
+     * The table <code>account.account_transaction</code>.
+     */
+    public final AccountTransaction ACCOUNT_TRANSACTION = AccountTransaction.ACCOUNT_TRANSACTION;
+
     /**
      * The table <code>account.event_store</code>.
      */
@@ -44,11 +76,21 @@ public class Account extends SchemaImpl {
      */
     public final FlywaySchemaHistory FLYWAY_SCHEMA_HISTORY = FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY;
 
+    /**
+     * The table <code>account.idempotent_request</code>.
+     */
+    public final IdempotentRequest IDEMPOTENT_REQUEST = IdempotentRequest.IDEMPOTENT_REQUEST;
+
     /**
      * The table <code>account.outbox</code>.
      */
     public final Outbox OUTBOX = Outbox.OUTBOX;
 
+    /**
+     * The table <code>account.projection_checkpoint</code>.
+     */
+    public final ProjectionCheckpoint PROJECTION_CHECKPOINT = ProjectionCheckpoint.PROJECTION_CHECKPOINT;
+
     /**
      * No further instances allowed
      */
@@ -65,10 +107,17 @@ public class Account extends SchemaImpl {
     @Override
     public final List<Table<?>> getTables() {
         return Arrays.asList(
+            AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT,
             AccountBalanceView.ACCOUNT_BALANCE_VIEW,
+            AccountBucket.ACCOUNT_BUCKET,
+            AccountBucketStream.ACCOUNT_BUCKET_STREAM,
+            AccountSnapshot.ACCOUNT_SNAPSHOT,
+            AccountTransaction.ACCOUNT_TRANSACTION,
             EventStore.EVENT_STORE,
             FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY,
-            Outbox.OUTBOX
+            IdempotentRequest.IDEMPOTENT_REQUEST,
+            Outbox.OUTBOX,
+            ProjectionCheckpoint.PROJECTION_CHECKPOINT
         );
     }
 }
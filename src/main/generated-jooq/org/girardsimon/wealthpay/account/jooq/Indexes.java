@@ -6,6 +6,7 @@ package org.girardsimon.wealthpay.account.jooq;
 
 import org.girardsimon.wealthpay.account.jooq.tables.EventStore;
 import org.girardsimon.wealthpay.account.jooq.tables.FlywaySchemaHistory;
+import org.girardsimon.wealthpay.account.jooq.tables.IdempotentRequest;
 import org.girardsimon.wealthpay.account.jooq.tables.Outbox;
 import org.jooq.Index;
 import org.jooq.OrderField;
@@ -26,6 +27,8 @@ public class Indexes {
     public static final Index FLYWAY_SCHEMA_HISTORY_S_IDX = Internal.createIndex(DSL.name("flyway_schema_history_s_idx"), FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY, new OrderField[] { FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY.SUCCESS }, false);
     public static final Index IDX_EVENT_STORE_ACCOUNT_ID_VERSION = Internal.createIndex(DSL.name("idx_event_store_account_id_version"), EventStore.EVENT_STORE, new OrderField[] { EventStore.EVENT_STORE.ACCOUNT_ID, EventStore.EVENT_STORE.VERSION }, false);
     public static final Index IDX_EVENT_STORE_EVENT_ID = Internal.createIndex(DSL.name("idx_event_store_event_id"), EventStore.EVENT_STORE, new OrderField[] { EventStore.EVENT_STORE.EVENT_ID }, true);
+    public static final Index IDX_EVENT_STORE_TRANSACTION_ID_ID = Internal.createIndex(DSL.name("idx_event_store_transaction_id_id"), EventStore.EVENT_STORE, new OrderField[] { EventStore.EVENT_STORE.TRANSACTION_ID, EventStore.EVENT_STORE.ID }, false);
+    public static final Index IDX_IDEMPOTENT_REQUEST_CREATED_AT = Internal.createIndex(DSL.name("idx_idempotent_request_created_at"), IdempotentRequest.IDEMPOTENT_REQUEST, new OrderField[] { IdempotentRequest.IDEMPOTENT_REQUEST.CREATED_AT }, false);
     public static final Index OUTBOX_AGGREGATE_ORDER_IDX = Internal.createIndex(DSL.name("outbox_aggregate_order_idx"), Outbox.OUTBOX, new OrderField[] { Outbox.OUTBOX.AGGREGATE_ID, Outbox.OUTBOX.AGGREGATE_VERSION }, false);
     public static final Index OUTBOX_PENDING_IDX = Internal.createIndex(DSL.name("outbox_pending_idx"), Outbox.OUTBOX, new OrderField[] { Outbox.OUTBOX.STATUS, Outbox.OUTBOX.AVAILABLE_AT, Outbox.OUTBOX.OUTBOX_ID }, false);
 }
@@ -4,14 +4,28 @@
 package org.girardsimon.wealthpay.account.jooq;
 
 
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceRebuildCheckpoint;
 import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBucket;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBucketStream;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountSnapshot;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountTransaction;
 import org.girardsimon.wealthpay.account.jooq.tables.EventStore;
 import org.girardsimon.wealthpay.account.jooq.tables.FlywaySchemaHistory;
+import org.girardsimon.wealthpay.account.jooq.tables.IdempotentRequest;
 import org.girardsimon.wealthpay.account.jooq.tables.Outbox;
+import org.girardsimon.wealthpay.account.jooq.tables.ProjectionCheckpoint;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBalanceRebuildCheckpointRecord;
 import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBalanceViewRecord;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBucketRecord;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBucketStreamRecord;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountSnapshotRecord;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountTransactionRecord;
 import org.girardsimon.wealthpay.account.jooq.tables.records.EventStoreRecord;
 import org.girardsimon.wealthpay.account.jooq.tables.records.FlywaySchemaHistoryRecord;
+import org.girardsimon.wealthpay.account.jooq.tables.records.IdempotentRequestRecord;
 import org.girardsimon.wealthpay.account.jooq.tables.records.OutboxRecord;
+import org.girardsimon.wealthpay.account.jooq.tables.records.ProjectionCheckpointRecord;
 import org.jooq.TableField;
 import org.jooq.UniqueKey;
 import org.jooq.impl.DSL;
@@ -29,10 +43,17 @@ public class Keys {
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final UniqueKey<AccountBalanceRebuildCheckpointRecord> ACCOUNT_BALANCE_REBUILD_CHECKPOINT_PKEY = Internal.createUniqueKey(AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT, DSL.name("account_balance_rebuild_checkpoint_pkey"), new TableField[] { AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT.PARTITION_INDEX }, true);
     public static final UniqueKey<AccountBalanceViewRecord> ACCOUNT_BALANCE_VIEW_PKEY = Internal.createUniqueKey(AccountBalanceView.ACCOUNT_BALANCE_VIEW, DSL.name("account_balance_view_pkey"), new TableField[] { AccountBalanceView.ACCOUNT_BALANCE_VIEW.ACCOUNT_ID }, true);
+    public static final UniqueKey<AccountBucketRecord> ACCOUNT_BUCKET_PKEY = Internal.createUniqueKey(AccountBucket.ACCOUNT_BUCKET, DSL.name("account_bucket_pkey"), new TableField[] { AccountBucket.ACCOUNT_BUCKET.ACCOUNT_ID }, true);
+    public static final UniqueKey<AccountBucketStreamRecord> ACCOUNT_BUCKET_STREAM_PKEY = Internal.createUniqueKey(AccountBucketStream.ACCOUNT_BUCKET_STREAM, DSL.name("account_bucket_stream_pkey"), new TableField[] { AccountBucketStream.ACCOUNT_BUCKET_STREAM.BUCKET_ID }, true);
+    public static final UniqueKey<AccountSnapshotRecord> ACCOUNT_SNAPSHOT_PKEY = Internal.createUniqueKey(AccountSnapshot.ACCOUNT_SNAPSHOT, DSL.name("account_snapshot_pkey"), new TableField[] { AccountSnapshot.ACCOUNT_SNAPSHOT.ACCOUNT_ID }, true);
+    public static final UniqueKey<AccountTransactionRecord> ACCOUNT_TRANSACTION_PKEY = Internal.createUniqueKey(AccountTransaction.ACCOUNT_TRANSACTION, DSL.name("account_transaction_pkey"), new TableField[] { AccountTransaction.ACCOUNT_TRANSACTION.ACCOUNT_ID, AccountTransaction.ACCOUNT_TRANSACTION.TRANSACTION_ID }, true);
     public static final UniqueKey<EventStoreRecord> EVENT_STORE_PKEY = Internal.createUniqueKey(EventStore.EVENT_STORE, DSL.name("event_store_pkey"), new TableField[] { EventStore.EVENT_STORE.ID }, true);
     public static final UniqueKey<EventStoreRecord> UQ_EVENT_STORE_ACCOUNT_VERSION = Internal.createUniqueKey(EventStore.EVENT_STORE, DSL.name("uq_event_store_account_version"), new TableField[] { EventStore.EVENT_STORE.ACCOUNT_ID, EventStore.EVENT_STORE.VERSION }, true);
     public static final UniqueKey<FlywaySchemaHistoryRecord> FLYWAY_SCHEMA_HISTORY_PK = Internal.createUniqueKey(FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY, DSL.name("flyway_schema_history_pk"), new TableField[] { FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY.INSTALLED_RANK }, true);
+    public static final UniqueKey<IdempotentRequestRecord> IDEMPOTENT_REQUEST_PKEY = Internal.createUniqueKey(IdempotentRequest.IDEMPOTENT_REQUEST, DSL.name("idempotent_request_pkey"), new TableField[] { IdempotentRequest.IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY }, true);
     public static final UniqueKey<OutboxRecord> OUTBOX_EVENT_ID_KEY = Internal.createUniqueKey(Outbox.OUTBOX, DSL.name("outbox_event_id_key"), new TableField[] { Outbox.OUTBOX.EVENT_ID }, true);
     public static final UniqueKey<OutboxRecord> OUTBOX_PKEY = Internal.createUniqueKey(Outbox.OUTBOX, DSL.name("outbox_pkey"), new TableField[] { Outbox.OUTBOX.OUTBOX_ID }, true);
+    public static final UniqueKey<ProjectionCheckpointRecord> PROJECTION_CHECKPOINT_PKEY = Internal.createUniqueKey(ProjectionCheckpoint.PROJECTION_CHECKPOINT, DSL.name("projection_checkpoint_pkey"), new TableField[] { ProjectionCheckpoint.PROJECTION_CHECKPOINT.PROJECTION_NAME }, true);
 }
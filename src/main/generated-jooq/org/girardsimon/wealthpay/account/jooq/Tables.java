@@ -4,10 +4,17 @@
 package org.girardsimon.wealthpay.account.jooq;
 
 
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceRebuildCheckpoint;
 import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBucket;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBucketStream;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountSnapshot;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountTransaction;
 import org.girardsimon.wealthpay.account.jooq.tables.EventStore;
 import org.girardsimon.wealthpay.account.jooq.tables.FlywaySchemaHistory;
+import org.girardsimon.wealthpay.account.jooq.tables.IdempotentRequest;
 import org.girardsimon.wealthpay.account.jooq.tables.Outbox;
+import org.girardsimon.wealthpay.account.jooq.tables.ProjectionCheckpoint;
 
 
 /**
@@ -16,11 +23,36 @@ import org.girardsimon.wealthpay.account.jooq.tables.Outbox;
 @SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
 public class Tables {
 
+    /**
+     * The table <code>account.account_balance_rebuild_checkpoint</code>.
+     */
+    public static final AccountBalanceRebuildCheckpoint ACCOUNT_BALANCE_REBUILD_CHECKPOINT = AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT;
+
     /**
      * The table <code>account.account_balance_view</code>.
      */
     public static final AccountBalanceView ACCOUNT_BALANCE_VIEW = AccountBalanceView.ACCOUNT_BALANCE_VIEW;
 
+    /**
+     * The table <code>account.account_bucket</code>.
+     */
+    public static final AccountBucket ACCOUNT_BUCKET = AccountBucket.ACCOUNT_BUCKET;
+
+    /**
+     * The table <code>account.account_bucket_stream</code>.
+     */
+    public static final AccountBucketStream ACCOUNT_BUCKET_STREAM = AccountBucketStream.ACCOUNT_BUCKET_STREAM;
+
+    /**
+     * The table <code>account.account_snapshot</code>.
+     */
+    public static final AccountSnapshot ACCOUNT_SNAPSHOT = AccountSnapshot.ACCOUNT_SNAPSHOT;
+
+    /**
+     * The table <code>account.account_transaction</code>.
+     */
+    public static final AccountTransaction ACCOUNT_TRANSACTION = AccountTransaction.ACCOUNT_TRANSACTION;
+
     /**
      * The table <code>account.event_store</code>.
      */
@@ -31,8 +63,18 @@ public class Tables {
      */
     public static final FlywaySchemaHistory FLYWAY_SCHEMA_HISTORY = FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY;
 
+    /**
+     * The table <code>account.idempotent_request</code>.
+     */
+    public static final IdempotentRequest IDEMPOTENT_REQUEST = IdempotentRequest.IDEMPOTENT_REQUEST;
+
     /**
      * The table <code>account.outbox</code>.
      */
     public static final Outbox OUTBOX = Outbox.OUTBOX;
+
+    /**
+     * The table <code>account.projection_checkpoint</code>.
+     */
+    public static final ProjectionCheckpoint PROJECTION_CHECKPOINT = ProjectionCheckpoint.PROJECTION_CHECKPOINT;
 }
@@ -91,6 +91,11 @@ public class EventStore extends TableImpl<EventStoreRecord> {
      */
     public final TableField<EventStoreRecord, UUID> EVENT_ID = createField(DSL.name("event_id"), SQLDataType.UUID.nullable(false), this, "");
 
+    /**
+     * The column <code>account.event_store.transaction_id</code>.
+     */
+    public final TableField<EventStoreRecord, Long> TRANSACTION_ID = createField(DSL.name("transaction_id"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("((pg_current_xact_id())::text)::bigint"), SQLDataType.BIGINT)), this, "");
+
     private EventStore(Name alias, Table<EventStoreRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -127,7 +132,7 @@ public class EventStore extends TableImpl<EventStoreRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_EVENT_STORE_ACCOUNT_ID_VERSION, Indexes.IDX_EVENT_STORE_EVENT_ID);
+        return Arrays.asList(Indexes.IDX_EVENT_STORE_ACCOUNT_ID_VERSION, Indexes.IDX_EVENT_STORE_EVENT_ID, Indexes.IDX_EVENT_STORE_TRANSACTION_ID_ID);
     }
 
     @Override
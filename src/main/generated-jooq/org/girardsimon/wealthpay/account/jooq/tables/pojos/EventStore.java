@@ -26,6 +26,7 @@ public class EventStore implements Serializable {
     private JSONB payload;
     private OffsetDateTime createdAt;
     private UUID eventId;
+    private Long transactionId;
 
     public EventStore() {}
 
@@ -37,6 +38,7 @@ public class EventStore implements Serializable {
         this.payload = value.payload;
         this.createdAt = value.createdAt;
         this.eventId = value.eventId;
+        this.transactionId = value.transactionId;
     }
 
     public EventStore(
@@ -46,7 +48,8 @@ public class EventStore implements Serializable {
         String eventType,
         JSONB payload,
         OffsetDateTime createdAt,
-        UUID eventId
+        UUID eventId,
+        Long transactionId
     ) {
         this.id = id;
         this.accountId = accountId;
@@ -55,6 +58,7 @@ public class EventStore implements Serializable {
         this.payload = payload;
         this.createdAt = createdAt;
         this.eventId = eventId;
+        this.transactionId = transactionId;
     }
 
     /**
@@ -155,6 +159,20 @@ public class EventStore implements Serializable {
         this.eventId = eventId;
     }
 
+    /**
+     * Getter for <code>account.event_store.transaction_id</code>.
+     */
+    public Long getTransactionId() {
+        return this.transactionId;
+    }
+
+    /**
+     * Setter for <code>account.event_store.transaction_id</code>.
+     */
+    public void setTransactionId(Long transactionId) {
+        this.transactionId = transactionId;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -206,6 +224,12 @@ public class EventStore implements Serializable {
         }
         else if (!this.eventId.equals(other.eventId))
             return false;
+        if (this.transactionId == null) {
+            if (other.transactionId != null)
+                return false;
+        }
+        else if (!this.transactionId.equals(other.transactionId))
+            return false;
         return true;
     }
 
@@ -220,6 +244,7 @@ public class EventStore implements Serializable {
         result = prime * result + ((this.payload == null) ? 0 : this.payload.hashCode());
         result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
         result = prime * result + ((this.eventId == null) ? 0 : this.eventId.hashCode());
+        result = prime * result + ((this.transactionId == null) ? 0 : this.transactionId.hashCode());
         return result;
     }
 
@@ -234,6 +259,7 @@ public class EventStore implements Serializable {
         sb.append(", ").append(payload);
         sb.append(", ").append(createdAt);
         sb.append(", ").append(eventId);
+        sb.append(", ").append(transactionId);
 
         sb.append(")");
         return sb.toString();
@@ -119,6 +119,20 @@ public class EventStoreRecord extends UpdatableRecordImpl<EventStoreRecord> {
         return (UUID) get(6);
     }
 
+    /**
+     * Setter for <code>account.event_store.transaction_id</code>.
+     */
+    public void setTransactionId(Long value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for <code>account.event_store.transaction_id</code>.
+     */
+    public Long getTransactionId() {
+        return (Long) get(7);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -142,7 +156,7 @@ public class EventStoreRecord extends UpdatableRecordImpl<EventStoreRecord> {
     /**
      * Create a detached, initialised EventStoreRecord
      */
-    public EventStoreRecord(Long id, UUID accountId, Long version, String eventType, JSONB payload, OffsetDateTime createdAt, UUID eventId) {
+    public EventStoreRecord(Long id, UUID accountId, Long version, String eventType, JSONB payload, OffsetDateTime createdAt, UUID eventId, Long transactionId) {
         super(EventStore.EVENT_STORE);
 
         setId(id);
@@ -152,6 +166,7 @@ public class EventStoreRecord extends UpdatableRecordImpl<EventStoreRecord> {
         setPayload(payload);
         setCreatedAt(createdAt);
         setEventId(eventId);
+        setTransactionId(transactionId);
         resetChangedOnNotNull();
     }
 
@@ -169,6 +184,7 @@ public class EventStoreRecord extends UpdatableRecordImpl<EventStoreRecord> {
             setPayload(value.getPayload());
             setCreatedAt(value.getCreatedAt());
             setEventId(value.getEventId());
+            setTransactionId(value.getTransactionId());
             resetChangedOnNotNull();
         }
     }
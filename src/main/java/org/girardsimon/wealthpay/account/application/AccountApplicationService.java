@@ -2,52 +2,126 @@ package org.girardsimon.wealthpay.account.application;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.application.response.AccountTransactionResponse;
+import org.girardsimon.wealthpay.account.application.response.AccountTransactionStatus;
 import org.girardsimon.wealthpay.account.application.response.CaptureReservationResponse;
 import org.girardsimon.wealthpay.account.application.response.ReservationCaptureStatus;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.application.view.AccountBalances;
 import org.girardsimon.wealthpay.account.domain.command.CaptureReservation;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.command.DebitAccount;
 import org.girardsimon.wealthpay.account.domain.command.OpenAccount;
 import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
 import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
-import org.girardsimon.wealthpay.account.domain.exception.AccountHistoryNotFound;
+import org.girardsimon.wealthpay.account.domain.exception.AccountBucketsConflictException;
+import org.girardsimon.wealthpay.account.domain.exception.AccountInactiveException;
+import org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException;
+import org.girardsimon.wealthpay.account.domain.exception.IdempotencyKeyReusedException;
+import org.girardsimon.wealthpay.account.domain.exception.InsufficientFundsException;
 import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
 import org.girardsimon.wealthpay.account.domain.model.AccountIdGenerator;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
 import org.girardsimon.wealthpay.account.domain.model.EventIdGenerator;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class AccountApplicationService {
 
   private final AccountEventStore accountEventStore;
+  private final AccountCommandExecutor accountCommandExecutor;
+  private final AccountRepository accountRepository;
   private final AccountBalanceProjector accountBalanceProjector;
+  private final AccountTransactionIndex accountTransactionIndex;
+  private final IdempotentRequestStore idempotentRequestStore;
+  private final AccountBucketStore accountBucketStore;
+  private final AccountBucketRebalancer accountBucketRebalancer;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate readOnlyTransactionTemplate;
   private final Clock clock;
   private final AccountIdGenerator accountIdGenerator;
   private final EventIdGenerator eventIdGenerator;
 
   public AccountApplicationService(
       AccountEventStore accountEventStore,
+      AccountCommandExecutor accountCommandExecutor,
+      AccountRepository accountRepository,
       AccountBalanceProjector accountBalanceProjector,
+      AccountTransactionIndex accountTransactionIndex,
+      IdempotentRequestStore idempotentRequestStore,
+      AccountBucketStore accountBucketStore,
+      AccountBucketRebalancer accountBucketRebalancer,
+      PlatformTransactionManager transactionManager,
       Clock clock,
       AccountIdGenerator accountIdGenerator,
       EventIdGenerator eventIdGenerator) {
     this.accountEventStore = accountEventStore;
+    this.accountCommandExecutor = accountCommandExecutor;
+    this.accountRepository = accountRepository;
     this.accountBalanceProjector = accountBalanceProjector;
+    this.accountTransactionIndex = accountTransactionIndex;
+    this.idempotentRequestStore = idempotentRequestStore;
+    this.accountBucketStore = accountBucketStore;
+    this.accountBucketRebalancer = accountBucketRebalancer;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
     this.clock = clock;
     this.accountIdGenerator = accountIdGenerator;
     this.eventIdGenerator = eventIdGenerator;
   }
 
-  private static long versionBeforeEvents(Account account, List<AccountEvent> events) {
-    return account.getVersion() - events.size();
+  @Transactional
+  public AccountId openAccount(OpenAccount openAccount) {
+    return open(openAccount, accountIdGenerator.newId());
   }
 
+  /**
+   * Opens an account unless an earlier request used {@code idempotencyKey}, in which case the
+   * account that request opened is returned. A request still in flight with the key is waited for.
+   *
+   * @throws IdempotencyKeyReusedException when the earlier request had a different content
+   */
   @Transactional
-  public AccountId openAccount(OpenAccount openAccount) {
-    AccountId accountId = accountIdGenerator.newId();
+  public AccountId openAccount(OpenAccount openAccount, String idempotencyKey) {
+    IdempotentRequest request =
+        new IdempotentRequest(idempotencyKey, fingerprint(openAccount), accountIdGenerator.newId());
+    Optional<IdempotentRequest> earlier = idempotentRequestStore.claim(request);
+    if (earlier.isEmpty()) {
+      return open(openAccount, request.accountId());
+    }
+    if (!earlier.get().requestFingerprint().equals(request.requestFingerprint())) {
+      throw new IdempotencyKeyReusedException(idempotencyKey);
+    }
+    return earlier.get().accountId();
+  }
 
+  private static String fingerprint(OpenAccount openAccount) {
+    Money initialBalance = openAccount.initialBalance();
+    return "%s:%s:%s"
+        .formatted(
+            openAccount.accountCurrency(),
+            initialBalance.amount().toPlainString(),
+            initialBalance.currency());
+  }
+
+  private AccountId open(OpenAccount openAccount, AccountId accountId) {
     long expectedVersion = 0L;
     List<AccountEvent> createdAccountEvents =
         Account.handle(openAccount, accountId, eventIdGenerator, Instant.now(clock));
@@ -56,41 +130,246 @@ public class AccountApplicationService {
     return accountId;
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Spreads the credits of an account over {@code bucketCount} buckets, see {@link AccountBuckets},
+   * opening them with a zero balance. Enabling buckets again with the same count has no effect.
+   *
+   * <p>The account is checked through the command executor before the transaction that records and
+   * opens the buckets, so that no connection is held while the command waits on the executor.
+   *
+   * @throws AccountBucketsConflictException when the account already has another number of buckets
+   */
+  public AccountBuckets enableBuckets(AccountId accountId, int bucketCount) {
+    AccountBuckets buckets = new AccountBuckets(accountId, bucketCount);
+    SupportedCurrency currency =
+        accountCommandExecutor.execute(
+            accountId,
+            account -> {
+              if (account.getStatus() != AccountStatus.OPENED) {
+                throw new AccountInactiveException();
+              }
+              return new CommandOutcome<>(List.of(), account.getCurrency());
+            });
+    return transactionTemplate.execute(_ -> addBuckets(buckets, currency));
+  }
+
+  private AccountBuckets addBuckets(AccountBuckets buckets, SupportedCurrency currency) {
+    if (!accountBucketStore.add(buckets)) {
+      AccountBuckets existing = accountBucketStore.find(buckets.accountId()).orElseThrow();
+      if (!existing.equals(buckets)) {
+        throw new AccountBucketsConflictException(
+            buckets.accountId(), existing.count(), buckets.count());
+      }
+      return existing;
+    }
+    OpenAccount openBucket = new OpenAccount(currency, Money.zero(currency));
+    buckets.bucketIds().forEach(bucketId -> open(openBucket, bucketId));
+    return buckets;
+  }
+
+  /*
+   * Not transactional: the lookup is a single read, and holding a connection while it waits for a
+   * coalesced batch would defeat the coalescing.
+   */
   public AccountBalanceView getAccountBalance(AccountId accountId) {
-    return accountBalanceProjector.getAccountBalance(accountId);
+    AccountBalanceView balance = accountBalanceProjector.getAccountBalance(accountId);
+    return accountBucketStore
+        .find(accountId)
+        .map(
+            buckets ->
+                withBuckets(
+                    balance,
+                    buckets,
+                    accountBalanceProjector.getAccountBalances(buckets.bucketIds())))
+        .orElse(balance);
+  }
+
+  @Transactional(readOnly = true)
+  public AccountBalances getAccountBalances(List<AccountId> accountIds) {
+    Set<AccountId> distinctAccountIds = new LinkedHashSet<>(accountIds);
+    Map<AccountId, AccountBuckets> bucketsByAccount =
+        accountBucketStore.findAll(distinctAccountIds);
+    Set<AccountId> lookedUpAccountIds = new LinkedHashSet<>(distinctAccountIds);
+    bucketsByAccount.values().forEach(buckets -> lookedUpAccountIds.addAll(buckets.bucketIds()));
+    Map<AccountId, AccountBalanceView> balances =
+        accountBalanceProjector.getAccountBalances(lookedUpAccountIds);
+    List<AccountBalanceView> found = new ArrayList<>(balances.size());
+    List<AccountId> notFound = new ArrayList<>();
+    for (AccountId accountId : distinctAccountIds) {
+      AccountBalanceView balance = balances.get(accountId);
+      AccountBuckets buckets = bucketsByAccount.get(accountId);
+      if (balance == null) {
+        notFound.add(accountId);
+      } else if (buckets == null) {
+        found.add(balance);
+      } else {
+        found.add(withBuckets(balance, buckets, balances));
+      }
+    }
+    return new AccountBalances(found, notFound);
+  }
+
+  /*
+   * Funds credited to the buckets and not moved to the account yet belong to it. A bucket missing
+   * from the view has not been projected yet, and holds nothing projected either.
+   */
+  private static AccountBalanceView withBuckets(
+      AccountBalanceView balance,
+      AccountBuckets buckets,
+      Map<AccountId, AccountBalanceView> balances) {
+    Money total = balance.balance();
+    Money reservedFunds = balance.reservedFunds();
+    for (AccountId bucketId : buckets.bucketIds()) {
+      AccountBalanceView bucket = balances.get(bucketId);
+      if (bucket != null) {
+        total = total.add(bucket.balance());
+        reservedFunds = reservedFunds.add(bucket.reservedFunds());
+      }
+    }
+    return new AccountBalanceView(
+        balance.accountId(), total, reservedFunds, balance.status(), balance.version());
   }
 
-  @Transactional
   public CaptureReservationResponse captureReservation(CaptureReservation captureReservation) {
     AccountId accountId = captureReservation.accountId();
-    List<AccountEvent> history = accountEventStore.loadEvents(accountId);
-    if (history.isEmpty()) {
-      throw new AccountHistoryNotFound();
+    return accountCommandExecutor.execute(
+        accountId,
+        account -> {
+          List<AccountEvent> captureReservationEvents =
+              account.handle(captureReservation, eventIdGenerator, Instant.now(clock));
+
+          ReservationCaptured reservationCaptured =
+              captureReservationEvents.stream()
+                  .filter(ReservationCaptured.class::isInstance)
+                  .map(ReservationCaptured.class::cast)
+                  .findFirst()
+                  .orElse(null);
+
+          if (reservationCaptured == null) {
+            return new CommandOutcome<>(
+                List.of(),
+                new CaptureReservationResponse(
+                    accountId,
+                    captureReservation.reservationId(),
+                    ReservationCaptureStatus.NO_EFFECT,
+                    null));
+          }
+
+          return new CommandOutcome<>(
+              captureReservationEvents,
+              new CaptureReservationResponse(
+                  accountId,
+                  captureReservation.reservationId(),
+                  ReservationCaptureStatus.CAPTURED,
+                  reservationCaptured.money()));
+        });
+  }
+
+  /*
+   * The credit of an account with buckets goes to the bucket of its transaction id. The index
+   * records it under the account, where credits made before buckets were enabled, or by an
+   * instance not aware of them yet, have been applied. Buckets stay open whatever becomes of their
+   * account, so the account itself must be open for a new credit to go to one of them.
+   */
+  public AccountTransactionResponse creditAccount(CreditAccount creditAccount) {
+    AccountId accountId = creditAccount.accountId();
+    TransactionId transactionId = creditAccount.transactionId();
+    Optional<AccountBuckets> buckets = accountBucketStore.find(accountId);
+    if (buckets.isEmpty()) {
+      return applyTransaction(
+          accountId,
+          accountId,
+          transactionId,
+          account -> account.handle(creditAccount, eventIdGenerator, Instant.now(clock)));
     }
-    Account account = Account.rehydrate(history);
-    List<AccountEvent> captureReservationEvents =
-        account.handle(captureReservation, eventIdGenerator, Instant.now(clock));
-
-    ReservationCaptured reservationCaptured =
-        captureReservationEvents.stream()
-            .filter(ReservationCaptured.class::isInstance)
-            .map(ReservationCaptured.class::cast)
-            .findFirst()
-            .orElse(null);
-
-    if (reservationCaptured == null) {
-      return new CaptureReservationResponse(
-          accountId, captureReservation.reservationId(), ReservationCaptureStatus.NO_EFFECT, null);
+    Optional<AccountTransactionResponse> applied = findApplied(accountId, transactionId);
+    if (applied.isPresent()) {
+      return applied.get();
     }
-
-    long versionBeforeEvents = versionBeforeEvents(account, captureReservationEvents);
-    accountEventStore.appendEvents(accountId, versionBeforeEvents, captureReservationEvents);
-    accountBalanceProjector.project(captureReservationEvents);
-    return new CaptureReservationResponse(
+    Account account =
+        Objects.requireNonNull(
+            readOnlyTransactionTemplate.execute(_ -> accountRepository.load(accountId)));
+    if (account.getStatus() != AccountStatus.OPENED) {
+      throw new AccountInactiveException();
+    }
+    AccountId bucketId = buckets.get().bucketFor(transactionId);
+    CreditAccount bucketCredit = new CreditAccount(transactionId, bucketId, creditAccount.amount());
+    return applyNewTransaction(
         accountId,
-        captureReservation.reservationId(),
-        ReservationCaptureStatus.CAPTURED,
-        reservationCaptured.money());
+        bucketId,
+        transactionId,
+        bucket -> bucket.handle(bucketCredit, eventIdGenerator, Instant.now(clock)));
+  }
+
+  /*
+   * A debit of an account with buckets that the account alone cannot cover moves the funds of
+   * its buckets to it, then is handled again.
+   */
+  public AccountTransactionResponse debitAccount(DebitAccount debitAccount) {
+    AccountId accountId = debitAccount.accountId();
+    TransactionId transactionId = debitAccount.transactionId();
+    Function<Account, List<AccountEvent>> handler =
+        account -> account.handle(debitAccount, eventIdGenerator, Instant.now(clock));
+    try {
+      return applyTransaction(accountId, accountId, transactionId, handler);
+    } catch (InsufficientFundsException e) {
+      Optional<AccountBuckets> buckets = accountBucketStore.find(accountId);
+      if (buckets.isEmpty() || !accountBucketRebalancer.rebalance(buckets.get())) {
+        throw e;
+      }
+      return applyTransaction(accountId, accountId, transactionId, handler);
+    }
+  }
+
+  /*
+   * A replayed transaction is answered from the index without loading the account. The index is
+   * read again when the append is rejected as a duplicate, which happens when the replay raced the
+   * original command or slipped past the filter of the index. The transaction is applied to the
+   * stream streamId, the account itself or one of its buckets, and both recorded and reported on
+   * the account.
+   */
+  private AccountTransactionResponse applyTransaction(
+      AccountId accountId,
+      AccountId streamId,
+      TransactionId transactionId,
+      Function<Account, List<AccountEvent>> handler) {
+    Optional<AccountTransactionResponse> applied = findApplied(accountId, transactionId);
+    if (applied.isPresent()) {
+      return applied.get();
+    }
+    return applyNewTransaction(accountId, streamId, transactionId, handler);
+  }
+
+  private AccountTransactionResponse applyNewTransaction(
+      AccountId accountId,
+      AccountId streamId,
+      TransactionId transactionId,
+      Function<Account, List<AccountEvent>> handler) {
+    try {
+      return accountCommandExecutor.execute(
+          streamId,
+          account -> {
+            List<AccountEvent> events = handler.apply(account);
+            return new CommandOutcome<>(
+                events,
+                new AccountTransactionResponse(
+                    accountId,
+                    transactionId,
+                    AccountTransactionStatus.APPLIED,
+                    account.getVersion()));
+          });
+    } catch (DuplicateTransactionException e) {
+      return findApplied(accountId, transactionId).orElseThrow(() -> e);
+    }
+  }
+
+  private Optional<AccountTransactionResponse> findApplied(
+      AccountId accountId, TransactionId transactionId) {
+    return accountTransactionIndex
+        .findVersion(accountId, transactionId)
+        .map(
+            version ->
+                new AccountTransactionResponse(
+                    accountId, transactionId, AccountTransactionStatus.DUPLICATE, version));
   }
 }
@@ -1,6 +1,9 @@
 package org.girardsimon.wealthpay.account.application;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
 import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
@@ -9,5 +12,15 @@ public interface AccountBalanceProjector {
 
   AccountBalanceView getAccountBalance(AccountId accountId);
 
+  /** Returns the balances of the given accounts that exist, leaving out those that do not. */
+  Map<AccountId, AccountBalanceView> getAccountBalances(Collection<AccountId> accountIds);
+
   void project(List<AccountEvent> events);
+
+  /**
+   * Projects events of any number of accounts at once, each account's events following the version
+   * already projected for it. Accounts whose events do not follow on from their projected version
+   * are left untouched and returned, without failing the others.
+   */
+  Set<AccountId> projectAll(List<AccountEvent> events);
 }
@@ -0,0 +1,123 @@
+package org.girardsimon.wealthpay.account.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.command.DebitAccount;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventIdGenerator;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.springframework.core.retry.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves the funds credited to the buckets of an account to the account itself, so that its debits
+ * can draw on them.
+ *
+ * <p>Each bucket is emptied by a transaction of its own, debiting the bucket of its whole available
+ * balance and crediting the account with it under the same transaction id: the funds are never in
+ * both streams, nor in neither. A transaction losing a race on either stream is retried by the
+ * {@link AccountCommandRetrier}. Both streams are written without going through the {@link
+ * AccountCommandExecutor}, which is then told to forget the state it keeps of them.
+ */
+@Component
+public class AccountBucketRebalancer {
+
+  static final String TRANSFERS_METRIC = "account.bucket.transfers";
+
+  private final AccountRepository accountRepository;
+  private final AccountBalanceProjector accountBalanceProjector;
+  private final TransactionTemplate transactionTemplate;
+  private final AccountCommandExecutor accountCommandExecutor;
+  private final AccountCommandRetrier accountCommandRetrier;
+  private final Counter transfers;
+  private final Clock clock;
+  private final EventIdGenerator eventIdGenerator;
+
+  public AccountBucketRebalancer(
+      AccountRepository accountRepository,
+      AccountBalanceProjector accountBalanceProjector,
+      PlatformTransactionManager transactionManager,
+      AccountCommandExecutor accountCommandExecutor,
+      AccountCommandRetrier accountCommandRetrier,
+      MeterRegistry meterRegistry,
+      Clock clock,
+      EventIdGenerator eventIdGenerator) {
+    this.accountRepository = accountRepository;
+    this.accountBalanceProjector = accountBalanceProjector;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.accountCommandExecutor = accountCommandExecutor;
+    this.accountCommandRetrier = accountCommandRetrier;
+    this.transfers =
+        Counter.builder(TRANSFERS_METRIC)
+            .description("Bucket balances moved to their account")
+            .register(meterRegistry);
+    this.clock = clock;
+    this.eventIdGenerator = eventIdGenerator;
+  }
+
+  /** Empties every bucket of the account, and returns whether any of them held funds. */
+  public boolean rebalance(AccountBuckets buckets) {
+    boolean moved = false;
+    for (AccountId bucketId : buckets.bucketIds()) {
+      moved |= transferWithRetries(buckets.accountId(), bucketId);
+    }
+    return moved;
+  }
+
+  private boolean transferWithRetries(AccountId accountId, AccountId bucketId) {
+    boolean moved =
+        accountCommandRetrier.execute(
+            new Retryable<Boolean>() {
+              @Override
+              public Boolean execute() {
+                return Boolean.TRUE.equals(
+                    transactionTemplate.execute(_ -> transfer(accountId, bucketId)));
+              }
+
+              @Override
+              public String getName() {
+                return "bucket " + bucketId.id() + " of account " + accountId.id();
+              }
+            });
+    if (moved) {
+      accountCommandExecutor.forget(bucketId);
+      accountCommandExecutor.forget(accountId);
+    }
+    return moved;
+  }
+
+  private boolean transfer(AccountId accountId, AccountId bucketId) {
+    Account bucket = accountRepository.load(bucketId);
+    Money available = bucket.getAvailableBalance();
+    if (available.isNegativeOrZero()) {
+      return false;
+    }
+    TransactionId transactionId = TransactionId.newId();
+    Instant occurredAt = Instant.now(clock);
+    List<AccountEvent> bucketEvents =
+        bucket.handle(
+            new DebitAccount(transactionId, bucketId, available), eventIdGenerator, occurredAt);
+    Account account = accountRepository.load(accountId);
+    List<AccountEvent> accountEvents =
+        account.handle(
+            new CreditAccount(transactionId, accountId, available), eventIdGenerator, occurredAt);
+    accountRepository.append(bucket, bucketEvents);
+    accountRepository.append(account, accountEvents);
+    List<AccountEvent> events = new ArrayList<>(bucketEvents);
+    events.addAll(accountEvents);
+    accountBalanceProjector.project(events);
+    transfers.increment();
+    return true;
+  }
+}
@@ -0,0 +1,24 @@
+package org.girardsimon.wealthpay.account.application;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+
+/** Accounts whose credits are spread over buckets, see {@link AccountBuckets}. */
+public interface AccountBucketStore {
+
+  Optional<AccountBuckets> find(AccountId accountId);
+
+  /** Returns the buckets of the given accounts that have some, leaving out the others. */
+  Map<AccountId, AccountBuckets> findAll(Collection<AccountId> accountIds);
+
+  /**
+   * Records the buckets of an account in the current transaction, unless it has buckets already,
+   * along with their streams, whose credits the transaction index then records under the account.
+   *
+   * @return whether the buckets were recorded
+   */
+  boolean add(AccountBuckets buckets);
+}
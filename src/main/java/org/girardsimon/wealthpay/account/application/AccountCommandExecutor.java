@@ -0,0 +1,20 @@
+package org.girardsimon.wealthpay.account.application;
+
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+
+/**
+ * Runs a command against an existing account: hands it the loaded aggregate, then appends and
+ * projects the events it emitted. Implementations own the transaction of the append.
+ */
+public interface AccountCommandExecutor {
+
+  <T> T execute(AccountId accountId, Function<Account, CommandOutcome<T>> command);
+
+  /**
+   * Drops whatever state of the account the executor keeps between commands, once the account has
+   * been appended to without going through it. Does nothing by default.
+   */
+  default void forget(AccountId accountId) {}
+}
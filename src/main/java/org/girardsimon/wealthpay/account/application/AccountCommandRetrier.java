@@ -0,0 +1,91 @@
+package org.girardsimon.wealthpay.account.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.retry.RetryException;
+import org.springframework.core.retry.RetryListener;
+import org.springframework.core.retry.RetryPolicy;
+import org.springframework.core.retry.RetryTemplate;
+import org.springframework.core.retry.Retryable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retries the writes of account streams that lose the race on the expected version, up to {@code
+ * maxRetries} times after a jittered exponential backoff. Any other failure, and the last conflict
+ * once the retries are exhausted, is rethrown as is.
+ */
+@Component
+public class AccountCommandRetrier {
+
+  static final String RETRIES_METRIC = "account.command.retries";
+  static final String CONFLICTS_METRIC = "account.command.conflicts";
+
+  private static final Logger log = LoggerFactory.getLogger(AccountCommandRetrier.class);
+
+  private final RetryTemplate retryTemplate;
+
+  public AccountCommandRetrier(
+      MeterRegistry meterRegistry,
+      @Value("${wealthpay.account.command.retry.max-retries}") long maxRetries,
+      @Value("${wealthpay.account.command.retry.delay}") Duration delay,
+      @Value("${wealthpay.account.command.retry.max-delay}") Duration maxDelay,
+      @Value("${wealthpay.account.command.retry.jitter}") Duration jitter) {
+    this.retryTemplate =
+        new RetryTemplate(
+            RetryPolicy.builder()
+                .includes(OptimisticLockingFailureException.class)
+                .maxRetries(maxRetries)
+                .delay(delay)
+                .multiplier(2)
+                .maxDelay(maxDelay)
+                .jitter(jitter)
+                .build());
+    Counter retries =
+        Counter.builder(RETRIES_METRIC)
+            .description("Commands handled again after losing a concurrency race")
+            .register(meterRegistry);
+    Counter conflicts =
+        Counter.builder(CONFLICTS_METRIC)
+            .description("Commands failed after losing every concurrency race they were retried")
+            .register(meterRegistry);
+    this.retryTemplate.setRetryListener(
+        new RetryListener() {
+          @Override
+          public void beforeRetry(RetryPolicy retryPolicy, Retryable<?> retryable) {
+            retries.increment();
+            log.debug("Retrying command on {} after a concurrent update", retryable.getName());
+          }
+
+          @Override
+          public void onRetryPolicyExhaustion(
+              RetryPolicy retryPolicy, Retryable<?> retryable, RetryException exception) {
+            if (exception.getCause() instanceof OptimisticLockingFailureException) {
+              conflicts.increment();
+              log.warn(
+                  "Command on {} still conflicting after {} retries",
+                  retryable.getName(),
+                  exception.getRetryCount());
+            }
+          }
+        });
+  }
+
+  public <T> T execute(Retryable<T> attempts) {
+    try {
+      return retryTemplate.execute(attempts);
+    } catch (RetryException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.girardsimon.wealthpay.account.application;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
 
@@ -8,5 +9,29 @@ public interface AccountEventStore {
 
   List<AccountEvent> loadEvents(AccountId accountId);
 
+  List<AccountEvent> loadEventsAfter(AccountId accountId, long afterVersion);
+
+  /**
+   * Loads the events whose version lies between {@code fromVersion} and {@code toVersion}, both
+   * inclusive, ordered by version.
+   */
+  List<AccountEvent> loadEventsRange(AccountId accountId, long fromVersion, long toVersion);
+
+  /**
+   * Hands the events whose version is greater than {@code afterVersion} to {@code consumer} one at
+   * a time, ordered by version, while they are read from the store.
+   */
+  void replayEventsAfter(
+      AccountId accountId, long afterVersion, Consumer<? super AccountEvent> consumer);
+
+  /**
+   * Appends {@code events} to the stream of the account, whose current version must be {@code
+   * expectedVersion}, and records their credits and debits in the {@link AccountTransactionIndex}.
+   *
+   * @throws org.springframework.dao.OptimisticLockingFailureException when the stream moved past
+   *     {@code expectedVersion}
+   * @throws org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException when a
+   *     credit or debit reuses a transaction id already applied to the account
+   */
   void appendEvents(AccountId accountId, long expectedVersion, List<AccountEvent> events);
 }
@@ -0,0 +1,212 @@
+package org.girardsimon.wealthpay.account.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Loads and saves {@link Account} aggregates on top of the event store.
+ *
+ * <p>Loading starts from the latest snapshot when one exists and only replays the events appended
+ * after it. Saving appends the events produced by a command and takes a new snapshot every {@code
+ * snapshotInterval} versions, within the same transaction as the append.
+ *
+ * <p>Recently used accounts are also kept in a bounded in-memory cache. The cache holds immutable
+ * {@link AccountSnapshot}s rather than aggregates: every load builds a fresh {@link Account} from
+ * the cached state plus the events appended since its version, so a handler mutating its aggregate
+ * (see ADR-002) never affects other callers. Cached state is only updated once the appending
+ * transaction has committed, and dropped when the append loses a concurrency race.
+ *
+ * <p>Concurrent loads of the same account are single-flight: the first caller reads and replays the
+ * stream while the others wait for the resulting snapshot, from which each of them builds its own
+ * {@link Account}.
+ */
+@Component
+public class AccountRepository {
+
+  static final String CACHE_NAME = "account.aggregate";
+
+  private final AccountEventStore accountEventStore;
+  private final AccountSnapshotStore accountSnapshotStore;
+  private final long snapshotInterval;
+  private final Cache<AccountId, AccountSnapshot> cache;
+  private final ConcurrentMap<AccountId, CompletableFuture<AccountSnapshot>> inFlightLoads =
+      new ConcurrentHashMap<>();
+
+  public AccountRepository(
+      AccountEventStore accountEventStore,
+      AccountSnapshotStore accountSnapshotStore,
+      MeterRegistry meterRegistry,
+      @Value("${wealthpay.account.snapshot-interval}") long snapshotInterval,
+      @Value("${wealthpay.account.cache.maximum-size}") long cacheMaximumSize) {
+    if (snapshotInterval < 1L) {
+      throw new IllegalArgumentException("snapshotInterval must be >= 1");
+    }
+    this.accountEventStore = accountEventStore;
+    this.accountSnapshotStore = accountSnapshotStore;
+    this.snapshotInterval = snapshotInterval;
+    this.cache = Caffeine.newBuilder().maximumSize(cacheMaximumSize).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Handlers apply the events they emit before returning them (see ADR-002), so the aggregate
+   * version already includes the new events.
+   */
+  private static long versionBeforeEvents(Account account, List<AccountEvent> events) {
+    return account.getVersion() - events.size();
+  }
+
+  public Account load(AccountId accountId) {
+    return loadWithState(accountId).account();
+  }
+
+  /**
+   * Loads an account along with the state it was built from, the same immutable snapshot the cache
+   * and concurrent loads are given, so that a caller needing that state does not copy it again.
+   */
+  LoadedAccount loadWithState(AccountId accountId) {
+    CompletableFuture<AccountSnapshot> load = new CompletableFuture<>();
+    CompletableFuture<AccountSnapshot> inFlightLoad = inFlightLoads.putIfAbsent(accountId, load);
+    if (inFlightLoad != null) {
+      AccountSnapshot state = await(inFlightLoad);
+      return new LoadedAccount(Account.rehydrator(state).build(), state);
+    }
+    try {
+      LoadedAccount loaded = loadAndRemember(accountId);
+      load.complete(loaded.state());
+      return loaded;
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightLoads.remove(accountId, load);
+    }
+  }
+
+  private static AccountSnapshot await(CompletableFuture<AccountSnapshot> inFlightLoad) {
+    try {
+      return inFlightLoad.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /* A cached state the store had nothing to add to is the state of the account as is. */
+  private LoadedAccount loadAndRemember(AccountId accountId) {
+    AccountSnapshot cached = cache.getIfPresent(accountId);
+    Account account = cached != null ? refresh(cached) : loadFromStore(accountId);
+    if (cached != null && account.getVersion() == cached.version()) {
+      return new LoadedAccount(account, cached);
+    }
+    AccountSnapshot state = account.toSnapshot();
+    remember(state);
+    return new LoadedAccount(account, state);
+  }
+
+  /**
+   * Rebuilds an account from {@code base}, a state it went through, by replaying only the events
+   * appended after it; for instance to handle a command again once its append lost a concurrency
+   * race.
+   */
+  LoadedAccount catchUp(AccountSnapshot base) {
+    Account account = refresh(base);
+    if (account.getVersion() == base.version()) {
+      return new LoadedAccount(account, base);
+    }
+    AccountSnapshot state = account.toSnapshot();
+    remember(state);
+    return new LoadedAccount(account, state);
+  }
+
+  public void append(Account account, List<AccountEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    AccountId accountId = account.getId();
+    long versionBeforeEvents = versionBeforeEvents(account, events);
+    try {
+      accountEventStore.appendEvents(accountId, versionBeforeEvents, events);
+    } catch (OptimisticLockingFailureException e) {
+      cache.invalidate(accountId);
+      throw e;
+    }
+    AccountSnapshot state = account.toSnapshot();
+    if (isSnapshotDue(versionBeforeEvents, account.getVersion())) {
+      accountSnapshotStore.saveSnapshot(state);
+    }
+    rememberAfterCommit(state);
+  }
+
+  private Account refresh(AccountSnapshot cached) {
+    return replay(Account.rehydrator(cached), cached.accountId(), cached.version());
+  }
+
+  private Account loadFromStore(AccountId accountId) {
+    return accountSnapshotStore
+        .loadLatestSnapshot(accountId)
+        .map(snapshot -> replay(Account.rehydrator(snapshot), accountId, snapshot.version()))
+        .orElseGet(() -> replay(Account.rehydrator(), accountId, 0L));
+  }
+
+  /*
+   * Events are applied while the store reads them, so loading an account needs constant memory
+   * whatever the length of its history.
+   */
+  private Account replay(Account.Rehydrator rehydrator, AccountId accountId, long afterVersion) {
+    accountEventStore.replayEventsAfter(accountId, afterVersion, rehydrator);
+    return rehydrator.build();
+  }
+
+  private void rememberAfterCommit(AccountSnapshot snapshot) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      remember(snapshot);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              remember(snapshot);
+            } else {
+              cache.invalidate(snapshot.accountId());
+            }
+          }
+        });
+  }
+
+  private void remember(AccountSnapshot snapshot) {
+    cache
+        .asMap()
+        .merge(
+            snapshot.accountId(),
+            snapshot,
+            (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+  }
+
+  private boolean isSnapshotDue(long versionBefore, long versionAfter) {
+    return versionAfter / snapshotInterval > versionBefore / snapshotInterval;
+  }
+
+  /** A freshly built account and the state it was built in, before any command mutates it. */
+  record LoadedAccount(Account account, AccountSnapshot state) {}
+}
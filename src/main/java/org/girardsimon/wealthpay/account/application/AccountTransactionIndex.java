@@ -0,0 +1,18 @@
+package org.girardsimon.wealthpay.account.application;
+
+import java.util.Optional;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+
+/**
+ * Credits and debits applied to each account, recorded by {@link AccountEventStore#appendEvents}
+ * along with their events. Appending a credit or debit whose transaction id the account already
+ * recorded fails with {@link
+ * org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException}. Credits
+ * appended to a bucket, see {@link AccountBucketStore}, are recorded under the account owning it.
+ */
+public interface AccountTransactionIndex {
+
+  /** Returns the version of the event which applied {@code transactionId} to the account. */
+  Optional<Long> findVersion(AccountId accountId, TransactionId transactionId);
+}
@@ -0,0 +1,20 @@
+package org.girardsimon.wealthpay.account.application;
+
+/** How commands targeting an existing account are executed. */
+public enum CommandExecutionMode {
+  /**
+   * Each command loads the account, handles the command and appends its events in its own
+   * transaction; concurrent commands of one account race on the expected version.
+   */
+  TRANSACTIONAL,
+  /**
+   * Commands are queued in a mailbox per account and executed one at a time by its virtual thread,
+   * on an aggregate kept in memory between commands.
+   */
+  MAILBOX,
+  /**
+   * Each command is handled by its caller, and the events of concurrent commands are appended
+   * together by a single transaction.
+   */
+  GROUP_COMMIT
+}
@@ -0,0 +1,12 @@
+package org.girardsimon.wealthpay.account.application;
+
+import java.util.List;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+
+/** Events a command emitted, to be appended, and the result handed back to its caller. */
+public record CommandOutcome<T>(List<AccountEvent> events, T result) {
+
+  public CommandOutcome {
+    events = List.copyOf(events);
+  }
+}
@@ -0,0 +1,206 @@
+package org.girardsimon.wealthpay.account.application;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.shared.concurrent.WindowedBatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Appends the events of concurrent commands together, see {@link CommandExecutionMode}.
+ *
+ * <p>Each command is handled by its caller, outside of any transaction, on the account it loaded in
+ * a read-only transaction of its own, within which the event store streams the replay. Its events
+ * then join a group, gathered by a {@link WindowedBatcher} until {@code window} elapses or {@code
+ * maxGroupSize} commands joined. The group is written by a single transaction: each command is
+ * appended under a savepoint, so a command losing its version check is rolled back and failed
+ * alone, and the events of all the others are projected in one batch. Should the projection reject
+ * an account, the transaction is rolled back and the group written again without the commands of
+ * that account.
+ *
+ * <p>Commands of the same account in a group were all handled on the state it was loaded in, so
+ * only the first of them could append. Each of the others is handled again, while the group is
+ * written, on the state left by the preceding append of its account, as if it had been executed
+ * after it; the result it returns is the one of that second handling.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "wealthpay.account.command.execution-mode",
+    havingValue = "GROUP_COMMIT")
+public class GroupCommitAccountCommandExecutor implements AccountCommandExecutor {
+
+  static final String GROUP_SIZE_METRIC = "account.command.group.size";
+
+  private final AccountRepository accountRepository;
+  private final AccountBalanceProjector accountBalanceProjector;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+  private final DistributionSummary groupSizes;
+  private final WindowedBatcher<List<PendingAppend<?>>> groups;
+
+  public GroupCommitAccountCommandExecutor(
+      AccountRepository accountRepository,
+      AccountBalanceProjector accountBalanceProjector,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${wealthpay.account.command.group-commit.window}") Duration window,
+      @Value("${wealthpay.account.command.group-commit.max-group-size}") int maxGroupSize) {
+    this.accountRepository = accountRepository;
+    this.accountBalanceProjector = accountBalanceProjector;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+    this.groupSizes =
+        DistributionSummary.builder(GROUP_SIZE_METRIC)
+            .description("Number of commands appended by each group commit")
+            .register(meterRegistry);
+    this.groups =
+        new WindowedBatcher<>(window, maxGroupSize, ArrayList::new, List::size, this::commit);
+  }
+
+  @Override
+  public <T> T execute(AccountId accountId, Function<Account, CommandOutcome<T>> command) {
+    Account account =
+        Objects.requireNonNull(
+            readOnlyTransactionTemplate.execute(_ -> accountRepository.load(accountId)));
+    CommandOutcome<T> outcome = command.apply(account);
+    if (outcome.events().isEmpty()) {
+      return outcome.result();
+    }
+    PendingAppend<T> pendingAppend = new PendingAppend<>(account, command, outcome);
+    groups.add(group -> group.add(pendingAppend));
+    try {
+      return pendingAppend.committed.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void commit(List<PendingAppend<?>> group) {
+    groupSizes.record(group.size());
+    List<PendingAppend<?>> pendingAppends = group;
+    while (!pendingAppends.isEmpty()) {
+      List<PendingAppend<?>> attempt = pendingAppends;
+      try {
+        pendingAppends =
+            Objects.requireNonNull(transactionTemplate.execute(status -> write(attempt, status)));
+      } catch (RuntimeException e) {
+        attempt.forEach(pendingAppend -> pendingAppend.committed.completeExceptionally(e));
+        return;
+      }
+    }
+    group.forEach(PendingAppend::complete);
+  }
+
+  /*
+   * Fails the appends losing their version check or rejected by the projection right away, and
+   * returns those to write again when the transaction had to be rolled back, or none once it can
+   * commit.
+   */
+  private List<PendingAppend<?>> write(
+      List<PendingAppend<?>> pendingAppends, TransactionStatus status) {
+    List<PendingAppend<?>> appended = new ArrayList<>(pendingAppends.size());
+    Map<AccountId, Account> appendedAccounts = new HashMap<>();
+    for (PendingAppend<?> pendingAppend : pendingAppends) {
+      Object savepoint = status.createSavepoint();
+      try {
+        Account account =
+            pendingAppend.append(
+                accountRepository, appendedAccounts.get(pendingAppend.accountId()));
+        status.releaseSavepoint(savepoint);
+        appendedAccounts.put(account.getId(), account);
+        appended.add(pendingAppend);
+      } catch (RuntimeException e) {
+        status.rollbackToSavepoint(savepoint);
+        pendingAppend.committed.completeExceptionally(e);
+      }
+    }
+    Set<AccountId> rejected =
+        accountBalanceProjector.projectAll(
+            appended.stream().flatMap(pendingAppend -> pendingAppend.events().stream()).toList());
+    if (rejected.isEmpty()) {
+      return List.of();
+    }
+    status.setRollbackOnly();
+    List<PendingAppend<?>> retained = new ArrayList<>(appended.size());
+    for (PendingAppend<?> pendingAppend : appended) {
+      AccountId accountId = pendingAppend.accountId();
+      if (rejected.contains(accountId)) {
+        pendingAppend.committed.completeExceptionally(
+            new OptimisticLockingFailureException(
+                "Concurrent update detected for account %s".formatted(accountId.id())));
+      } else {
+        retained.add(pendingAppend);
+      }
+    }
+    return retained;
+  }
+
+  private static final class PendingAppend<T> {
+
+    private final Account account;
+    private final Function<Account, CommandOutcome<T>> command;
+    private final CommandOutcome<T> handled;
+    private final CompletableFuture<T> committed = new CompletableFuture<>();
+
+    /* Outcome appended by the latest attempt to write the group. */
+    private CommandOutcome<T> written;
+
+    private PendingAppend(
+        Account account, Function<Account, CommandOutcome<T>> command, CommandOutcome<T> handled) {
+      this.account = account;
+      this.command = command;
+      this.handled = handled;
+      this.written = handled;
+    }
+
+    private AccountId accountId() {
+      return account.getId();
+    }
+
+    private List<AccountEvent> events() {
+      return written.events();
+    }
+
+    /*
+     * Appends the events handled by the caller, or those of the command handled again on a copy of
+     * preceding, the account as the previous append of the group left it. Returns the account as
+     * this append leaves it.
+     */
+    private Account append(AccountRepository accountRepository, Account preceding) {
+      Account target = account;
+      written = handled;
+      if (preceding != null) {
+        target = Account.rehydrator(preceding.toSnapshot()).build();
+        written = command.apply(target);
+      }
+      accountRepository.append(target, written.events());
+      return target;
+    }
+
+    private void complete() {
+      committed.complete(written.result());
+    }
+  }
+}
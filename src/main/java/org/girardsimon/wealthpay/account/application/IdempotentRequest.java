@@ -0,0 +1,11 @@
+package org.girardsimon.wealthpay.account.application;
+
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+
+/**
+ * Request opening {@code accountId} under a client supplied {@code idempotencyKey}. {@code
+ * requestFingerprint} identifies the content of the request, to tell apart a retry from another
+ * request reusing the key.
+ */
+public record IdempotentRequest(
+    String idempotencyKey, String requestFingerprint, AccountId accountId) {}
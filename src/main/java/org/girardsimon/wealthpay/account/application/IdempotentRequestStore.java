@@ -0,0 +1,13 @@
+package org.girardsimon.wealthpay.account.application;
+
+import java.util.Optional;
+
+public interface IdempotentRequestStore {
+
+  /**
+   * Claims the idempotency key of {@code request} in the current transaction, and returns empty.
+   * When an earlier request holds the key, waits for its transaction to complete if it is still in
+   * flight, and returns that request instead; the key is then left untouched.
+   */
+  Optional<IdempotentRequest> claim(IdempotentRequest request);
+}
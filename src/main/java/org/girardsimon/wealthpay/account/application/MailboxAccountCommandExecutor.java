@@ -0,0 +1,168 @@
+package org.girardsimon.wealthpay.account.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes the commands of each account one at a time, see {@link CommandExecutionMode}.
+ *
+ * <p>Commands are queued in a mailbox per account, drained by a virtual thread of its own. The
+ * mailbox keeps the aggregate between commands, so a command neither reads the event store nor
+ * races other commands of this instance: its events are appended at the version the mailbox already
+ * knows, each command in its own transaction. A failed command drops the aggregate, which the next
+ * command reloads, and so does {@link #forget}. A mailbox left empty for {@code idleTimeout} is
+ * removed along with its thread and aggregate.
+ *
+ * <p>Callers wait for their command outside of any transaction, so that waiting does not hold a
+ * connection the mailbox needs to append. The mailbox loads the aggregate in a read-only
+ * transaction of its own, within which the event store streams the replay.
+ */
+@Component
+@ConditionalOnProperty(name = "wealthpay.account.command.execution-mode", havingValue = "MAILBOX")
+public class MailboxAccountCommandExecutor implements AccountCommandExecutor {
+
+  static final String MAILBOXES_METRIC = "account.command.mailboxes";
+
+  private static final Logger log = LoggerFactory.getLogger(MailboxAccountCommandExecutor.class);
+
+  private final AccountRepository accountRepository;
+  private final AccountBalanceProjector accountBalanceProjector;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+  private final long idleTimeoutNanos;
+  private final ConcurrentMap<AccountId, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+  public MailboxAccountCommandExecutor(
+      AccountRepository accountRepository,
+      AccountBalanceProjector accountBalanceProjector,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${wealthpay.account.command.mailbox.idle-timeout}") Duration idleTimeout) {
+    if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+      throw new IllegalArgumentException("idleTimeout must be positive");
+    }
+    this.accountRepository = accountRepository;
+    this.accountBalanceProjector = accountBalanceProjector;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    Gauge.builder(MAILBOXES_METRIC, mailboxes, ConcurrentMap::size)
+        .description("Accounts with a command mailbox")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public <T> T execute(AccountId accountId, Function<Account, CommandOutcome<T>> command) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    mailboxes.compute(
+        accountId,
+        (_, mailbox) -> {
+          Mailbox target = mailbox != null ? mailbox : open(accountId);
+          target.commands.add(() -> run(target, command, result));
+          return target;
+        });
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /* Queued like a command, so that only the thread of the mailbox touches its aggregate. */
+  @Override
+  public void forget(AccountId accountId) {
+    mailboxes.computeIfPresent(
+        accountId,
+        (_, mailbox) -> {
+          mailbox.commands.add(() -> mailbox.account = null);
+          return mailbox;
+        });
+  }
+
+  private Mailbox open(AccountId accountId) {
+    Mailbox mailbox = new Mailbox(accountId);
+    Thread.ofVirtual().name("account-mailbox-" + accountId.id()).start(() -> drain(mailbox));
+    return mailbox;
+  }
+
+  private void drain(Mailbox mailbox) {
+    while (true) {
+      Runnable command;
+      try {
+        command = mailbox.commands.poll(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Mailbox of account {} interrupted", mailbox.accountId.id());
+        return;
+      }
+      if (command != null) {
+        command.run();
+      } else if (retire(mailbox)) {
+        return;
+      }
+    }
+  }
+
+  /* Runs under the map's lock on the account, so no command can be queued while retiring. */
+  private boolean retire(Mailbox mailbox) {
+    return mailboxes.computeIfPresent(
+            mailbox.accountId,
+            (_, current) -> current == mailbox && mailbox.commands.isEmpty() ? null : current)
+        != mailbox;
+  }
+
+  private <T> void run(
+      Mailbox mailbox, Function<Account, CommandOutcome<T>> command, CompletableFuture<T> result) {
+    try {
+      if (mailbox.account == null) {
+        mailbox.account =
+            readOnlyTransactionTemplate.execute(_ -> accountRepository.load(mailbox.accountId));
+      }
+      Account account = mailbox.account;
+      CommandOutcome<T> outcome = command.apply(account);
+      if (!outcome.events().isEmpty()) {
+        transactionTemplate.executeWithoutResult(
+            _ -> {
+              accountRepository.append(account, outcome.events());
+              accountBalanceProjector.project(outcome.events());
+            });
+      }
+      result.complete(outcome.result());
+    } catch (RuntimeException | Error e) {
+      mailbox.account = null;
+      result.completeExceptionally(e);
+    }
+  }
+
+  private static final class Mailbox {
+    private final AccountId accountId;
+    private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<>();
+    private Account account;
+
+    private Mailbox(AccountId accountId) {
+      this.accountId = accountId;
+    }
+  }
+}
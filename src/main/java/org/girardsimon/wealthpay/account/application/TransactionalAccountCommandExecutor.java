@@ -0,0 +1,87 @@
+package org.girardsimon.wealthpay.account.application;
+
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.retry.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes each command in a transaction of its own, see {@link CommandExecutionMode}.
+ *
+ * <p>A command whose append loses the race on the expected version is retried by the {@link
+ * AccountCommandRetrier}, in a new transaction. The retry does not load the account again: it
+ * rebases the state the command was handled on by replaying only the events appended since, then
+ * handles the same command on it.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "wealthpay.account.command.execution-mode",
+    havingValue = "TRANSACTIONAL",
+    matchIfMissing = true)
+public class TransactionalAccountCommandExecutor implements AccountCommandExecutor {
+
+  private final AccountRepository accountRepository;
+  private final AccountBalanceProjector accountBalanceProjector;
+  private final TransactionTemplate transactionTemplate;
+  private final AccountCommandRetrier accountCommandRetrier;
+
+  public TransactionalAccountCommandExecutor(
+      AccountRepository accountRepository,
+      AccountBalanceProjector accountBalanceProjector,
+      PlatformTransactionManager transactionManager,
+      AccountCommandRetrier accountCommandRetrier) {
+    this.accountRepository = accountRepository;
+    this.accountBalanceProjector = accountBalanceProjector;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.accountCommandRetrier = accountCommandRetrier;
+  }
+
+  @Override
+  public <T> T execute(AccountId accountId, Function<Account, CommandOutcome<T>> command) {
+    return accountCommandRetrier.execute(new CommandAttempts<>(accountId, command));
+  }
+
+  private final class CommandAttempts<T> implements Retryable<T> {
+
+    private final AccountId accountId;
+    private final Function<Account, CommandOutcome<T>> command;
+
+    /* State the previous attempt handled the command on, before the command mutated it. */
+    private AccountSnapshot base;
+
+    private CommandAttempts(AccountId accountId, Function<Account, CommandOutcome<T>> command) {
+      this.accountId = accountId;
+      this.command = command;
+    }
+
+    @Override
+    public T execute() {
+      return transactionTemplate.execute(_ -> attempt());
+    }
+
+    @Override
+    public String getName() {
+      return "account " + accountId.id();
+    }
+
+    private T attempt() {
+      AccountRepository.LoadedAccount loaded =
+          base == null
+              ? accountRepository.loadWithState(accountId)
+              : accountRepository.catchUp(base);
+      base = loaded.state();
+      Account account = loaded.account();
+      CommandOutcome<T> outcome = command.apply(account);
+      if (!outcome.events().isEmpty()) {
+        accountRepository.append(account, outcome.events());
+        accountBalanceProjector.project(outcome.events());
+      }
+      return outcome.result();
+    }
+  }
+}
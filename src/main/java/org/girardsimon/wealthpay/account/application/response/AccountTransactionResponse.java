@@ -0,0 +1,16 @@
+package org.girardsimon.wealthpay.account.application.response;
+
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+
+/**
+ * {@code version} is the version of the event which applied the transaction, in the stream it was
+ * appended to: the stream of the account itself, or for a credit of an account with buckets, the
+ * stream of the bucket it went to. Bucket versions are not comparable with the version of the
+ * account, nor with each other.
+ */
+public record AccountTransactionResponse(
+    AccountId accountId,
+    TransactionId transactionId,
+    AccountTransactionStatus accountTransactionStatus,
+    long version) {}
@@ -0,0 +1,6 @@
+package org.girardsimon.wealthpay.account.application.response;
+
+public enum AccountTransactionStatus {
+  APPLIED,
+  DUPLICATE // transaction id already applied to the account, nothing was appended
+}
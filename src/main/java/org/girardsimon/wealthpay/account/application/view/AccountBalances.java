@@ -0,0 +1,6 @@
+package org.girardsimon.wealthpay.account.application.view;
+
+import java.util.List;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+
+public record AccountBalances(List<AccountBalanceView> found, List<AccountId> notFound) {}
@@ -0,0 +1,15 @@
+package org.girardsimon.wealthpay.account.domain.exception;
+
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+
+public class AccountBucketsConflictException extends RuntimeException {
+  public AccountBucketsConflictException(AccountId accountId, int existing, int requested) {
+    super(
+        "Account "
+            + accountId.id()
+            + " already has "
+            + existing
+            + " buckets, requested "
+            + requested);
+  }
+}
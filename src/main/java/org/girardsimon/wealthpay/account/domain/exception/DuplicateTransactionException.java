@@ -0,0 +1,10 @@
+package org.girardsimon.wealthpay.account.domain.exception;
+
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+
+public class DuplicateTransactionException extends RuntimeException {
+  public DuplicateTransactionException(AccountId accountId, TransactionId transactionId) {
+    super("Transaction " + transactionId.id() + " already applied to account " + accountId.id());
+  }
+}
@@ -0,0 +1,7 @@
+package org.girardsimon.wealthpay.account.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+  public IdempotencyKeyReusedException(String idempotencyKey) {
+    super("Idempotency key already used by a different request: " + idempotencyKey);
+  }
+}
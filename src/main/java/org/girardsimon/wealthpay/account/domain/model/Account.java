@@ -1,9 +1,9 @@
 package org.girardsimon.wealthpay.account.domain.model;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.girardsimon.wealthpay.account.domain.command.CancelReservation;
 import org.girardsimon.wealthpay.account.domain.command.CaptureReservation;
 import org.girardsimon.wealthpay.account.domain.command.CloseAccount;
@@ -34,14 +34,16 @@ import org.girardsimon.wealthpay.account.domain.exception.ReservationConflictExc
 public class Account {
   private final AccountId id;
   private final SupportedCurrency currency;
-  private final Map<ReservationId, Money> reservations = new HashMap<>();
-  private Money balance;
+  private final ReservationTable reservations;
+  // Minor units of the account currency, so replaying events does not allocate Money instances.
+  private long balance;
   private AccountStatus status;
   private long version;
 
   private Account(AccountId id, SupportedCurrency currency) {
     this.id = id;
     this.currency = currency;
+    this.reservations = new ReservationTable(currency);
   }
 
   public static List<AccountEvent> handle(
@@ -74,14 +76,33 @@ public class Account {
     if (history == null || history.isEmpty()) {
       throw new AccountHistoryNotFound();
     }
-    AccountEvent firstEvent = history.getFirst();
-    if (!(firstEvent instanceof AccountOpened accountOpened)) {
-      throw new InvalidAccountEventStreamException(
-          "Account history must start with AccountOpened event");
-    }
-    Account account = new Account(accountOpened.accountId(), accountOpened.currency());
-    history.forEach(account::apply);
-    return account;
+    Rehydrator rehydrator = rehydrator();
+    history.forEach(rehydrator);
+    return rehydrator.build();
+  }
+
+  public static Account rehydrate(AccountSnapshot snapshot, List<AccountEvent> tail) {
+    Rehydrator rehydrator = rehydrator(snapshot);
+    tail.forEach(rehydrator);
+    return rehydrator.build();
+  }
+
+  /** Starts rebuilding an account from its full history, which must open with AccountOpened. */
+  public static Rehydrator rehydrator() {
+    return new Rehydrator(null);
+  }
+
+  /** Starts rebuilding an account from a snapshot, replaying the events that follow it. */
+  public static Rehydrator rehydrator(AccountSnapshot snapshot) {
+    Account account = new Account(snapshot.accountId(), snapshot.currency());
+    account.balance = snapshot.balance().minorUnits();
+    account.status = snapshot.status();
+    account.version = snapshot.version();
+    snapshot
+        .reservations()
+        .forEach(
+            (reservationId, money) -> account.reservations.put(reservationId, money.minorUnits()));
+    return new Rehydrator(account);
   }
 
   public List<AccountEvent> handle(
@@ -167,7 +188,7 @@ public class Account {
       CloseAccount closeAccount, EventIdGenerator eventIdGenerator, Instant occurredAt) {
     ensureAccountIdConsistency(closeAccount.accountId());
     ensureActive();
-    if (!this.balance.isAmountZero() || !this.reservations.isEmpty()) {
+    if (this.balance != 0L || !this.reservations.isEmpty()) {
       throw new AccountNotEmptyException();
     }
     AccountEventMeta meta =
@@ -220,29 +241,37 @@ public class Account {
 
     switch (accountEvent) {
       case AccountOpened accountOpened -> {
-        this.balance = accountOpened.initialBalance();
+        this.balance = minorUnitsOf(accountOpened.initialBalance());
         this.status = AccountStatus.OPENED;
       }
-      case FundsCredited fundsCredited -> this.balance = this.balance.add(fundsCredited.money());
+      case FundsCredited fundsCredited ->
+          this.balance = Math.addExact(this.balance, minorUnitsOf(fundsCredited.money()));
       case AccountClosed _ -> this.status = AccountStatus.CLOSED;
-      case FundsDebited fundsDebited -> this.balance = this.balance.subtract(fundsDebited.money());
+      case FundsDebited fundsDebited ->
+          this.balance = Math.subtractExact(this.balance, minorUnitsOf(fundsDebited.money()));
       case FundsReserved fundsReserved ->
-          this.reservations.put(fundsReserved.reservationId(), fundsReserved.money());
+          this.reservations.put(fundsReserved.reservationId(), minorUnitsOf(fundsReserved.money()));
       case ReservationCancelled reservationCancelled ->
           this.reservations.remove(reservationCancelled.reservationId());
       case ReservationCaptured reservationCaptured -> {
-        this.balance = this.balance.subtract(reservationCaptured.money());
+        this.balance = Math.subtractExact(this.balance, minorUnitsOf(reservationCaptured.money()));
         this.reservations.remove(reservationCaptured.reservationId());
       }
     }
   }
 
-  public Money getAvailableBalance() {
-    return balance.subtract(totalReservedFunds());
+  private long minorUnitsOf(Money money) {
+    if (money.currency() != this.currency) {
+      throw new InvalidAccountEventStreamException(
+          "Event amount in %s does not match account currency %s"
+              .formatted(money.currency(), this.currency));
+    }
+    return money.minorUnits();
   }
 
-  private Money totalReservedFunds() {
-    return reservations.values().stream().reduce(Money.zero(currency), Money::add);
+  public Money getAvailableBalance() {
+    return Money.ofMinorUnits(
+        Math.subtractExact(balance, reservations.reservedMinorUnits()), currency);
   }
 
   public AccountId getId() {
@@ -250,7 +279,7 @@ public class Account {
   }
 
   public Money getBalance() {
-    return balance;
+    return Money.ofMinorUnits(balance, currency);
   }
 
   public AccountStatus getStatus() {
@@ -266,6 +295,49 @@ public class Account {
   }
 
   public Map<ReservationId, Money> getReservations() {
-    return Map.copyOf(reservations);
+    return Map.copyOf(reservations.toMap());
+  }
+
+  public AccountSnapshot toSnapshot() {
+    return new AccountSnapshot(id, currency, getBalance(), status, version, reservations.toMap());
+  }
+
+  /**
+   * Rebuilds an {@link Account} by applying events one at a time, in version order. Events can be
+   * handed over while they are read from the store, so rehydrating a long history never requires
+   * holding the whole history in memory.
+   */
+  public static final class Rehydrator implements Consumer<AccountEvent> {
+
+    private final boolean fromSnapshot;
+    private Account account;
+
+    private Rehydrator(Account account) {
+      this.fromSnapshot = account != null;
+      this.account = account;
+    }
+
+    @Override
+    public void accept(AccountEvent event) {
+      if (account == null) {
+        if (!(event instanceof AccountOpened accountOpened)) {
+          throw new InvalidAccountEventStreamException(
+              "Account history must start with AccountOpened event");
+        }
+        account = new Account(accountOpened.accountId(), accountOpened.currency());
+      } else if (fromSnapshot && event.version() != account.version + 1) {
+        throw new InvalidAccountEventStreamException(
+            "Events replayed on a snapshot must be contiguous: expected version %d but got %d"
+                .formatted(account.version + 1, event.version()));
+      }
+      account.apply(event);
+    }
+
+    public Account build() {
+      if (account == null) {
+        throw new AccountHistoryNotFound();
+      }
+      return account;
+    }
   }
 }
@@ -0,0 +1,50 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Buckets of a hot account, each one an {@link Account} stream of its own opened with a zero
+ * balance, that the credits of the account are spread over. A credit always goes to the bucket its
+ * transaction id hashes to, so credits race on {@code count} version sequences instead of one, and
+ * a replayed credit meets its original in the same bucket.
+ *
+ * <p>Bucket ids are name-based UUIDs derived from the account id and the bucket index, so they are
+ * known without being stored.
+ */
+public record AccountBuckets(AccountId accountId, int count) {
+
+  public AccountBuckets {
+    if (accountId == null || count < 1) {
+      throw new IllegalArgumentException("accountId must not be null and count must be >= 1");
+    }
+  }
+
+  public AccountId bucketFor(TransactionId transactionId) {
+    return bucket(Math.floorMod(transactionId.id().hashCode(), count));
+  }
+
+  public AccountId bucket(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    UUID id = accountId.id();
+    byte[] name =
+        ByteBuffer.allocate(2 * Long.BYTES + Integer.BYTES)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .putInt(index)
+            .array();
+    return AccountId.of(UUID.nameUUIDFromBytes(name));
+  }
+
+  public List<AccountId> bucketIds() {
+    List<AccountId> bucketIds = new ArrayList<>(count);
+    for (int index = 0; index < count; index++) {
+      bucketIds.add(bucket(index));
+    }
+    return bucketIds;
+  }
+}
@@ -0,0 +1,33 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import java.util.Map;
+
+/**
+ * Point-in-time capture of an {@link Account} state, taken right after the event carrying {@code
+ * version} has been applied.
+ *
+ * <p>A snapshot is only a rehydration shortcut: the event store stays the source of truth, and
+ * replaying the events with a version greater than {@code version} on top of the snapshot must
+ * yield the same aggregate as a full replay.
+ */
+public record AccountSnapshot(
+    AccountId accountId,
+    SupportedCurrency currency,
+    Money balance,
+    AccountStatus status,
+    long version,
+    Map<ReservationId, Money> reservations) {
+
+  public AccountSnapshot {
+    if (accountId == null
+        || currency == null
+        || balance == null
+        || status == null
+        || reservations == null
+        || version < 1L) {
+      throw new IllegalArgumentException(
+          "snapshot fields must not be null and version must be >= 1");
+    }
+    reservations = Map.copyOf(reservations);
+  }
+}
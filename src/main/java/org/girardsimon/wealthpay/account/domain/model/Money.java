@@ -17,6 +17,11 @@ import java.math.RoundingMode;
  * <p>Amounts are normalized using {@link RoundingMode#HALF_EVEN} (banker's rounding) to minimize
  * cumulative rounding errors in financial calculations.
  *
+ * <p>The amount is held as a {@code long} count of minor units (cents for USD, yen for JPY), so
+ * arithmetic and comparisons never allocate a {@link BigDecimal}. Arithmetic is overflow-checked
+ * and throws {@link ArithmeticException} rather than wrapping around; {@link #amount()} only builds
+ * a {@link BigDecimal} for the API and persistence boundaries.
+ *
  * <p><b>Usage:</b> Prefer the factory method {@link #of(BigDecimal, SupportedCurrency)} over direct
  * constructor invocation.
  *
@@ -24,60 +29,117 @@ import java.math.RoundingMode;
  * Money price = Money.of(new BigDecimal("19.99"), SupportedCurrency.USD);
  * Money total = price.add(Money.of(new BigDecimal("5.00"), SupportedCurrency.USD));
  * }</pre>
- *
- * @param amount the monetary amount, normalized to currency's fraction digits
- * @param currency the currency of this money instance
  */
-public record Money(BigDecimal amount, SupportedCurrency currency) {
+public final class Money {
+
+  private final long minorUnits;
+  private final SupportedCurrency currency;
 
-  /** Normalizes amount scale to currency's fraction digits using banker's rounding. */
-  public Money {
+  /**
+   * Normalizes amount scale to currency's fraction digits using banker's rounding.
+   *
+   * @param amount the monetary amount, normalized to currency's fraction digits
+   * @param currency the currency of this money instance
+   * @throws IllegalArgumentException if an argument is null or the amount does not fit in a {@code
+   *     long} count of minor units
+   */
+  public Money(BigDecimal amount, SupportedCurrency currency) {
     if (amount == null || currency == null) {
       throw new IllegalArgumentException("amount and currency must not be null");
     }
-    int defaultFractionDigits = currency.toJavaCurrency().getDefaultFractionDigits();
-    amount = amount.setScale(defaultFractionDigits, RoundingMode.HALF_EVEN);
+    this.minorUnits = toMinorUnits(amount, currency);
+    this.currency = currency;
+  }
+
+  private Money(long minorUnits, SupportedCurrency currency) {
+    this.minorUnits = minorUnits;
+    this.currency = currency;
   }
 
   public static Money of(BigDecimal amount, SupportedCurrency currency) {
     return new Money(amount, currency);
   }
 
+  public static Money ofMinorUnits(long minorUnits, SupportedCurrency currency) {
+    if (currency == null) {
+      throw new IllegalArgumentException("currency must not be null");
+    }
+    return new Money(minorUnits, currency);
+  }
+
   public static Money zero(SupportedCurrency currency) {
-    return Money.of(BigDecimal.ZERO, currency);
+    return Money.ofMinorUnits(0L, currency);
+  }
+
+  private static long toMinorUnits(BigDecimal amount, SupportedCurrency currency) {
+    BigDecimal normalized = amount.setScale(currency.fractionDigits(), RoundingMode.HALF_EVEN);
+    try {
+      return normalized.unscaledValue().longValueExact();
+    } catch (ArithmeticException _) {
+      throw new IllegalArgumentException(
+          "amount %s is out of the supported range for %s".formatted(amount, currency));
+    }
+  }
+
+  public BigDecimal amount() {
+    return BigDecimal.valueOf(minorUnits, currency.fractionDigits());
+  }
+
+  public SupportedCurrency currency() {
+    return currency;
+  }
+
+  /** Amount as a count of the currency's minor units, e.g. {@code 1050} for 10.50 USD. */
+  public long minorUnits() {
+    return minorUnits;
   }
 
   public boolean isNegativeOrZero() {
-    return amount.signum() <= 0;
+    return minorUnits <= 0L;
   }
 
   public boolean isStrictlyNegative() {
-    return amount.signum() < 0;
+    return minorUnits < 0L;
   }
 
   public Money add(Money money) {
     ensureSameCurrency(money);
-    return Money.of(this.amount.add(money.amount), this.currency);
+    return new Money(Math.addExact(this.minorUnits, money.minorUnits), this.currency);
   }
 
   public Money subtract(Money money) {
     ensureSameCurrency(money);
-    return Money.of(this.amount.subtract(money.amount), this.currency);
+    return new Money(Math.subtractExact(this.minorUnits, money.minorUnits), this.currency);
   }
 
   public boolean isGreaterThan(Money money) {
     ensureSameCurrency(money);
-    return this.amount.compareTo(money.amount) > 0;
+    return this.minorUnits > money.minorUnits;
   }
 
   public boolean isAmountZero() {
-    return this.amount.compareTo(BigDecimal.ZERO) == 0;
+    return this.minorUnits == 0L;
   }
 
   private void ensureSameCurrency(Money money) {
-    if (!this.currency.equals(money.currency)) {
+    if (this.currency != money.currency) {
       throw new IllegalArgumentException(
           "Currencies mismatch: %s vs %s".formatted(this.currency, money.currency));
     }
   }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof Money money && minorUnits == money.minorUnits && currency == money.currency;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "Money[amount=" + amount() + ", currency=" + currency + "]";
+  }
 }
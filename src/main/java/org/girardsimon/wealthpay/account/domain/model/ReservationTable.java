@@ -0,0 +1,167 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Open reservations of an {@link Account}, keyed by reservation id.
+ *
+ * <p>Accounts used for card acquiring hold tens of thousands of open reservations, so the table
+ * avoids one entry object, one {@link ReservationId} and one {@link Money} per reservation: the two
+ * halves of each id and the reserved amount in minor units are stored in parallel primitive arrays,
+ * probed linearly. Deletion shifts the following entries back instead of leaving tombstones, so
+ * lookups stay short however many reservations come and go. The sum of the open amounts is kept up
+ * to date on every change, which makes the available balance a constant-time computation.
+ */
+final class ReservationTable {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final SupportedCurrency currency;
+  private long[] mostSignificantBits;
+  private long[] leastSignificantBits;
+  private long[] amounts;
+  private boolean[] used;
+  private int size;
+  private long reservedMinorUnits;
+
+  ReservationTable(SupportedCurrency currency) {
+    this.currency = currency;
+    allocate(INITIAL_CAPACITY);
+  }
+
+  private static int mix(long mostSignificantBits, long leastSignificantBits) {
+    long hash = (mostSignificantBits ^ leastSignificantBits) * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Sum of the open reservations, in minor units of the account currency. */
+  long reservedMinorUnits() {
+    return reservedMinorUnits;
+  }
+
+  boolean containsKey(ReservationId reservationId) {
+    return indexOf(reservationId.id()) >= 0;
+  }
+
+  /** Returns the reserved amount, or {@code null} when no such reservation is open. */
+  Money get(ReservationId reservationId) {
+    int index = indexOf(reservationId.id());
+    return index >= 0 ? Money.ofMinorUnits(amounts[index], currency) : null;
+  }
+
+  void put(ReservationId reservationId, long minorUnits) {
+    UUID id = reservationId.id();
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    int mask = used.length - 1;
+    int index = mix(high, low) & mask;
+    while (used[index]) {
+      if (mostSignificantBits[index] == high && leastSignificantBits[index] == low) {
+        reservedMinorUnits =
+            Math.addExact(Math.subtractExact(reservedMinorUnits, amounts[index]), minorUnits);
+        amounts[index] = minorUnits;
+        return;
+      }
+      index = (index + 1) & mask;
+    }
+    reservedMinorUnits = Math.addExact(reservedMinorUnits, minorUnits);
+    used[index] = true;
+    mostSignificantBits[index] = high;
+    leastSignificantBits[index] = low;
+    amounts[index] = minorUnits;
+    size++;
+    if (size * 2 > used.length) {
+      rehash(used.length * 2);
+    }
+  }
+
+  void remove(ReservationId reservationId) {
+    int index = indexOf(reservationId.id());
+    if (index < 0) {
+      return;
+    }
+    reservedMinorUnits = Math.subtractExact(reservedMinorUnits, amounts[index]);
+    size--;
+    int mask = used.length - 1;
+    int hole = index;
+    int next = (hole + 1) & mask;
+    while (used[next]) {
+      int home = mix(mostSignificantBits[next], leastSignificantBits[next]) & mask;
+      // Move the entry back into the hole unless its home slot lies cyclically in (hole, next]
+      boolean reachableWithoutHole =
+          hole <= next ? hole < home && home <= next : hole < home || home <= next;
+      if (!reachableWithoutHole) {
+        mostSignificantBits[hole] = mostSignificantBits[next];
+        leastSignificantBits[hole] = leastSignificantBits[next];
+        amounts[hole] = amounts[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    used[hole] = false;
+  }
+
+  Map<ReservationId, Money> toMap() {
+    Map<ReservationId, Money> map = HashMap.newHashMap(size);
+    for (int index = 0; index < used.length; index++) {
+      if (used[index]) {
+        map.put(
+            ReservationId.of(new UUID(mostSignificantBits[index], leastSignificantBits[index])),
+            Money.ofMinorUnits(amounts[index], currency));
+      }
+    }
+    return map;
+  }
+
+  private int indexOf(UUID id) {
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    int mask = used.length - 1;
+    int index = mix(high, low) & mask;
+    while (used[index]) {
+      if (mostSignificantBits[index] == high && leastSignificantBits[index] == low) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void allocate(int capacity) {
+    mostSignificantBits = new long[capacity];
+    leastSignificantBits = new long[capacity];
+    amounts = new long[capacity];
+    used = new boolean[capacity];
+  }
+
+  private void rehash(int capacity) {
+    long[] oldHigh = mostSignificantBits;
+    long[] oldLow = leastSignificantBits;
+    long[] oldAmounts = amounts;
+    boolean[] oldUsed = used;
+    allocate(capacity);
+    int mask = capacity - 1;
+    for (int old = 0; old < oldUsed.length; old++) {
+      if (oldUsed[old]) {
+        int index = mix(oldHigh[old], oldLow[old]) & mask;
+        while (used[index]) {
+          index = (index + 1) & mask;
+        }
+        used[index] = true;
+        mostSignificantBits[index] = oldHigh[old];
+        leastSignificantBits[index] = oldLow[old];
+        amounts[index] = oldAmounts[old];
+      }
+    }
+  }
+}
@@ -9,7 +9,8 @@ public enum SupportedCurrency {
   AUD,
   CAD,
   CHF,
-  CNH,
+  // Offshore renminbi is not an ISO 4217 code known to java.util.Currency
+  CNH(2),
   CZK,
   DKK,
   EUR,
@@ -31,10 +32,25 @@ public enum SupportedCurrency {
   TWD,
   ZAR;
 
+  private final int fractionDigits;
+
+  SupportedCurrency() {
+    this.fractionDigits = Currency.getInstance(name()).getDefaultFractionDigits();
+  }
+
+  SupportedCurrency(int fractionDigits) {
+    this.fractionDigits = fractionDigits;
+  }
+
   public Currency toJavaCurrency() {
     return Currency.getInstance(name());
   }
 
+  /** Default fraction digits of the currency (e.g., 2 for USD, 0 for JPY), resolved once. */
+  public int fractionDigits() {
+    return fractionDigits;
+  }
+
   public static SupportedCurrency fromValue(String currency) {
     try {
       return SupportedCurrency.valueOf(currency);
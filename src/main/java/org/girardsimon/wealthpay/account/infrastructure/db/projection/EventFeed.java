@@ -0,0 +1,111 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.EventStore.EVENT_STORE;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.row;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
+import org.girardsimon.wealthpay.account.jooq.tables.pojos.EventStore;
+import org.girardsimon.wealthpay.account.jooq.tables.records.EventStoreRecord;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.springframework.stereotype.Repository;
+
+/** Reads the event store in global feed order, across all accounts. */
+@Repository
+public class EventFeed {
+
+  /*
+   * Oldest transaction still in flight. Transactions below it are settled: they will never add
+   * rows, so the feed can be consumed up to there without skipping events committed late.
+   */
+  private static final Field<Long> SETTLED_TRANSACTIONS_HORIZON =
+      field("pg_snapshot_xmin(pg_current_snapshot())::text::bigint", Long.class);
+
+  private final DSLContext dslContext;
+  private final EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper;
+
+  EventFeed(
+      DSLContext dslContext,
+      EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper) {
+    this.dslContext = dslContext;
+    this.eventStoreEntryToAccountEventMapper = eventStoreEntryToAccountEventMapper;
+  }
+
+  private static EventStore toEventStore(EventStoreRecord record) {
+    return new EventStore(
+        record.getId(),
+        record.getAccountId(),
+        record.getVersion(),
+        record.getEventType(),
+        record.getPayload(),
+        record.getCreatedAt(),
+        record.getEventId(),
+        record.getTransactionId());
+  }
+
+  /** Reads up to {@code limit} settled events positioned after {@code position}. */
+  public List<FeedEntry> readAfter(FeedPosition position, int limit) {
+    return read(
+        row(EVENT_STORE.TRANSACTION_ID, EVENT_STORE.ID)
+            .gt(position.transactionId(), position.eventStoreId())
+            .and(EVENT_STORE.TRANSACTION_ID.lt(SETTLED_TRANSACTIONS_HORIZON)),
+        limit);
+  }
+
+  /**
+   * Reads up to {@code limit} events positioned after {@code position}, including those of
+   * transactions committed after younger ones that are still in flight. Callers must hold a lock
+   * that keeps such transactions from affecting what they build from the events.
+   */
+  public List<FeedEntry> readCommittedAfter(FeedPosition position, int limit) {
+    return read(
+        row(EVENT_STORE.TRANSACTION_ID, EVENT_STORE.ID)
+            .gt(position.transactionId(), position.eventStoreId()),
+        limit);
+  }
+
+  /**
+   * Returns the position right before the oldest transaction still in flight: every event that will
+   * ever be positioned before it is already committed.
+   */
+  public FeedPosition settledPosition() {
+    long horizon = dslContext.select(SETTLED_TRANSACTIONS_HORIZON).fetchSingle().value1();
+    return new FeedPosition(horizon - 1, Long.MAX_VALUE);
+  }
+
+  private List<FeedEntry> read(Condition condition, int limit) {
+    return dslContext
+        .selectFrom(EVENT_STORE)
+        .where(condition)
+        .orderBy(EVENT_STORE.TRANSACTION_ID, EVENT_STORE.ID)
+        .limit(limit)
+        .fetch(
+            record ->
+                new FeedEntry(
+                    new FeedPosition(record.getTransactionId(), record.getId()),
+                    eventStoreEntryToAccountEventMapper.apply(toEventStore(record))));
+  }
+
+  /**
+   * Returns when the oldest event positioned after {@code position} was appended, whether or not
+   * its transaction is settled yet.
+   */
+  Optional<Instant> firstAppendedAtAfter(FeedPosition position) {
+    return dslContext
+        .select(EVENT_STORE.CREATED_AT)
+        .from(EVENT_STORE)
+        .where(
+            row(EVENT_STORE.TRANSACTION_ID, EVENT_STORE.ID)
+                .gt(position.transactionId(), position.eventStoreId()))
+        .orderBy(EVENT_STORE.TRANSACTION_ID, EVENT_STORE.ID)
+        .limit(1)
+        .fetchOptional(EVENT_STORE.CREATED_AT)
+        .map(OffsetDateTime::toInstant);
+  }
+}
@@ -0,0 +1,5 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+
+public record FeedEntry(FeedPosition position, AccountEvent event) {}
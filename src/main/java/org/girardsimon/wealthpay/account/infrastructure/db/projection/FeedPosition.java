@@ -0,0 +1,21 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import java.util.Comparator;
+
+/**
+ * Position in the global event store feed, ordered by writing transaction, then by event store id.
+ */
+public record FeedPosition(long transactionId, long eventStoreId)
+    implements Comparable<FeedPosition> {
+
+  public static final FeedPosition START = new FeedPosition(0L, 0L);
+
+  private static final Comparator<FeedPosition> ORDER =
+      Comparator.comparingLong(FeedPosition::transactionId)
+          .thenComparingLong(FeedPosition::eventStoreId);
+
+  @Override
+  public int compareTo(FeedPosition other) {
+    return ORDER.compare(this, other);
+  }
+}
@@ -0,0 +1,18 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import java.util.List;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+
+/** Read model fed by the {@link ProjectionEngine} from the global event store feed. */
+public interface Projection {
+
+  /** Unique name of the projection, used as the key of its checkpoint. */
+  String name();
+
+  /**
+   * Applies a batch of events in feed order, within the transaction that also advances the
+   * checkpoint. Events of a given account arrive in version order, but a batch usually spans
+   * several accounts. Events the read model already reflects must be ignored.
+   */
+  void apply(List<AccountEvent> events);
+}
@@ -0,0 +1,76 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.ProjectionCheckpoint.PROJECTION_CHECKPOINT;
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.girardsimon.wealthpay.account.jooq.tables.records.ProjectionCheckpointRecord;
+import org.jooq.DSLContext;
+import org.jooq.ResultQuery;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class ProjectionCheckpointRepository {
+
+  private final DSLContext dslContext;
+
+  ProjectionCheckpointRepository(DSLContext dslContext) {
+    this.dslContext = dslContext;
+  }
+
+  private static Map<String, FeedPosition> toPositions(
+      ResultQuery<ProjectionCheckpointRecord> query) {
+    Map<String, FeedPosition> positions = new HashMap<>();
+    query.forEach(
+        checkpoint ->
+            positions.put(
+                checkpoint.getProjectionName(),
+                new FeedPosition(checkpoint.getTransactionId(), checkpoint.getEventStoreId())));
+    return positions;
+  }
+
+  /**
+   * Returns the checkpoints of the given projections, creating missing ones at the start of the
+   * feed, and locks them until the end of the current transaction so that a single instance
+   * advances a projection at a time.
+   */
+  Map<String, FeedPosition> lock(Collection<String> projectionNames) {
+    for (String projectionName : projectionNames) {
+      dslContext
+          .insertInto(PROJECTION_CHECKPOINT)
+          .columns(
+              PROJECTION_CHECKPOINT.PROJECTION_NAME,
+              PROJECTION_CHECKPOINT.TRANSACTION_ID,
+              PROJECTION_CHECKPOINT.EVENT_STORE_ID)
+          .values(
+              projectionName, FeedPosition.START.transactionId(), FeedPosition.START.eventStoreId())
+          .onConflictDoNothing()
+          .execute();
+    }
+    return toPositions(
+        dslContext
+            .selectFrom(PROJECTION_CHECKPOINT)
+            .where(PROJECTION_CHECKPOINT.PROJECTION_NAME.in(projectionNames))
+            .orderBy(PROJECTION_CHECKPOINT.PROJECTION_NAME)
+            .forUpdate());
+  }
+
+  Map<String, FeedPosition> find(Collection<String> projectionNames) {
+    return toPositions(
+        dslContext
+            .selectFrom(PROJECTION_CHECKPOINT)
+            .where(PROJECTION_CHECKPOINT.PROJECTION_NAME.in(projectionNames)));
+  }
+
+  void save(String projectionName, FeedPosition position) {
+    dslContext
+        .update(PROJECTION_CHECKPOINT)
+        .set(PROJECTION_CHECKPOINT.TRANSACTION_ID, position.transactionId())
+        .set(PROJECTION_CHECKPOINT.EVENT_STORE_ID, position.eventStoreId())
+        .set(PROJECTION_CHECKPOINT.UPDATED_AT, currentOffsetDateTime())
+        .where(PROJECTION_CHECKPOINT.PROJECTION_NAME.eq(projectionName))
+        .execute();
+  }
+}
@@ -0,0 +1,133 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tails the event store and feeds every registered {@link Projection}, so that command transactions
+ * only have to append events.
+ *
+ * <p>Each batch is read once from the feed, starting at the oldest checkpoint, and handed to each
+ * projection from its own checkpoint onwards. Projections and checkpoints are updated in the same
+ * transaction, so every event is applied exactly once. A failing projection rolls the whole batch
+ * back; it is retried at the next poll.
+ *
+ * <p>The {@value #LAG_METRIC} gauge reports, per projection, the age of the oldest event it has not
+ * applied yet, or zero once it has caught up. It is refreshed after every poll, including one whose
+ * batch failed.
+ */
+@Component
+@ConditionalOnProperty(name = "wealthpay.account.projection.mode", havingValue = "ASYNC")
+public class ProjectionEngine {
+
+  static final String LAG_METRIC = "account.projection.lag";
+
+  private final EventFeed eventFeed;
+  private final ProjectionCheckpointRepository projectionCheckpointRepository;
+  private final List<Projection> projections;
+  private final List<String> projectionNames;
+  private final TransactionTemplate transactionTemplate;
+  private final Clock clock;
+  private final int batchSize;
+  private final Map<String, AtomicLong> lagMillis = new HashMap<>();
+
+  ProjectionEngine(
+      EventFeed eventFeed,
+      ProjectionCheckpointRepository projectionCheckpointRepository,
+      List<Projection> projections,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      Clock clock,
+      @Value("${wealthpay.account.projection.batch-size}") int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be >= 1");
+    }
+    this.eventFeed = eventFeed;
+    this.projectionCheckpointRepository = projectionCheckpointRepository;
+    this.projections = List.copyOf(projections);
+    this.projectionNames = projections.stream().map(Projection::name).toList();
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.clock = clock;
+    this.batchSize = batchSize;
+    for (String projectionName : projectionNames) {
+      AtomicLong lag = new AtomicLong();
+      lagMillis.put(projectionName, lag);
+      TimeGauge.builder(LAG_METRIC, lag, TimeUnit.MILLISECONDS, AtomicLong::get)
+          .tag("projection", projectionName)
+          .description("Age of the oldest event not yet applied by the projection")
+          .register(meterRegistry);
+    }
+  }
+
+  /** Applies every settled event appended since the last poll, one batch per transaction. */
+  @Scheduled(fixedDelayString = "${wealthpay.account.projection.poll-interval}")
+  public void poll() {
+    if (projections.isEmpty()) {
+      return;
+    }
+    try {
+      int read;
+      do {
+        read = Objects.requireNonNull(transactionTemplate.execute(_ -> projectNextBatch()));
+      } while (read == batchSize);
+    } finally {
+      refreshLag();
+    }
+  }
+
+  private int projectNextBatch() {
+    Map<String, FeedPosition> checkpoints = projectionCheckpointRepository.lock(projectionNames);
+    List<FeedEntry> batch = eventFeed.readAfter(Collections.min(checkpoints.values()), batchSize);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    FeedPosition end = batch.getLast().position();
+    for (Projection projection : projections) {
+      FeedPosition checkpoint = checkpoints.get(projection.name());
+      if (end.compareTo(checkpoint) <= 0) {
+        continue;
+      }
+      List<AccountEvent> events =
+          batch.stream()
+              .filter(entry -> entry.position().compareTo(checkpoint) > 0)
+              .map(FeedEntry::event)
+              .toList();
+      projection.apply(events);
+      projectionCheckpointRepository.save(projection.name(), end);
+    }
+    return batch.size();
+  }
+
+  private void refreshLag() {
+    Instant now = clock.instant();
+    projectionCheckpointRepository
+        .find(projectionNames)
+        .forEach(
+            (projectionName, checkpoint) ->
+                lagMillis
+                    .get(projectionName)
+                    .set(
+                        eventFeed
+                            .firstAppendedAtAfter(checkpoint)
+                            .map(appendedAt -> Duration.between(appendedAt, now).toMillis())
+                            .map(lag -> Math.max(0L, lag))
+                            .orElse(0L)));
+  }
+}
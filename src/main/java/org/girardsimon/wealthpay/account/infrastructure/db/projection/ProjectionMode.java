@@ -0,0 +1,12 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+/** How read models are kept up to date with the event store. */
+public enum ProjectionMode {
+  /** Read models are updated by the command transaction that appends the events. */
+  INLINE,
+  /**
+   * Command transactions only append events; the {@link ProjectionEngine} tails the event store and
+   * updates read models after commit.
+   */
+  ASYNC
+}
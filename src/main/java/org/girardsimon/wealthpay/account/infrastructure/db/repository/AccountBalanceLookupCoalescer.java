@@ -0,0 +1,60 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.shared.concurrent.WindowedBatcher;
+
+/**
+ * Resolves the balance lookups of concurrent callers together. Lookups are gathered by a {@link
+ * WindowedBatcher} into batches of at most {@code maxBatchSize} accounts, each loaded by a single
+ * call to the bulk loader; concurrent lookups of the same account share one result. Accounts left
+ * out of the loaded map complete with {@code null}. A failed bulk load fails every lookup of its
+ * batch, including when it failed with an {@link Error}, which is then rethrown.
+ */
+final class AccountBalanceLookupCoalescer {
+
+  static final String BATCH_SIZE_METRIC = "account.balance.lookup.batch.size";
+
+  private final Function<Set<AccountId>, Map<AccountId, AccountBalanceView>> bulkLoader;
+  private final DistributionSummary batchSizes;
+  private final WindowedBatcher<Map<AccountId, CompletableFuture<AccountBalanceView>>> batcher;
+
+  AccountBalanceLookupCoalescer(
+      Function<Set<AccountId>, Map<AccountId, AccountBalanceView>> bulkLoader,
+      Duration window,
+      int maxBatchSize,
+      MeterRegistry meterRegistry) {
+    this.bulkLoader = bulkLoader;
+    this.batchSizes =
+        DistributionSummary.builder(BATCH_SIZE_METRIC)
+            .description("Number of accounts loaded together by coalesced balance lookups")
+            .register(meterRegistry);
+    this.batcher =
+        new WindowedBatcher<>(window, maxBatchSize, HashMap::new, Map::size, this::flush);
+  }
+
+  CompletableFuture<AccountBalanceView> load(AccountId accountId) {
+    return batcher.add(batch -> batch.computeIfAbsent(accountId, _ -> new CompletableFuture<>()));
+  }
+
+  private void flush(Map<AccountId, CompletableFuture<AccountBalanceView>> batch) {
+    batchSizes.record(batch.size());
+    try {
+      Map<AccountId, AccountBalanceView> balances = bulkLoader.apply(batch.keySet());
+      batch.forEach((accountId, balance) -> balance.complete(balances.get(accountId)));
+    } catch (Throwable e) {
+      batch.values().forEach(balance -> balance.completeExceptionally(e));
+      if (e instanceof Error error) {
+        throw error;
+      }
+    }
+  }
+}
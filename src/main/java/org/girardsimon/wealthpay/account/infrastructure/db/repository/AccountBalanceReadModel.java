@@ -1,9 +1,28 @@
 package org.girardsimon.wealthpay.account.infrastructure.db.repository;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView.ACCOUNT_BALANCE_VIEW;
+import static org.jooq.impl.DSL.any;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import org.girardsimon.wealthpay.account.application.AccountBalanceProjector;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
 import org.girardsimon.wealthpay.account.domain.event.AccountClosed;
@@ -17,27 +36,75 @@ import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
 import org.girardsimon.wealthpay.account.domain.exception.AccountBalanceNotFoundException;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
 import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.Projection;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.ProjectionMode;
 import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountBalanceViewEntryToDomainMapper;
 import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBalanceViewRecord;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.UpdateSetMoreStep;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Balance view of each account. Depending on {@link ProjectionMode}, it is either updated by the
+ * command transaction through {@link #project(List)}, or by the projection engine through {@link
+ * #apply(List)} once the events are committed.
+ *
+ * <p>Balances read through {@link #getAccountBalance(AccountId)} are kept in a bounded cache. Every
+ * write evicts the accounts it touches, right away and again once its transaction completes, so a
+ * balance read concurrently from the previous state does not outlive the write. Entries also expire
+ * after {@code timeToLive}, which bounds staleness for rows written by other instances.
+ *
+ * <p>Cache misses outside a write transaction go through an {@link AccountBalanceLookupCoalescer},
+ * so that concurrent readers of different accounts share a single query. A write transaction reads
+ * on its own connection instead, to see the rows it has not committed yet.
+ */
 @Repository
-public class AccountBalanceReadModel implements AccountBalanceProjector {
+public class AccountBalanceReadModel implements AccountBalanceProjector, Projection {
+
+  static final String PROJECTION_NAME = "account_balance_view";
+
+  static final String CACHE_NAME = "account.balance";
 
   private final DSLContext dslContext;
 
   private final AccountBalanceViewEntryToDomainMapper accountBalanceViewEntryToDomainMapper;
 
+  private final ProjectionMode projectionMode;
+
+  private final AsyncCache<AccountId, AccountBalanceView> cache;
+
+  private final AccountBalanceLookupCoalescer coalescer;
+
   public AccountBalanceReadModel(
       DSLContext dslContext,
-      AccountBalanceViewEntryToDomainMapper accountBalanceViewEntryToDomainMapper) {
+      AccountBalanceViewEntryToDomainMapper accountBalanceViewEntryToDomainMapper,
+      MeterRegistry meterRegistry,
+      @Value("${wealthpay.account.projection.mode}") ProjectionMode projectionMode,
+      @Value("${wealthpay.account.balance-cache.maximum-size}") long cacheMaximumSize,
+      @Value("${wealthpay.account.balance-cache.time-to-live}") Duration cacheTimeToLive,
+      @Value("${wealthpay.account.balance-lookup.window}") Duration lookupWindow,
+      @Value("${wealthpay.account.balance-lookup.max-batch-size}") int lookupMaxBatchSize) {
     this.dslContext = dslContext;
     this.accountBalanceViewEntryToDomainMapper = accountBalanceViewEntryToDomainMapper;
+    this.projectionMode = projectionMode;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheTimeToLive)
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.coalescer =
+        new AccountBalanceLookupCoalescer(
+            this::loadAccountBalances, lookupWindow, lookupMaxBatchSize, meterRegistry);
   }
 
-  private static void applyEventToState(AccountEvent event, ProjectionState currentState) {
+  static void applyEventToState(AccountEvent event, ProjectionState currentState) {
     switch (event) {
       case AccountOpened opened -> {
         currentState.balance = opened.initialBalance().amount();
@@ -66,6 +133,55 @@ public class AccountBalanceReadModel implements AccountBalanceProjector {
 
   @Override
   public AccountBalanceView getAccountBalance(AccountId accountId) {
+    CompletableFuture<AccountBalanceView> balance =
+        inWriteTransaction()
+            ? cache.get(
+                accountId,
+                (id, _) ->
+                    CompletableFuture.completedFuture(loadAccountBalances(Set.of(id)).get(id)))
+            : cache.get(accountId, (id, _) -> coalescer.load(id));
+    AccountBalanceView accountBalance = join(balance);
+    if (accountBalance == null) {
+      throw new AccountBalanceNotFoundException(accountId);
+    }
+    return accountBalance;
+  }
+
+  /**
+   * Serves cached balances from the cache and loads all the others with a single {@code account_id
+   * = ANY(?)} query. Accounts without a row are left out of the result and are not cached.
+   */
+  @Override
+  public Map<AccountId, AccountBalanceView> getAccountBalances(Collection<AccountId> accountIds) {
+    return join(
+        cache.getAll(
+            accountIds,
+            (missing, _) -> CompletableFuture.completedFuture(loadAccountBalances(missing))));
+  }
+
+  /** Drops every cached balance, for instance once the whole view has been rebuilt. */
+  void evictAll() {
+    cache.synchronous().invalidateAll();
+  }
+
+  private static boolean inWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private Map<AccountId, AccountBalanceView> loadAccountBalances(
+      Set<? extends AccountId> accountIds) {
     return dslContext
         .select(
             ACCOUNT_BALANCE_VIEW.ACCOUNT_ID,
@@ -75,78 +191,199 @@ public class AccountBalanceReadModel implements AccountBalanceProjector {
             ACCOUNT_BALANCE_VIEW.STATUS,
             ACCOUNT_BALANCE_VIEW.VERSION)
         .from(ACCOUNT_BALANCE_VIEW)
-        .where(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID.eq(accountId.id()))
-        .fetchOptional()
+        .where(
+            ACCOUNT_BALANCE_VIEW.ACCOUNT_ID.eq(
+                any(accountIds.stream().map(AccountId::id).toArray(UUID[]::new))))
+        .fetch()
+        .stream()
         .map(accountBalanceViewEntryToDomainMapper)
-        .orElseThrow(() -> new AccountBalanceNotFoundException(accountId));
+        .collect(toMap(AccountBalanceView::accountId, Function.identity()));
   }
 
   @Override
   public void project(List<AccountEvent> events) {
-    if (events.isEmpty()) {
-      return;
+    Set<AccountId> rejected = projectAll(events);
+    if (!rejected.isEmpty()) {
+      throw new OptimisticLockingFailureException(
+          "Concurrent update detected for accounts %s"
+              .formatted(rejected.stream().map(AccountId::id).toList()));
     }
+  }
+
+  /*
+   * Command batches start right after the version in the view, so only their effect needs to be
+   * written: the balance and reserved deltas of each account are added in place by a statement
+   * that also checks the row is still at the version preceding its events. The statements of all
+   * accounts are sent as a single JDBC batch.
+   */
+  @Override
+  public Set<AccountId> projectAll(List<AccountEvent> events) {
+    if (events.isEmpty() || projectionMode == ProjectionMode.ASYNC) {
+      return Set.of();
+    }
+    Set<AccountId> rejected = new LinkedHashSet<>();
+    List<AccountId> written = new ArrayList<>();
+    List<Query> queries = new ArrayList<>();
+    groupByAccount(events)
+        .forEach(
+            (accountId, accountEvents) -> {
+              long precedingVersion = accountEvents.getFirst().version() - 1;
+              ProjectionState delta = ProjectionState.delta(precedingVersion);
+              if (!applyContiguous(accountEvents, delta)) {
+                rejected.add(accountId);
+                return;
+              }
+              written.add(accountId);
+              queries.add(writeDelta(ACCOUNT_BALANCE_VIEW, accountId, precedingVersion, delta));
+            });
+
+    int[] affectedRows = execute(queries);
+    evict(written);
+    for (int i = 0; i < affectedRows.length; i++) {
+      if (affectedRows[i] == 0) {
+        rejected.add(written.get(i));
+      }
+    }
+    return rejected;
+  }
+
+  @Override
+  public String name() {
+    return PROJECTION_NAME;
+  }
 
-    AccountId accountId = events.getFirst().accountId();
+  @Override
+  public void apply(List<AccountEvent> events) {
+    apply(ACCOUNT_BALANCE_VIEW, events);
+  }
 
-    ProjectionState currentState =
+  /**
+   * Applies the events to {@code view}, a table shaped like {@code account_balance_view}. Events at
+   * or below the version already in the view are ignored, so the engine can start from the
+   * beginning of the feed on a view filled in inline mode.
+   */
+  void apply(
+      org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView view,
+      List<AccountEvent> events) {
+    Map<AccountId, List<AccountEvent>> eventsByAccount = groupByAccount(events);
+    Map<UUID, Long> projectedVersions =
         dslContext
-            .select(
-                ACCOUNT_BALANCE_VIEW.ACCOUNT_ID,
-                ACCOUNT_BALANCE_VIEW.BALANCE,
-                ACCOUNT_BALANCE_VIEW.RESERVED,
-                ACCOUNT_BALANCE_VIEW.CURRENCY,
-                ACCOUNT_BALANCE_VIEW.STATUS,
-                ACCOUNT_BALANCE_VIEW.VERSION)
-            .from(ACCOUNT_BALANCE_VIEW)
-            .where(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID.eq(accountId.id()))
-            .fetchOptional()
-            .map(
-                currentRecord ->
-                    new ProjectionState(
-                        currentRecord.get(ACCOUNT_BALANCE_VIEW.BALANCE),
-                        currentRecord.get(ACCOUNT_BALANCE_VIEW.RESERVED),
-                        currentRecord.get(ACCOUNT_BALANCE_VIEW.CURRENCY),
-                        currentRecord.get(ACCOUNT_BALANCE_VIEW.STATUS),
-                        currentRecord.get(ACCOUNT_BALANCE_VIEW.VERSION)))
-            .orElseGet(ProjectionState::init);
-
-    events.forEach(
-        event -> {
-          long expectedNextVersion = currentState.version + 1;
-          if (event.version() != expectedNextVersion) {
+            .select(view.ACCOUNT_ID, view.VERSION)
+            .from(view)
+            .where(
+                view.ACCOUNT_ID.in(eventsByAccount.keySet().stream().map(AccountId::id).toList()))
+            .fetchMap(view.ACCOUNT_ID, view.VERSION);
+
+    List<AccountId> written = new ArrayList<>();
+    List<Query> queries = new ArrayList<>();
+    eventsByAccount.forEach(
+        (accountId, accountEvents) -> {
+          long projectedVersion = projectedVersions.getOrDefault(accountId.id(), 0L);
+          List<AccountEvent> pendingEvents =
+              accountEvents.stream().filter(event -> event.version() > projectedVersion).toList();
+          if (pendingEvents.isEmpty()) {
+            return;
+          }
+          ProjectionState delta = ProjectionState.delta(projectedVersion);
+          if (!applyContiguous(pendingEvents, delta)) {
             throw new OptimisticLockingFailureException(
                 "Non contiguous versions for account %s: expected %d but got %d"
-                    .formatted(accountId.id(), currentState.version, event.version()));
+                    .formatted(
+                        accountId.id(), projectedVersion + 1, pendingEvents.getFirst().version()));
           }
-          applyEventToState(event, currentState);
+          written.add(accountId);
+          queries.add(writeDelta(view, accountId, projectedVersion, delta));
         });
 
-    AccountBalanceViewRecord row = dslContext.newRecord(ACCOUNT_BALANCE_VIEW);
-    row.setAccountId(accountId.id());
-    row.setCurrency(currentState.currency);
-    row.setBalance(currentState.balance);
-    row.setReserved(currentState.reserved);
-    row.setStatus(currentState.status);
-    row.setVersion(currentState.version);
+    int[] affectedRows = execute(queries);
+    evict(written);
+    for (int i = 0; i < affectedRows.length; i++) {
+      if (affectedRows[i] == 0) {
+        throw new OptimisticLockingFailureException(
+            "Concurrent update detected for account %s".formatted(written.get(i).id()));
+      }
+    }
+  }
+
+  private static Map<AccountId, List<AccountEvent>> groupByAccount(List<AccountEvent> events) {
+    return events.stream()
+        .collect(groupingBy(AccountEvent::accountId, LinkedHashMap::new, toList()));
+  }
+
+  private static boolean applyContiguous(List<AccountEvent> events, ProjectionState state) {
+    for (AccountEvent event : events) {
+      if (event.version() != state.version + 1) {
+        return false;
+      }
+      applyEventToState(event, state);
+    }
+    return true;
+  }
 
-    int affectedRows =
+  /*
+   * A delta opening the account holds the whole row and is inserted; a conflict means the account
+   * was projected already. PostgreSQL checks NOT NULL columns before resolving conflicts, so other
+   * deltas, which have no currency, are applied by an update instead of an upsert.
+   */
+  private Query writeDelta(
+      org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView view,
+      AccountId accountId,
+      long precedingVersion,
+      ProjectionState delta) {
+    if (precedingVersion == 0L) {
+      return dslContext.insertInto(view).set(toRow(view, accountId, delta)).onConflictDoNothing();
+    }
+    UpdateSetMoreStep<AccountBalanceViewRecord> update =
         dslContext
-            .insertInto(ACCOUNT_BALANCE_VIEW)
-            .set(row)
-            .onConflict(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID)
-            .doUpdate()
-            .set(row)
-            .where(ACCOUNT_BALANCE_VIEW.VERSION.lt(currentState.version))
-            .execute();
-
-    if (affectedRows == 0) {
-      throw new OptimisticLockingFailureException(
-          "Concurrent update detected for account %s".formatted(accountId.id()));
+            .update(view)
+            .set(view.BALANCE, view.BALANCE.plus(delta.balance))
+            .set(view.RESERVED, view.RESERVED.plus(delta.reserved))
+            .set(view.VERSION, delta.version);
+    if (delta.status != null) {
+      update = update.set(view.STATUS, delta.status);
+    }
+    return update.where(view.ACCOUNT_ID.eq(accountId.id())).and(view.VERSION.eq(precedingVersion));
+  }
+
+  private void evict(List<AccountId> accountIds) {
+    if (accountIds.isEmpty()) {
+      return;
+    }
+    cache.synchronous().invalidateAll(accountIds);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              cache.synchronous().invalidateAll(accountIds);
+            }
+          });
     }
   }
 
-  private static final class ProjectionState {
+  private int[] execute(List<Query> queries) {
+    return switch (queries.size()) {
+      case 0 -> new int[0];
+      case 1 -> new int[] {queries.getFirst().execute()};
+      default -> dslContext.batch(queries).execute();
+    };
+  }
+
+  private AccountBalanceViewRecord toRow(
+      org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView view,
+      AccountId accountId,
+      ProjectionState state) {
+    AccountBalanceViewRecord row = dslContext.newRecord(view);
+    row.setAccountId(accountId.id());
+    row.setCurrency(state.currency);
+    row.setBalance(state.balance);
+    row.setReserved(state.reserved);
+    row.setStatus(state.status);
+    row.setVersion(state.version);
+    return row;
+  }
+
+  static final class ProjectionState {
     BigDecimal balance;
     BigDecimal reserved;
     String currency;
@@ -165,5 +402,10 @@ public class AccountBalanceReadModel implements AccountBalanceProjector {
     static ProjectionState init() {
       return new ProjectionState(BigDecimal.ZERO, BigDecimal.ZERO, null, null, 0L);
     }
+
+    /** Effect of events following {@code precedingVersion}, before any of them is applied. */
+    static ProjectionState delta(long precedingVersion) {
+      return new ProjectionState(BigDecimal.ZERO, BigDecimal.ZERO, null, null, precedingVersion);
+    }
   }
 }
@@ -0,0 +1,92 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT;
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+
+import java.util.List;
+import java.util.UUID;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.FeedPosition;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBalanceRebuildCheckpointRecord;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep5;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class AccountBalanceRebuildCheckpointRepository {
+
+  private final DSLContext dslContext;
+
+  AccountBalanceRebuildCheckpointRepository(DSLContext dslContext) {
+    this.dslContext = dslContext;
+  }
+
+  /**
+   * Returns the checkpoints of an interrupted rebuild over the same number of partitions and in the
+   * same mode, locked until the end of the current transaction, or an empty list if there is none.
+   */
+  List<AccountBalanceRebuildCheckpointRecord> resume(int partitionCount, RebuildMode mode) {
+    List<AccountBalanceRebuildCheckpointRecord> checkpoints =
+        dslContext
+            .selectFrom(ACCOUNT_BALANCE_REBUILD_CHECKPOINT)
+            .orderBy(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.PARTITION_INDEX)
+            .forUpdate()
+            .fetch();
+    boolean resumable =
+        checkpoints.size() == partitionCount
+            && checkpoints.stream()
+                .allMatch(
+                    checkpoint ->
+                        checkpoint.getPartitionCount() == partitionCount
+                            && checkpoint.getMode().equals(mode.name()));
+    return resumable ? checkpoints : List.of();
+  }
+
+  /**
+   * Replaces any previous checkpoints with those of a new rebuild. {@code feedPosition} is where a
+   * shadow rebuild starts catching up with the event feed, {@code null} for an in-place rebuild.
+   */
+  List<AccountBalanceRebuildCheckpointRecord> start(
+      int partitionCount, RebuildMode mode, FeedPosition feedPosition) {
+    dslContext.deleteFrom(ACCOUNT_BALANCE_REBUILD_CHECKPOINT).execute();
+    Long feedTransactionId = feedPosition == null ? null : feedPosition.transactionId();
+    Long feedEventStoreId = feedPosition == null ? null : feedPosition.eventStoreId();
+    InsertValuesStep5<AccountBalanceRebuildCheckpointRecord, Integer, Integer, String, Long, Long>
+        insert =
+            dslContext.insertInto(
+                ACCOUNT_BALANCE_REBUILD_CHECKPOINT,
+                ACCOUNT_BALANCE_REBUILD_CHECKPOINT.PARTITION_INDEX,
+                ACCOUNT_BALANCE_REBUILD_CHECKPOINT.PARTITION_COUNT,
+                ACCOUNT_BALANCE_REBUILD_CHECKPOINT.MODE,
+                ACCOUNT_BALANCE_REBUILD_CHECKPOINT.FEED_TRANSACTION_ID,
+                ACCOUNT_BALANCE_REBUILD_CHECKPOINT.FEED_EVENT_STORE_ID);
+    for (int partitionIndex = 0; partitionIndex < partitionCount; partitionIndex++) {
+      insert =
+          insert.values(
+              partitionIndex, partitionCount, mode.name(), feedTransactionId, feedEventStoreId);
+    }
+    return insert.returning().fetch();
+  }
+
+  void advance(int partitionIndex, UUID lastAccountId) {
+    dslContext
+        .update(ACCOUNT_BALANCE_REBUILD_CHECKPOINT)
+        .set(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.LAST_ACCOUNT_ID, lastAccountId)
+        .set(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.UPDATED_AT, currentOffsetDateTime())
+        .where(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.PARTITION_INDEX.eq(partitionIndex))
+        .execute();
+  }
+
+  void complete(int partitionIndex) {
+    dslContext
+        .update(ACCOUNT_BALANCE_REBUILD_CHECKPOINT)
+        .set(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.COMPLETED, true)
+        .set(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.UPDATED_AT, currentOffsetDateTime())
+        .where(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.PARTITION_INDEX.eq(partitionIndex))
+        .execute();
+  }
+
+  /** Forgets the checkpoints once the rebuild is over. */
+  void clear() {
+    dslContext.deleteFrom(ACCOUNT_BALANCE_REBUILD_CHECKPOINT).execute();
+  }
+}
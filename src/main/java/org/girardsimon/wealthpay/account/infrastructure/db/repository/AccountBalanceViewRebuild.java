@@ -0,0 +1,344 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView.ACCOUNT_BALANCE_VIEW;
+import static org.girardsimon.wealthpay.account.jooq.tables.EventStore.EVENT_STORE;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.row;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.EventFeed;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.FeedEntry;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.FeedPosition;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.AccountBalanceReadModel.ProjectionState;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
+import org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBalanceRebuildCheckpointRecord;
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Row6;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes {@code account_balance_view} from the whole event store, for instance after a change
+ * of {@link AccountBalanceReadModel#applyEventToState}.
+ *
+ * <p>The account id space is split into {@link AccountIdRange ranges} rebuilt concurrently by a
+ * fixed pool of workers. Each worker streams the events of its range in {@code (account_id,
+ * version)} order, which the unique index of the event store serves without sorting, folds every
+ * account in memory and upserts the results in batches. The last account written is checkpointed
+ * with each batch, so an interrupted rebuild resumes after it. A worker holds two connections, one
+ * for its stream and one for the batch it writes, so the connection pool must hold at least twice
+ * as many connections as there are workers, which is checked on startup.
+ *
+ * <p>In {@link RebuildMode#IN_PLACE} mode, rows are only overwritten when the rebuilt version is
+ * not older than the stored one: an account projected past the rebuild while it runs keeps its
+ * newer row, but readers see a mix of old and rebuilt rows until the end.
+ *
+ * <p>In {@link RebuildMode#SHADOW} mode, the rebuild fills {@value #SHADOW_TABLE} instead, then
+ * applies the events appended since it started, read from the {@link EventFeed}. The last events
+ * are applied while holding an exclusive lock on the live table, and the shadow table replaces it
+ * in the same transaction: readers and projections wait for that transaction only, then query the
+ * rebuilt table under the usual name.
+ */
+@Component
+public class AccountBalanceViewRebuild {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountBalanceViewRebuild.class);
+
+  static final String SHADOW_TABLE = "account_balance_view_shadow";
+
+  private static final AccountBalanceView SHADOW_VIEW = ACCOUNT_BALANCE_VIEW.rename(SHADOW_TABLE);
+
+  // LIKE ... INCLUDING ALL names the copied primary key after the shadow table
+  private static final String PRIMARY_KEY = "account_balance_view_pkey";
+  private static final String SHADOW_PRIMARY_KEY = SHADOW_TABLE + "_pkey";
+
+  private static final int STREAM_FETCH_SIZE = 5_000;
+
+  private final DSLContext dslContext;
+  private final EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper;
+  private final AccountBalanceRebuildCheckpointRepository checkpointRepository;
+  private final AccountBalanceReadModel accountBalanceReadModel;
+  private final EventFeed eventFeed;
+  private final TransactionTemplate streamTransaction;
+  private final TransactionTemplate writeTransaction;
+  private final RebuildMode mode;
+  private final AccountBalanceView target;
+  private final int partitions;
+  private final int workers;
+  private final int batchSize;
+
+  AccountBalanceViewRebuild(
+      DSLContext dslContext,
+      EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper,
+      AccountBalanceRebuildCheckpointRepository checkpointRepository,
+      AccountBalanceReadModel accountBalanceReadModel,
+      EventFeed eventFeed,
+      PlatformTransactionManager transactionManager,
+      @Value("${wealthpay.account.projection.rebuild.mode}") RebuildMode mode,
+      @Value("${wealthpay.account.projection.rebuild.partitions}") int partitions,
+      @Value("${wealthpay.account.projection.rebuild.workers}") int workers,
+      @Value("${wealthpay.account.projection.rebuild.batch-size}") int batchSize,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+    if (partitions < 1 || workers < 1 || batchSize < 1) {
+      throw new IllegalArgumentException("partitions, workers and batchSize must be >= 1");
+    }
+    if (workers * 2 > maximumPoolSize) {
+      throw new IllegalArgumentException(
+          "Each of the %d rebuild workers holds 2 connections, more than the %d of the pool"
+              .formatted(workers, maximumPoolSize));
+    }
+    this.dslContext = dslContext;
+    this.eventStoreEntryToAccountEventMapper = eventStoreEntryToAccountEventMapper;
+    this.checkpointRepository = checkpointRepository;
+    this.accountBalanceReadModel = accountBalanceReadModel;
+    this.eventFeed = eventFeed;
+    this.streamTransaction = new TransactionTemplate(transactionManager);
+    this.streamTransaction.setReadOnly(true);
+    // Batches commit on their own while the stream transaction keeps its cursor open
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+    this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.mode = mode;
+    this.target = mode == RebuildMode.SHADOW ? SHADOW_VIEW : ACCOUNT_BALANCE_VIEW;
+    this.partitions = partitions;
+    this.workers = workers;
+    this.batchSize = batchSize;
+  }
+
+  private static Row6<UUID, String, BigDecimal, BigDecimal, String, Long> toRow(
+      UUID accountId, ProjectionState state) {
+    return row(
+        accountId, state.currency, state.balance, state.reserved, state.status, state.version);
+  }
+
+  private static List<AccountEvent> eventsOf(List<FeedEntry> entries) {
+    return entries.stream().map(FeedEntry::event).toList();
+  }
+
+  /** Rebuilds the whole view, resuming the previous rebuild if it was interrupted. */
+  public void rebuild() {
+    List<AccountIdRange> ranges = AccountIdRange.split(partitions);
+    List<AccountBalanceRebuildCheckpointRecord> checkpoints =
+        Objects.requireNonNull(writeTransaction.execute(_ -> startOrResume()));
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (AccountBalanceRebuildCheckpointRecord checkpoint : checkpoints) {
+      if (checkpoint.getCompleted()) {
+        continue;
+      }
+      int partitionIndex = checkpoint.getPartitionIndex();
+      AccountIdRange range = ranges.get(partitionIndex);
+      UUID lastAccountId = checkpoint.getLastAccountId();
+      tasks.add(
+          () -> {
+            rebuildPartition(partitionIndex, range, lastAccountId);
+            return null;
+          });
+    }
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+      for (Future<Void> partition : executor.invokeAll(tasks)) {
+        partition.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Account balance view rebuild interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Account balance view rebuild failed", e.getCause());
+    }
+
+    if (mode == RebuildMode.SHADOW) {
+      AccountBalanceRebuildCheckpointRecord first = checkpoints.getFirst();
+      FeedPosition caughtUp =
+          catchUp(new FeedPosition(first.getFeedTransactionId(), first.getFeedEventStoreId()));
+      writeTransaction.executeWithoutResult(_ -> swap(caughtUp));
+      log.info("Swapped the rebuilt account balance view with the live one");
+    } else {
+      writeTransaction.executeWithoutResult(_ -> checkpointRepository.clear());
+    }
+    accountBalanceReadModel.evictAll();
+  }
+
+  /*
+   * The feed position of a shadow rebuild is taken before any partition is streamed, so every event
+   * missing from the streamed snapshots is positioned after it.
+   */
+  private List<AccountBalanceRebuildCheckpointRecord> startOrResume() {
+    List<AccountBalanceRebuildCheckpointRecord> checkpoints =
+        checkpointRepository.resume(partitions, mode);
+    if (!checkpoints.isEmpty()) {
+      return checkpoints;
+    }
+    FeedPosition feedPosition = null;
+    if (mode == RebuildMode.SHADOW) {
+      dslContext.dropTableIfExists(SHADOW_VIEW).execute();
+      dslContext.execute(
+          "CREATE TABLE {0} (LIKE {1} INCLUDING ALL)", SHADOW_VIEW, ACCOUNT_BALANCE_VIEW);
+      feedPosition = eventFeed.settledPosition();
+    }
+    return checkpointRepository.start(partitions, mode, feedPosition);
+  }
+
+  /** Applies settled events to the shadow table, one batch per transaction, until the feed tail. */
+  private FeedPosition catchUp(FeedPosition from) {
+    FeedPosition position = from;
+    List<FeedEntry> batch;
+    do {
+      FeedPosition after = position;
+      batch =
+          Objects.requireNonNull(
+              writeTransaction.execute(
+                  _ -> {
+                    List<FeedEntry> entries = eventFeed.readAfter(after, batchSize);
+                    accountBalanceReadModel.apply(SHADOW_VIEW, eventsOf(entries));
+                    return entries;
+                  }));
+      if (!batch.isEmpty()) {
+        position = batch.getLast().position();
+      }
+    } while (batch.size() == batchSize);
+    return position;
+  }
+
+  /*
+   * Once the exclusive lock is granted, every transaction that projected into the live table has
+   * committed, so its events can be read even if an older transaction is still in flight. Later
+   * writers wait for the lock and then project into the swapped table.
+   */
+  private void swap(FeedPosition from) {
+    dslContext.execute("LOCK TABLE {0} IN ACCESS EXCLUSIVE MODE", ACCOUNT_BALANCE_VIEW);
+    FeedPosition position = from;
+    List<FeedEntry> batch;
+    do {
+      batch = eventFeed.readCommittedAfter(position, batchSize);
+      accountBalanceReadModel.apply(SHADOW_VIEW, eventsOf(batch));
+      if (!batch.isEmpty()) {
+        position = batch.getLast().position();
+      }
+    } while (batch.size() == batchSize);
+
+    dslContext.dropTable(ACCOUNT_BALANCE_VIEW).execute();
+    dslContext
+        .alterTable(SHADOW_VIEW)
+        .renameTo(ACCOUNT_BALANCE_VIEW.getUnqualifiedName())
+        .execute();
+    dslContext
+        .alterTable(ACCOUNT_BALANCE_VIEW)
+        .renameConstraint(SHADOW_PRIMARY_KEY)
+        .to(PRIMARY_KEY)
+        .execute();
+    checkpointRepository.clear();
+  }
+
+  private void rebuildPartition(int partitionIndex, AccountIdRange range, UUID lastAccountId) {
+    Condition inRange = EVENT_STORE.ACCOUNT_ID.ge(range.from());
+    if (range.to() != null) {
+      inRange = inRange.and(EVENT_STORE.ACCOUNT_ID.lt(range.to()));
+    }
+    if (lastAccountId != null) {
+      inRange = inRange.and(EVENT_STORE.ACCOUNT_ID.gt(lastAccountId));
+    }
+    Condition partitionEvents = inRange;
+
+    long accounts =
+        Objects.requireNonNull(
+            streamTransaction.execute(_ -> streamPartition(partitionIndex, partitionEvents)));
+    writeTransaction.executeWithoutResult(_ -> checkpointRepository.complete(partitionIndex));
+    log.info("Rebuilt {} account balances of partition {}", accounts, partitionIndex);
+  }
+
+  private long streamPartition(int partitionIndex, Condition partitionEvents) {
+    List<Row6<UUID, String, BigDecimal, BigDecimal, String, Long>> rows =
+        new ArrayList<>(batchSize);
+    long accounts = 0;
+    try (Cursor<? extends Record> cursor =
+        dslContext
+            .select(
+                EVENT_STORE.ID,
+                EVENT_STORE.ACCOUNT_ID,
+                EVENT_STORE.VERSION,
+                EVENT_STORE.EVENT_TYPE,
+                EVENT_STORE.PAYLOAD,
+                EVENT_STORE.CREATED_AT,
+                EVENT_STORE.EVENT_ID,
+                EVENT_STORE.TRANSACTION_ID)
+            .from(EVENT_STORE)
+            .where(partitionEvents)
+            .orderBy(EVENT_STORE.ACCOUNT_ID, EVENT_STORE.VERSION)
+            .fetchSize(STREAM_FETCH_SIZE)
+            .fetchLazy()) {
+      UUID accountId = null;
+      ProjectionState state = null;
+      for (Record record : cursor) {
+        UUID recordAccountId = record.get(EVENT_STORE.ACCOUNT_ID);
+        if (!recordAccountId.equals(accountId)) {
+          if (accountId != null) {
+            rows.add(toRow(accountId, state));
+            accounts++;
+            if (rows.size() == batchSize) {
+              write(partitionIndex, rows, accountId);
+            }
+          }
+          accountId = recordAccountId;
+          state = ProjectionState.init();
+        }
+        AccountBalanceReadModel.applyEventToState(
+            eventStoreEntryToAccountEventMapper.apply(AccountEventRepository.toEventStore(record)),
+            state);
+      }
+      if (accountId != null) {
+        rows.add(toRow(accountId, state));
+        accounts++;
+        write(partitionIndex, rows, accountId);
+      }
+    }
+    return accounts;
+  }
+
+  private void write(
+      int partitionIndex,
+      List<Row6<UUID, String, BigDecimal, BigDecimal, String, Long>> rows,
+      UUID lastAccountId) {
+    writeTransaction.executeWithoutResult(
+        _ -> {
+          dslContext
+              .insertInto(
+                  target,
+                  target.ACCOUNT_ID,
+                  target.CURRENCY,
+                  target.BALANCE,
+                  target.RESERVED,
+                  target.STATUS,
+                  target.VERSION)
+              .valuesOfRows(rows)
+              .onConflict(target.ACCOUNT_ID)
+              .doUpdate()
+              .set(target.CURRENCY, excluded(target.CURRENCY))
+              .set(target.BALANCE, excluded(target.BALANCE))
+              .set(target.RESERVED, excluded(target.RESERVED))
+              .set(target.STATUS, excluded(target.STATUS))
+              .set(target.VERSION, excluded(target.VERSION))
+              .where(target.VERSION.le(excluded(target.VERSION)))
+              .execute();
+          checkpointRepository.advance(partitionIndex, lastAccountId);
+        });
+    rows.clear();
+  }
+}
@@ -0,0 +1,29 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the {@link AccountBalanceViewRebuild} once the application has started, when launched with
+ * {@code --wealthpay.account.projection.rebuild.on-startup=true}. Launching it again after a crash
+ * resumes the rebuild.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "wealthpay.account.projection.rebuild.on-startup",
+    havingValue = "true")
+class AccountBalanceViewRebuildRunner implements ApplicationRunner {
+
+  private final AccountBalanceViewRebuild accountBalanceViewRebuild;
+
+  AccountBalanceViewRebuildRunner(AccountBalanceViewRebuild accountBalanceViewRebuild) {
+    this.accountBalanceViewRebuild = accountBalanceViewRebuild;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    accountBalanceViewRebuild.rebuild();
+  }
+}
@@ -0,0 +1,140 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBucket.ACCOUNT_BUCKET;
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBucketStream.ACCOUNT_BUCKET_STREAM;
+import static org.jooq.impl.DSL.any;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.girardsimon.wealthpay.account.application.AccountBucketStore;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBucketStreamRecord;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bucket counts of the accounts, read on every credit, debit and balance lookup. They are kept in a
+ * bounded cache, accounts without buckets included, as a count of zero. Entries expire after {@code
+ * timeToLive}, which bounds how long this instance keeps crediting an account directly once another
+ * instance gave it buckets.
+ *
+ * <p>The bucket streams of an account are registered along with its bucket count, so that the
+ * credits they record in the transaction index are keyed on the account, see {@link
+ * AccountTransactionRepository}.
+ */
+@Repository
+public class AccountBucketRepository implements AccountBucketStore {
+
+  static final String CACHE_NAME = "account.buckets";
+
+  private static final int NO_BUCKETS = 0;
+
+  private final DSLContext dslContext;
+  private final Cache<AccountId, Integer> cache;
+
+  public AccountBucketRepository(
+      DSLContext dslContext,
+      MeterRegistry meterRegistry,
+      @Value("${wealthpay.account.buckets.cache.maximum-size}") long cacheMaximumSize,
+      @Value("${wealthpay.account.buckets.cache.time-to-live}") Duration cacheTimeToLive) {
+    this.dslContext = dslContext;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheTimeToLive)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public Optional<AccountBuckets> find(AccountId accountId) {
+    return Optional.ofNullable(findAll(Set.of(accountId)).get(accountId));
+  }
+
+  @Override
+  public Map<AccountId, AccountBuckets> findAll(Collection<AccountId> accountIds) {
+    Map<AccountId, AccountBuckets> buckets = new LinkedHashMap<>();
+    cache
+        .getAll(accountIds, this::loadBucketCounts)
+        .forEach(
+            (accountId, count) -> {
+              if (count != NO_BUCKETS) {
+                buckets.put(accountId, new AccountBuckets(accountId, count));
+              }
+            });
+    return buckets;
+  }
+
+  /*
+   * The account is evicted right away and again once the transaction completes, so that a lookup
+   * made in between does not keep the account without buckets once they are committed.
+   */
+  @Override
+  public boolean add(AccountBuckets buckets) {
+    AccountId accountId = buckets.accountId();
+    int inserted =
+        dslContext
+            .insertInto(ACCOUNT_BUCKET)
+            .set(ACCOUNT_BUCKET.ACCOUNT_ID, accountId.id())
+            .set(ACCOUNT_BUCKET.BUCKET_COUNT, buckets.count())
+            .onConflictDoNothing()
+            .execute();
+    if (inserted == 1) {
+      addStreams(buckets);
+    }
+    cache.invalidate(accountId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              cache.invalidate(accountId);
+            }
+          });
+    }
+    return inserted == 1;
+  }
+
+  private void addStreams(AccountBuckets buckets) {
+    InsertValuesStep2<AccountBucketStreamRecord, UUID, UUID> insert =
+        dslContext
+            .insertInto(ACCOUNT_BUCKET_STREAM)
+            .columns(ACCOUNT_BUCKET_STREAM.BUCKET_ID, ACCOUNT_BUCKET_STREAM.ACCOUNT_ID);
+    for (AccountId bucketId : buckets.bucketIds()) {
+      insert = insert.values(bucketId.id(), buckets.accountId().id());
+    }
+    insert.execute();
+  }
+
+  private Map<AccountId, Integer> loadBucketCounts(Set<? extends AccountId> accountIds) {
+    Map<UUID, Integer> counts =
+        dslContext
+            .select(ACCOUNT_BUCKET.ACCOUNT_ID, ACCOUNT_BUCKET.BUCKET_COUNT)
+            .from(ACCOUNT_BUCKET)
+            .where(
+                ACCOUNT_BUCKET.ACCOUNT_ID.eq(
+                    any(accountIds.stream().map(AccountId::id).toArray(UUID[]::new))))
+            .fetchMap(ACCOUNT_BUCKET.ACCOUNT_ID, ACCOUNT_BUCKET.BUCKET_COUNT);
+    Map<AccountId, Integer> bucketCounts = new HashMap<>(accountIds.size());
+    for (AccountId accountId : accountIds) {
+      bucketCounts.put(accountId, counts.getOrDefault(accountId.id(), NO_BUCKETS));
+    }
+    return bucketCounts;
+  }
+}
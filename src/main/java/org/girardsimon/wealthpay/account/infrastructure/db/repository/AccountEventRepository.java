@@ -1,18 +1,32 @@
 package org.girardsimon.wealthpay.account.infrastructure.db.repository;
 
 import static org.girardsimon.wealthpay.account.jooq.tables.EventStore.EVENT_STORE;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.selectFrom;
+import static org.jooq.impl.DSL.values;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.girardsimon.wealthpay.account.application.AccountEventStore;
 import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
 import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountEventSerializer;
 import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
 import org.girardsimon.wealthpay.account.jooq.tables.pojos.EventStore;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Record5;
+import org.jooq.ResultQuery;
+import org.jooq.Row5;
+import org.jooq.Table;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
@@ -20,39 +34,102 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class AccountEventRepository implements AccountEventStore {
 
+  /*
+   * Events of one append go out as a single multi-row INSERT. Chunking keeps very large bulk
+   * appends below PostgreSQL's limit of 32767 bind parameters per statement.
+   */
+  static final int MAX_ROWS_PER_INSERT = 1_000;
+
+  /*
+   * Rows fetched per round trip while replaying a stream. PostgreSQL only honours the fetch size
+   * inside a transaction; outside of one the driver still buffers the whole result.
+   */
+  static final int REPLAY_FETCH_SIZE = 250;
+
   private final DSLContext dslContext;
   private final EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper;
   private final AccountEventSerializer accountEventSerializer;
+  private final AccountTransactionRepository accountTransactionRepository;
 
   public AccountEventRepository(
       DSLContext dslContext,
       EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper,
-      AccountEventSerializer accountEventSerializer) {
+      AccountEventSerializer accountEventSerializer,
+      AccountTransactionRepository accountTransactionRepository) {
     this.dslContext = dslContext;
     this.eventStoreEntryToAccountEventMapper = eventStoreEntryToAccountEventMapper;
     this.accountEventSerializer = accountEventSerializer;
+    this.accountTransactionRepository = accountTransactionRepository;
   }
 
   @Override
   public List<AccountEvent> loadEvents(AccountId accountId) {
-    UUID accountUuid = accountId.id();
+    return loadEventsAfter(accountId, 0L);
+  }
+
+  @Override
+  public List<AccountEvent> loadEventsAfter(AccountId accountId, long afterVersion) {
+    return loadEventsRange(accountId, afterVersion + 1, Long.MAX_VALUE);
+  }
+
+  @Override
+  public List<AccountEvent> loadEventsRange(AccountId accountId, long fromVersion, long toVersion) {
+    if (fromVersion > toVersion) {
+      throw new IllegalArgumentException(
+          "fromVersion %d must not be greater than toVersion %d".formatted(fromVersion, toVersion));
+    }
+
+    return selectEventsRange(accountId, fromVersion, toVersion)
+        .fetch(AccountEventRepository::toEventStore)
+        .stream()
+        .map(eventStoreEntryToAccountEventMapper)
+        .toList();
+  }
+
+  @Override
+  public void replayEventsAfter(
+      AccountId accountId, long afterVersion, Consumer<? super AccountEvent> consumer) {
+    try (Cursor<? extends Record> cursor =
+        selectEventsRange(accountId, afterVersion + 1, Long.MAX_VALUE)
+            .fetchSize(REPLAY_FETCH_SIZE)
+            .fetchLazy()) {
+      for (Record record : cursor) {
+        consumer.accept(eventStoreEntryToAccountEventMapper.apply(toEventStore(record)));
+      }
+    }
+  }
 
-    List<EventStore> rows =
-        dslContext
-            .select(
-                EVENT_STORE.ID,
-                EVENT_STORE.EVENT_ID,
-                EVENT_STORE.ACCOUNT_ID,
-                EVENT_STORE.VERSION,
-                EVENT_STORE.EVENT_TYPE,
-                EVENT_STORE.PAYLOAD,
-                EVENT_STORE.CREATED_AT)
-            .from(EVENT_STORE)
-            .where(EVENT_STORE.ACCOUNT_ID.eq(accountUuid))
-            .orderBy(EVENT_STORE.VERSION.asc())
-            .fetchInto(EventStore.class);
-
-    return rows.stream().map(eventStoreEntryToAccountEventMapper).toList();
+  static EventStore toEventStore(Record record) {
+    return new EventStore(
+        record.get(EVENT_STORE.ID),
+        record.get(EVENT_STORE.ACCOUNT_ID),
+        record.get(EVENT_STORE.VERSION),
+        record.get(EVENT_STORE.EVENT_TYPE),
+        record.get(EVENT_STORE.PAYLOAD),
+        record.get(EVENT_STORE.CREATED_AT),
+        record.get(EVENT_STORE.EVENT_ID),
+        record.get(EVENT_STORE.TRANSACTION_ID));
+  }
+
+  /*
+   * Both predicates hit the (account_id, version) unique index, so the planner can answer with a
+   * bounded index range scan whatever the length of the stream.
+   */
+  ResultQuery<?> selectEventsRange(AccountId accountId, long fromVersion, long toVersion) {
+    return dslContext
+        .select(
+            EVENT_STORE.ID,
+            EVENT_STORE.EVENT_ID,
+            EVENT_STORE.ACCOUNT_ID,
+            EVENT_STORE.VERSION,
+            EVENT_STORE.EVENT_TYPE,
+            EVENT_STORE.PAYLOAD,
+            EVENT_STORE.CREATED_AT,
+            EVENT_STORE.TRANSACTION_ID)
+        .from(EVENT_STORE)
+        .where(EVENT_STORE.ACCOUNT_ID.eq(accountId.id()))
+        .and(EVENT_STORE.VERSION.between(fromVersion, toVersion))
+        .orderBy(EVENT_STORE.VERSION.asc());
   }
 
   @Override
@@ -63,49 +140,77 @@ public class AccountEventRepository implements AccountEventStore {
 
     UUID accountUuid = accountId.id();
 
-    Long currentVersion =
-        dslContext
-            .select(max(EVENT_STORE.VERSION))
-            .from(EVENT_STORE)
-            .where(EVENT_STORE.ACCOUNT_ID.eq(accountUuid))
-            .fetchOneInto(Long.class);
-
-    long actualVersion = currentVersion != null ? currentVersion : 0L;
-
-    if (actualVersion != expectedVersion) {
-      throw new OptimisticLockingFailureException(
-          "Version mismatch for account %s: expected %d but found %d"
-              .formatted(accountUuid, expectedVersion, actualVersion));
+    long nextExpectedVersion = expectedVersion;
+    for (AccountEvent event : events) {
+      nextExpectedVersion++;
+      if (event.version() != nextExpectedVersion) {
+        throw new IllegalStateException( // This indicates a bug in the calling code, not a
+            // concurrency issue.
+            "Event version gap: expected %d but got %d for account %s"
+                .formatted(nextExpectedVersion, event.version(), accountUuid));
+      }
     }
 
-    long nextExpectedVersion = actualVersion;
-
     try {
-      for (AccountEvent event : events) {
-        nextExpectedVersion++;
-        if (event.version() != nextExpectedVersion) {
-          throw new IllegalStateException( // This indicates a bug in the calling code, not a
-              // concurrency issue.
-              "Event version gap: expected %d but got %d for account %s"
-                  .formatted(nextExpectedVersion, event.version(), accountUuid));
+      for (int from = 0; from < events.size(); from += MAX_ROWS_PER_INSERT) {
+        List<AccountEvent> chunk =
+            events.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, events.size()));
+        int inserted = insertEventsAtVersion(accountUuid, expectedVersion + from, chunk);
+        if (inserted != chunk.size()) {
+          throw new OptimisticLockingFailureException(
+              "Version mismatch for account %s: expected %d"
+                  .formatted(accountUuid, expectedVersion + from));
         }
-        String eventType = event.getClass().getSimpleName();
-        JSONB payload = accountEventSerializer.apply(event);
-
-        dslContext
-            .insertInto(EVENT_STORE)
-            .columns(
-                EVENT_STORE.EVENT_ID,
-                EVENT_STORE.ACCOUNT_ID,
-                EVENT_STORE.VERSION,
-                EVENT_STORE.EVENT_TYPE,
-                EVENT_STORE.PAYLOAD)
-            .values(event.eventId().id(), accountUuid, event.version(), eventType, payload)
-            .execute();
       }
     } catch (DataIntegrityViolationException e) {
       throw new OptimisticLockingFailureException(
           "Concurrent modification detected for account %s".formatted(accountUuid), e);
     }
+
+    // Once the version check passed, so that a conflicting append keeps failing as a conflict.
+    accountTransactionRepository.record(accountId, events);
+  }
+
+  /*
+   * Checks the stream version and writes the events in one statement: the rows are only selected
+   * for insertion when the current version of the stream still equals expectedVersion. Two
+   * concurrent appends reading the same version both pass the check, and the loser is rejected by
+   * uq_event_store_account_version, exactly like a separate pre-read would be.
+   */
+  private int insertEventsAtVersion(
+      UUID accountUuid, long expectedVersion, List<AccountEvent> events) {
+    @SuppressWarnings("unchecked")
+    Row5<UUID, UUID, Long, String, JSONB>[] rows = new Row5[events.size()];
+    for (int i = 0; i < rows.length; i++) {
+      AccountEvent event = events.get(i);
+      String eventType = event.getClass().getSimpleName();
+      JSONB payload = accountEventSerializer.apply(event);
+      rows[i] = row(event.eventId().id(), accountUuid, event.version(), eventType, payload);
+    }
+    Table<Record5<UUID, UUID, Long, String, JSONB>> batch =
+        values(rows)
+            .as(
+                "batch",
+                EVENT_STORE.EVENT_ID.getName(),
+                EVENT_STORE.ACCOUNT_ID.getName(),
+                EVENT_STORE.VERSION.getName(),
+                EVENT_STORE.EVENT_TYPE.getName(),
+                EVENT_STORE.PAYLOAD.getName());
+    Field<Long> currentVersion =
+        field(
+            select(coalesce(max(EVENT_STORE.VERSION), 0L))
+                .from(EVENT_STORE)
+                .where(EVENT_STORE.ACCOUNT_ID.eq(accountUuid)));
+
+    return dslContext
+        .insertInto(EVENT_STORE)
+        .columns(
+            EVENT_STORE.EVENT_ID,
+            EVENT_STORE.ACCOUNT_ID,
+            EVENT_STORE.VERSION,
+            EVENT_STORE.EVENT_TYPE,
+            EVENT_STORE.PAYLOAD)
+        .select(selectFrom(batch).where(currentVersion.eq(expectedVersion)))
+        .execute();
   }
 }
@@ -0,0 +1,46 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Slice of the account id space, from {@code from} inclusive to {@code to} exclusive, or to the end
+ * of the space when {@code to} is {@code null}.
+ *
+ * <p>Bounds follow the PostgreSQL {@code uuid} ordering, which compares the 128 bits as an unsigned
+ * number. Account ids are random, so slices of equal width hold about as many accounts each.
+ */
+record AccountIdRange(UUID from, UUID to) {
+
+  private static final BigInteger ID_SPACE_PREFIXES = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+  AccountIdRange {
+    if (from == null) {
+      throw new IllegalArgumentException("from must not be null");
+    }
+  }
+
+  /** Splits the account id space into {@code count} contiguous ranges of equal width. */
+  static List<AccountIdRange> split(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be >= 1");
+    }
+    List<AccountIdRange> ranges = new ArrayList<>(count);
+    for (int index = 0; index < count; index++) {
+      UUID to = index == count - 1 ? null : lowerBound(index + 1, count);
+      ranges.add(new AccountIdRange(lowerBound(index, count), to));
+    }
+    return List.copyOf(ranges);
+  }
+
+  private static UUID lowerBound(int index, int count) {
+    long mostSignificantBits =
+        ID_SPACE_PREFIXES
+            .multiply(BigInteger.valueOf(index))
+            .divide(BigInteger.valueOf(count))
+            .longValue();
+    return new UUID(mostSignificantBits, 0L);
+  }
+}
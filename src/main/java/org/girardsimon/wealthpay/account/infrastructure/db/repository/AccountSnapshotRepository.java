@@ -0,0 +1,66 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountSnapshot.ACCOUNT_SNAPSHOT;
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+
+import java.util.Optional;
+import org.girardsimon.wealthpay.account.application.AccountSnapshotStore;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotEntryToDomainMapper;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AccountSnapshotRepository implements AccountSnapshotStore {
+
+  private final DSLContext dslContext;
+  private final AccountSnapshotSerializer accountSnapshotSerializer;
+  private final AccountSnapshotEntryToDomainMapper accountSnapshotEntryToDomainMapper;
+
+  public AccountSnapshotRepository(
+      DSLContext dslContext,
+      AccountSnapshotSerializer accountSnapshotSerializer,
+      AccountSnapshotEntryToDomainMapper accountSnapshotEntryToDomainMapper) {
+    this.dslContext = dslContext;
+    this.accountSnapshotSerializer = accountSnapshotSerializer;
+    this.accountSnapshotEntryToDomainMapper = accountSnapshotEntryToDomainMapper;
+  }
+
+  @Override
+  public Optional<AccountSnapshot> loadLatestSnapshot(AccountId accountId) {
+    return dslContext
+        .selectFrom(ACCOUNT_SNAPSHOT)
+        .where(ACCOUNT_SNAPSHOT.ACCOUNT_ID.eq(accountId.id()))
+        .and(ACCOUNT_SNAPSHOT.SCHEMA_VERSION.eq(AccountSnapshotSerializer.SCHEMA_VERSION))
+        .fetchOptional()
+        .map(accountSnapshotEntryToDomainMapper);
+  }
+
+  @Override
+  public void saveSnapshot(AccountSnapshot snapshot) {
+    JSONB state = accountSnapshotSerializer.apply(snapshot);
+
+    // Only replace an older snapshot, or one written with another layout.
+    dslContext
+        .insertInto(ACCOUNT_SNAPSHOT)
+        .set(ACCOUNT_SNAPSHOT.ACCOUNT_ID, snapshot.accountId().id())
+        .set(ACCOUNT_SNAPSHOT.VERSION, snapshot.version())
+        .set(ACCOUNT_SNAPSHOT.SCHEMA_VERSION, AccountSnapshotSerializer.SCHEMA_VERSION)
+        .set(ACCOUNT_SNAPSHOT.STATE, state)
+        .onConflict(ACCOUNT_SNAPSHOT.ACCOUNT_ID)
+        .doUpdate()
+        .set(ACCOUNT_SNAPSHOT.VERSION, snapshot.version())
+        .set(ACCOUNT_SNAPSHOT.SCHEMA_VERSION, AccountSnapshotSerializer.SCHEMA_VERSION)
+        .set(ACCOUNT_SNAPSHOT.STATE, state)
+        .set(ACCOUNT_SNAPSHOT.CREATED_AT, currentOffsetDateTime())
+        .where(
+            ACCOUNT_SNAPSHOT
+                .VERSION
+                .lt(snapshot.version())
+                .or(ACCOUNT_SNAPSHOT.SCHEMA_VERSION.ne(AccountSnapshotSerializer.SCHEMA_VERSION)))
+        .execute();
+  }
+}
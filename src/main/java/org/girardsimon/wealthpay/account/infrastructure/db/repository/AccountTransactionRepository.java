@@ -0,0 +1,213 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBucketStream.ACCOUNT_BUCKET_STREAM;
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountTransaction.ACCOUNT_TRANSACTION;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.val;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.girardsimon.wealthpay.account.application.AccountTransactionIndex;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountTransactionRecord;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep3;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Transaction id index of the credits and debits of each account, written by {@link
+ * AccountEventRepository} in the transaction appending their events. The primary key on (account
+ * id, transaction id) makes a replayed credit or debit fail its append, and answers {@link
+ * #findVersion} with a single probe. Credits appended to a bucket stream are keyed on the account
+ * owning the bucket, resolved by the insert itself, so a credit replayed on the account or on
+ * another of its buckets is rejected as well.
+ *
+ * <p>A {@link TransactionIdBloomFilter} in front of the table answers most lookups of a transaction
+ * id never seen, the common case, without querying it. The filter is filled from the table once the
+ * application is ready, and probes are made for every lookup until then. It only learns the
+ * transactions appended by this instance: one recorded by another instance can be missed, in which
+ * case the command is handled and its append fails on the primary key.
+ */
+@Repository
+public class AccountTransactionRepository implements AccountTransactionIndex {
+
+  /* Rows read per query while filling the filter, walking the primary key. */
+  static final int WARM_UP_PAGE_SIZE = 10_000;
+
+  private static final Logger log = LoggerFactory.getLogger(AccountTransactionRepository.class);
+
+  private final DSLContext dslContext;
+  private final TransactionIdBloomFilter filter;
+  private volatile boolean warm;
+
+  public AccountTransactionRepository(
+      DSLContext dslContext,
+      @Value("${wealthpay.account.transaction-index.filter.expected-insertions}")
+          long expectedInsertions,
+      @Value("${wealthpay.account.transaction-index.filter.false-positive-probability}")
+          double falsePositiveProbability) {
+    this.dslContext = dslContext;
+    this.filter = new TransactionIdBloomFilter(expectedInsertions, falsePositiveProbability);
+  }
+
+  @Override
+  public Optional<Long> findVersion(AccountId accountId, TransactionId transactionId) {
+    if (warm && !filter.mightContain(accountId.id(), transactionId.id())) {
+      return Optional.empty();
+    }
+    return dslContext
+        .select(ACCOUNT_TRANSACTION.VERSION)
+        .from(ACCOUNT_TRANSACTION)
+        .where(ACCOUNT_TRANSACTION.ACCOUNT_ID.eq(accountId.id()))
+        .and(ACCOUNT_TRANSACTION.TRANSACTION_ID.eq(transactionId.id()))
+        .fetchOptional(ACCOUNT_TRANSACTION.VERSION);
+  }
+
+  /*
+   * Rows already present, committed or written by a concurrent transaction that then commits, are
+   * skipped rather than failing the statement, so the duplicates can be named. The filter learns
+   * every transaction id before the duplicate is thrown: one recorded by another instance would be
+   * unknown to it, and the lookup answering the rejected replay would not probe the table.
+   */
+  void record(AccountId accountId, List<AccountEvent> events) {
+    UUID accountUuid = accountId.id();
+    Field<UUID> stream = val(accountUuid);
+    Field<UUID> creditOwner =
+        coalesce(
+            field(
+                select(ACCOUNT_BUCKET_STREAM.ACCOUNT_ID)
+                    .from(ACCOUNT_BUCKET_STREAM)
+                    .where(ACCOUNT_BUCKET_STREAM.BUCKET_ID.eq(accountUuid))),
+            stream);
+    InsertValuesStep3<AccountTransactionRecord, UUID, UUID, Long> insert =
+        dslContext
+            .insertInto(ACCOUNT_TRANSACTION)
+            .columns(
+                ACCOUNT_TRANSACTION.ACCOUNT_ID,
+                ACCOUNT_TRANSACTION.TRANSACTION_ID,
+                ACCOUNT_TRANSACTION.VERSION);
+    List<UUID> transactionIds = new ArrayList<>();
+    Set<UUID> creditIds = new HashSet<>();
+    for (AccountEvent event : events) {
+      TransactionId transactionId =
+          switch (event) {
+            case FundsCredited fundsCredited -> fundsCredited.transactionId();
+            case FundsDebited fundsDebited -> fundsDebited.transactionId();
+            default -> null;
+          };
+      if (transactionId != null) {
+        boolean credit = event instanceof FundsCredited;
+        insert =
+            insert.values(
+                credit ? creditOwner : stream, val(transactionId.id()), val(event.version()));
+        transactionIds.add(transactionId.id());
+        if (credit) {
+          creditIds.add(transactionId.id());
+        }
+      }
+    }
+    if (transactionIds.isEmpty()) {
+      return;
+    }
+
+    Set<UUID> inserted = new HashSet<>();
+    for (Record2<UUID, UUID> row :
+        insert
+            .onConflictDoNothing()
+            .returningResult(ACCOUNT_TRANSACTION.ACCOUNT_ID, ACCOUNT_TRANSACTION.TRANSACTION_ID)
+            .fetch()) {
+      filter.put(row.value1(), row.value2());
+      inserted.add(row.value2());
+    }
+    if (inserted.size() == transactionIds.size()) {
+      return;
+    }
+    UUID creditOwnerId = creditIds.isEmpty() ? accountUuid : findOwner(accountUuid);
+    DuplicateTransactionException duplicate = null;
+    for (UUID transactionId : transactionIds) {
+      if (!inserted.contains(transactionId)) {
+        UUID owner = creditIds.contains(transactionId) ? creditOwnerId : accountUuid;
+        filter.put(owner, transactionId);
+        if (duplicate == null) {
+          duplicate =
+              new DuplicateTransactionException(
+                  AccountId.of(owner), TransactionId.of(transactionId));
+        }
+      }
+    }
+    throw duplicate;
+  }
+
+  private UUID findOwner(UUID accountId) {
+    return dslContext
+        .select(ACCOUNT_BUCKET_STREAM.ACCOUNT_ID)
+        .from(ACCOUNT_BUCKET_STREAM)
+        .where(ACCOUNT_BUCKET_STREAM.BUCKET_ID.eq(accountId))
+        .fetchOptional(ACCOUNT_BUCKET_STREAM.ACCOUNT_ID)
+        .orElse(accountId);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  void warmUp() {
+    Thread.ofVirtual()
+        .name("account-transaction-index-warm-up")
+        .start(
+            () -> {
+              try {
+                fillFilter();
+              } catch (RuntimeException e) {
+                log.warn("Transaction id filter not filled, every lookup probes the table", e);
+              }
+            });
+  }
+
+  void fillFilter() {
+    long rows = 0L;
+    Record2<UUID, UUID> last = null;
+    while (true) {
+      Condition after =
+          last == null
+              ? noCondition()
+              : row(ACCOUNT_TRANSACTION.ACCOUNT_ID, ACCOUNT_TRANSACTION.TRANSACTION_ID)
+                  .gt(last.value1(), last.value2());
+      Result<Record2<UUID, UUID>> page =
+          dslContext
+              .select(ACCOUNT_TRANSACTION.ACCOUNT_ID, ACCOUNT_TRANSACTION.TRANSACTION_ID)
+              .from(ACCOUNT_TRANSACTION)
+              .where(after)
+              .orderBy(ACCOUNT_TRANSACTION.ACCOUNT_ID, ACCOUNT_TRANSACTION.TRANSACTION_ID)
+              .limit(WARM_UP_PAGE_SIZE)
+              .fetch();
+      page.forEach(record -> filter.put(record.value1(), record.value2()));
+      rows += page.size();
+      if (page.size() < WARM_UP_PAGE_SIZE) {
+        break;
+      }
+      last = page.getLast();
+    }
+    warm = true;
+    log.info("Transaction id filter filled with {} transactions", rows);
+  }
+}
@@ -0,0 +1,95 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.girardsimon.wealthpay.account.jooq.tables.IdempotentRequest.IDEMPOTENT_REQUEST;
+import static org.jooq.impl.DSL.excluded;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.girardsimon.wealthpay.account.application.IdempotentRequest;
+import org.girardsimon.wealthpay.account.application.IdempotentRequestStore;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.jooq.DSLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Idempotency keys claimed by requests, kept for {@code retention}. A key older than that is
+ * claimed again as if it were new, and periodically purged.
+ *
+ * <p>The claim is a single insert on the key: when another transaction inserted the same key and
+ * has not completed yet, PostgreSQL makes the insert wait for it, so a concurrent duplicate only
+ * reads the request it raced once that request committed, or claims the key if it rolled back.
+ */
+@Repository
+public class IdempotentRequestRepository implements IdempotentRequestStore {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotentRequestRepository.class);
+
+  private final DSLContext dslContext;
+  private final Clock clock;
+  private final Duration retention;
+
+  public IdempotentRequestRepository(
+      DSLContext dslContext,
+      Clock clock,
+      @Value("${wealthpay.account.idempotency.retention}") Duration retention) {
+    if (retention.isNegative() || retention.isZero()) {
+      throw new IllegalArgumentException("retention must be positive");
+    }
+    this.dslContext = dslContext;
+    this.clock = clock;
+    this.retention = retention;
+  }
+
+  @Override
+  public Optional<IdempotentRequest> claim(IdempotentRequest request) {
+    OffsetDateTime now = OffsetDateTime.now(clock);
+    int claimed =
+        dslContext
+            .insertInto(IDEMPOTENT_REQUEST)
+            .set(IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY, request.idempotencyKey())
+            .set(IDEMPOTENT_REQUEST.REQUEST_FINGERPRINT, request.requestFingerprint())
+            .set(IDEMPOTENT_REQUEST.ACCOUNT_ID, request.accountId().id())
+            .set(IDEMPOTENT_REQUEST.CREATED_AT, now)
+            .onConflict(IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY)
+            .doUpdate()
+            .set(
+                IDEMPOTENT_REQUEST.REQUEST_FINGERPRINT,
+                excluded(IDEMPOTENT_REQUEST.REQUEST_FINGERPRINT))
+            .set(IDEMPOTENT_REQUEST.ACCOUNT_ID, excluded(IDEMPOTENT_REQUEST.ACCOUNT_ID))
+            .set(IDEMPOTENT_REQUEST.CREATED_AT, excluded(IDEMPOTENT_REQUEST.CREATED_AT))
+            .where(IDEMPOTENT_REQUEST.CREATED_AT.lt(now.minus(retention)))
+            .execute();
+    if (claimed == 1) {
+      return Optional.empty();
+    }
+
+    return dslContext
+        .selectFrom(IDEMPOTENT_REQUEST)
+        .where(IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY.eq(request.idempotencyKey()))
+        .fetchOptional()
+        .map(
+            record ->
+                new IdempotentRequest(
+                    record.getIdempotencyKey(),
+                    record.getRequestFingerprint(),
+                    AccountId.of(record.getAccountId())));
+  }
+
+  @Scheduled(fixedDelayString = "${wealthpay.account.idempotency.purge-interval}")
+  public void purgeExpired() {
+    int purged =
+        dslContext
+            .deleteFrom(IDEMPOTENT_REQUEST)
+            .where(IDEMPOTENT_REQUEST.CREATED_AT.lt(OffsetDateTime.now(clock).minus(retention)))
+            .execute();
+    if (purged > 0) {
+      log.info("Purged {} expired idempotency keys", purged);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+/** How {@link AccountBalanceViewRebuild} writes the rebuilt balances. */
+public enum RebuildMode {
+  /** Rows of {@code account_balance_view} are overwritten while readers keep querying it. */
+  IN_PLACE,
+  /**
+   * Balances are rebuilt into a shadow copy of {@code account_balance_view}, caught up with the
+   * event feed, then swapped with the live table in a single transaction.
+   */
+  SHADOW
+}
@@ -0,0 +1,71 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over (account id, transaction id) pairs, safe for concurrent use. {@link
+ * #mightContain} never answers false for a pair that was {@link #put}; it answers true for a pair
+ * that was not with a probability close to {@code falsePositiveProbability} until more than {@code
+ * expectedInsertions} pairs are put, and growing past it.
+ */
+final class TransactionIdBloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  TransactionIdBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+    if (expectedInsertions < 1) {
+      throw new IllegalArgumentException("expectedInsertions must be >= 1");
+    }
+    if (!(falsePositiveProbability > 0.0 && falsePositiveProbability < 1.0)) {
+      throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+    }
+    double ln2 = Math.log(2);
+    long bits =
+        (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+    this.words = new AtomicLongArray(Math.toIntExact((bits + Long.SIZE - 1) / Long.SIZE));
+    this.bitCount = (long) words.length() * Long.SIZE;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+  }
+
+  void put(UUID accountId, UUID transactionId) {
+    long h1 = firstHash(accountId, transactionId);
+    long h2 = secondHash(accountId, transactionId);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      long mask = 1L << bit;
+      words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+    }
+  }
+
+  boolean mightContain(UUID accountId, UUID transactionId) {
+    long h1 = firstHash(accountId, transactionId);
+    long h2 = secondHash(accountId, transactionId);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /* Both hashes feed Kirsch-Mitzenmacher double hashing: hash i is h1 + i * h2. */
+  private static long firstHash(UUID accountId, UUID transactionId) {
+    return mix(accountId.getMostSignificantBits() ^ mix(transactionId.getLeastSignificantBits()));
+  }
+
+  private static long secondHash(UUID accountId, UUID transactionId) {
+    return mix(accountId.getLeastSignificantBits() ^ mix(transactionId.getMostSignificantBits()))
+        | 1L;
+  }
+
+  /* Finalizer of SplitMix64. */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -9,11 +9,29 @@ import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
 import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
 import org.girardsimon.wealthpay.account.domain.event.ReservationCancelled;
 import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
+import org.girardsimon.wealthpay.account.domain.model.Money;
 import org.jooq.JSONB;
 import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.core.io.SegmentedStringWriter;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.core.util.BufferRecycler;
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.SerializationConfig;
 
+/**
+ * Writes event payloads straight through a streaming {@link JsonGenerator}, without building an
+ * intermediate tree. The payload is written into a {@link SegmentedStringWriter} whose segments,
+ * like the generator's own buffers, are borrowed from the factory's recycler pool, so the only
+ * allocation per event besides the generator is the payload string. Field names are pre-encoded
+ * once.
+ *
+ * <p>Payloads are compact and fields are written in a fixed order, so the stored bytes of a given
+ * event never change across releases.
+ */
 @Component
 public class AccountEventSerializer implements Function<AccountEvent, JSONB> {
 
@@ -24,75 +42,129 @@ public class AccountEventSerializer implements Function<AccountEvent, JSONB> {
   public static final String RESERVATION_ID = "reservationId";
   public static final String INITIAL_BALANCE = "initialBalance";
 
-  private final ObjectMapper objectMapper;
+  private static final SerializableString OCCURRED_AT_NAME = new SerializedString(OCCURRED_AT);
+  private static final SerializableString CURRENCY_NAME = new SerializedString(CURRENCY);
+  private static final SerializableString AMOUNT_NAME = new SerializedString(AMOUNT);
+  private static final SerializableString TRANSACTION_ID_NAME =
+      new SerializedString(TRANSACTION_ID);
+  private static final SerializableString RESERVATION_ID_NAME =
+      new SerializedString(RESERVATION_ID);
+  private static final SerializableString INITIAL_BALANCE_NAME =
+      new SerializedString(INITIAL_BALANCE);
+
+  private final TokenStreamFactory tokenStreamFactory;
+  private final ObjectWriteContext writeContext;
 
   public AccountEventSerializer(ObjectMapper objectMapper) {
-    this.objectMapper = objectMapper;
+    this.tokenStreamFactory = objectMapper.tokenStreamFactory();
+    this.writeContext = new MapperFeaturesWriteContext(objectMapper.serializationConfig());
   }
 
-  private static void mapReservationCancelledPayload(
-      ObjectNode root, ReservationCancelled reservationCancelled) {
-    root.putPOJO(RESERVATION_ID, reservationCancelled.reservationId().id().toString());
-    root.putPOJO(CURRENCY, reservationCancelled.money().currency().name());
-    root.putPOJO(AMOUNT, reservationCancelled.money().amount());
-    root.putPOJO(OCCURRED_AT, reservationCancelled.occurredAt().toString());
+  private static void writeMoney(JsonGenerator generator, Money money) {
+    generator.writeName(CURRENCY_NAME);
+    generator.writeString(money.currency().name());
+    generator.writeName(AMOUNT_NAME);
+    generator.writeNumber(money.amount());
   }
 
-  private static void mapFundsReservedPayload(ObjectNode root, FundsReserved fundsReserved) {
-    root.putPOJO(RESERVATION_ID, fundsReserved.reservationId().id().toString());
-    root.putPOJO(CURRENCY, fundsReserved.money().currency().name());
-    root.putPOJO(AMOUNT, fundsReserved.money().amount());
-    root.putPOJO(OCCURRED_AT, fundsReserved.occurredAt().toString());
+  private static void writeReservationCancelledPayload(
+      JsonGenerator generator, ReservationCancelled reservationCancelled) {
+    generator.writeName(RESERVATION_ID_NAME);
+    generator.writeString(reservationCancelled.reservationId().id().toString());
+    writeMoney(generator, reservationCancelled.money());
   }
 
-  private static void mapFundsCreditedPayload(ObjectNode root, FundsCredited fundsCredited) {
-    root.putPOJO(TRANSACTION_ID, fundsCredited.transactionId().id().toString());
-    root.putPOJO(CURRENCY, fundsCredited.money().currency().name());
-    root.putPOJO(AMOUNT, fundsCredited.money().amount());
-    root.putPOJO(OCCURRED_AT, fundsCredited.occurredAt().toString());
+  private static void writeFundsReservedPayload(
+      JsonGenerator generator, FundsReserved fundsReserved) {
+    generator.writeName(RESERVATION_ID_NAME);
+    generator.writeString(fundsReserved.reservationId().id().toString());
+    writeMoney(generator, fundsReserved.money());
   }
 
-  private static void mapFundsDebitedPayload(ObjectNode root, FundsDebited fundsDebited) {
-    root.putPOJO(TRANSACTION_ID, fundsDebited.transactionId().id().toString());
-    root.putPOJO(CURRENCY, fundsDebited.money().currency().name());
-    root.putPOJO(AMOUNT, fundsDebited.money().amount());
-    root.putPOJO(OCCURRED_AT, fundsDebited.occurredAt().toString());
+  private static void writeFundsCreditedPayload(
+      JsonGenerator generator, FundsCredited fundsCredited) {
+    generator.writeName(TRANSACTION_ID_NAME);
+    generator.writeString(fundsCredited.transactionId().id().toString());
+    writeMoney(generator, fundsCredited.money());
   }
 
-  private static void mapAccountClosedPayload(ObjectNode root, AccountClosed accountClosed) {
-    root.putPOJO(OCCURRED_AT, accountClosed.occurredAt().toString());
+  private static void writeFundsDebitedPayload(JsonGenerator generator, FundsDebited fundsDebited) {
+    generator.writeName(TRANSACTION_ID_NAME);
+    generator.writeString(fundsDebited.transactionId().id().toString());
+    writeMoney(generator, fundsDebited.money());
   }
 
-  private static void mapReservationCapturedPayload(
-      ObjectNode root, ReservationCaptured reservationCaptured) {
-    root.putPOJO(RESERVATION_ID, reservationCaptured.reservationId().id().toString());
-    root.putPOJO(CURRENCY, reservationCaptured.money().currency().name());
-    root.putPOJO(AMOUNT, reservationCaptured.money().amount());
-    root.putPOJO(OCCURRED_AT, reservationCaptured.occurredAt().toString());
+  private static void writeReservationCapturedPayload(
+      JsonGenerator generator, ReservationCaptured reservationCaptured) {
+    generator.writeName(RESERVATION_ID_NAME);
+    generator.writeString(reservationCaptured.reservationId().id().toString());
+    writeMoney(generator, reservationCaptured.money());
   }
 
-  private static void mapAccountOpenedPayload(ObjectNode root, AccountOpened accountOpened) {
-    root.putPOJO(CURRENCY, accountOpened.currency().name());
-    root.putPOJO(INITIAL_BALANCE, accountOpened.initialBalance().amount());
-    root.putPOJO(OCCURRED_AT, accountOpened.occurredAt().toString());
+  private static void writeAccountOpenedPayload(
+      JsonGenerator generator, AccountOpened accountOpened) {
+    generator.writeName(CURRENCY_NAME);
+    generator.writeString(accountOpened.currency().name());
+    generator.writeName(INITIAL_BALANCE_NAME);
+    generator.writeNumber(accountOpened.initialBalance().amount());
   }
 
   @Override
   public JSONB apply(AccountEvent accountEvent) {
-    ObjectNode root = objectMapper.createObjectNode();
-    switch (accountEvent) {
-      case AccountClosed accountClosed -> mapAccountClosedPayload(root, accountClosed);
-      case AccountOpened accountOpened -> mapAccountOpenedPayload(root, accountOpened);
-      case FundsCredited fundsCredited -> mapFundsCreditedPayload(root, fundsCredited);
-      case FundsDebited fundsDebited -> mapFundsDebitedPayload(root, fundsDebited);
-      case FundsReserved fundsReserved -> mapFundsReservedPayload(root, fundsReserved);
-      case ReservationCancelled reservationCancelled ->
-          mapReservationCancelledPayload(root, reservationCancelled);
-      case ReservationCaptured reservationCaptured ->
-          mapReservationCapturedPayload(root, reservationCaptured);
+    BufferRecycler bufferRecycler = tokenStreamFactory._getBufferRecycler();
+    try (SegmentedStringWriter writer = new SegmentedStringWriter(bufferRecycler)) {
+      write(accountEvent, writer);
+      return JSONB.valueOf(writer.getAndClear());
+    } finally {
+      bufferRecycler.releaseToPool();
+    }
+  }
+
+  private void write(AccountEvent accountEvent, SegmentedStringWriter writer) {
+    try (JsonGenerator generator = tokenStreamFactory.createGenerator(writeContext, writer)) {
+      generator.writeStartObject();
+      switch (accountEvent) {
+        case AccountClosed _ -> {
+          // No payload besides the occurrence date
+        }
+        case AccountOpened accountOpened -> writeAccountOpenedPayload(generator, accountOpened);
+        case FundsCredited fundsCredited -> writeFundsCreditedPayload(generator, fundsCredited);
+        case FundsDebited fundsDebited -> writeFundsDebitedPayload(generator, fundsDebited);
+        case FundsReserved fundsReserved -> writeFundsReservedPayload(generator, fundsReserved);
+        case ReservationCancelled reservationCancelled ->
+            writeReservationCancelledPayload(generator, reservationCancelled);
+        case ReservationCaptured reservationCaptured ->
+            writeReservationCapturedPayload(generator, reservationCaptured);
+      }
+      generator.writeName(OCCURRED_AT_NAME);
+      generator.writeString(accountEvent.occurredAt().toString());
+      generator.writeEndObject();
+    }
+  }
+
+  /*
+   * Only payload scalars are written, so the generator needs no serializer lookup: a bare write
+   * context carrying the mapper's stream and format features avoids building a full serialization
+   * context per event.
+   */
+  private static final class MapperFeaturesWriteContext extends ObjectWriteContext.Base {
+
+    private final int streamWriteFeatures;
+    private final int formatWriteFeatures;
+
+    private MapperFeaturesWriteContext(SerializationConfig serializationConfig) {
+      this.streamWriteFeatures = serializationConfig.getStreamWriteFeatures();
+      this.formatWriteFeatures = serializationConfig.getFormatWriteFeatures();
     }
 
-    String jsonString = objectMapper.writeValueAsString(root);
-    return JSONB.valueOf(jsonString);
+    @Override
+    public int getStreamWriteFeatures(int defaults) {
+      return streamWriteFeatures;
+    }
+
+    @Override
+    public int getFormatWriteFeatures(int defaults) {
+      return formatWriteFeatures;
+    }
   }
 }
@@ -0,0 +1,58 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
+
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer.AMOUNT;
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer.BALANCE;
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer.CURRENCY;
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer.RESERVATIONS;
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer.RESERVATION_ID;
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer.STATUS;
+import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.MapperUtils.getRequiredField;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountSnapshotRecord;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+@Component
+public class AccountSnapshotEntryToDomainMapper
+    implements Function<AccountSnapshotRecord, AccountSnapshot> {
+
+  private final ObjectMapper objectMapper;
+
+  public AccountSnapshotEntryToDomainMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public AccountSnapshot apply(AccountSnapshotRecord entry) {
+    JsonNode root = objectMapper.readTree(entry.getState().data());
+
+    SupportedCurrency currency =
+        SupportedCurrency.valueOf(getRequiredField(root, CURRENCY).asString());
+    Map<ReservationId, Money> reservations = new HashMap<>();
+    for (JsonNode reservation : getRequiredField(root, RESERVATIONS)) {
+      reservations.put(
+          ReservationId.of(
+              UUID.fromString(getRequiredField(reservation, RESERVATION_ID).asString())),
+          Money.of(getRequiredField(reservation, AMOUNT).decimalValue(), currency));
+    }
+
+    return new AccountSnapshot(
+        AccountId.of(entry.getAccountId()),
+        currency,
+        Money.of(getRequiredField(root, BALANCE).decimalValue(), currency),
+        AccountStatus.valueOf(getRequiredField(root, STATUS).asString()),
+        entry.getVersion(),
+        reservations);
+  }
+}
@@ -0,0 +1,57 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Function;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.jooq.JSONB;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+@Component
+public class AccountSnapshotSerializer implements Function<AccountSnapshot, JSONB> {
+
+  /**
+   * Layout version of the serialized state. Bump it whenever the layout changes: snapshots stored
+   * with another version are ignored on load, so the aggregate is rebuilt from its events instead
+   * of being read with the wrong layout.
+   */
+  public static final int SCHEMA_VERSION = 1;
+
+  public static final String CURRENCY = "currency";
+  public static final String BALANCE = "balance";
+  public static final String STATUS = "status";
+  public static final String RESERVATIONS = "reservations";
+  public static final String RESERVATION_ID = "reservationId";
+  public static final String AMOUNT = "amount";
+
+  private final ObjectMapper objectMapper;
+
+  public AccountSnapshotSerializer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public JSONB apply(AccountSnapshot snapshot) {
+    ObjectNode root = objectMapper.createObjectNode();
+    root.putPOJO(CURRENCY, snapshot.currency().name());
+    root.putPOJO(BALANCE, snapshot.balance().amount());
+    root.putPOJO(STATUS, snapshot.status().name());
+    ArrayNode reservations = root.putArray(RESERVATIONS);
+    snapshot.reservations().entrySet().stream()
+        .sorted(Comparator.comparing(entry -> entry.getKey().id()))
+        .forEach(entry -> mapReservation(reservations.addObject(), entry));
+
+    String jsonString = objectMapper.writeValueAsString(root);
+    return JSONB.valueOf(jsonString);
+  }
+
+  private static void mapReservation(ObjectNode node, Map.Entry<ReservationId, Money> reservation) {
+    node.putPOJO(RESERVATION_ID, reservation.getKey().id().toString());
+    node.putPOJO(AMOUNT, reservation.getValue().amount());
+  }
+}
@@ -1,9 +1,8 @@
 package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
 
-import static org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.MapperUtils.getRequiredField;
-
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import org.girardsimon.wealthpay.account.domain.event.AccountClosed;
@@ -23,9 +22,20 @@ import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
 import org.girardsimon.wealthpay.account.domain.model.TransactionId;
 import org.girardsimon.wealthpay.account.jooq.tables.pojos.EventStore;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.JsonNode;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.ObjectMapper;
 
+/**
+ * Decodes event store rows with a single pass of a streaming {@link JsonParser} over the payload.
+ *
+ * <p>The {@code event_type} column selects a decoder from a table built once, and payload scalars
+ * are read straight from the parser buffer: UUIDs and instants are decoded from the raw characters
+ * and amounts are parsed as {@link BigDecimal} without going through a {@code double}.
+ */
 @Component
 public class EventStoreEntryToAccountEventMapper implements Function<EventStore, AccountEvent> {
 
@@ -36,111 +46,166 @@ public class EventStoreEntryToAccountEventMapper implements Function<EventStore,
   public static final String INITIAL_BALANCE = "initialBalance";
   public static final String TRANSACTION_ID = "transactionId";
 
-  private final ObjectMapper objectMapper;
+  private static final SupportedCurrency[] CURRENCIES = SupportedCurrency.values();
+
+  private static final Map<String, EventDecoder> DECODERS =
+      Map.of(
+          "AccountOpened",
+          (meta, payload) -> {
+            SupportedCurrency currency = payload.required(payload.currency, CURRENCY);
+            BigDecimal initialBalance = payload.required(payload.initialBalance, INITIAL_BALANCE);
+            return new AccountOpened(meta, currency, Money.of(initialBalance, currency));
+          },
+          "AccountClosed",
+          (meta, payload) -> new AccountClosed(meta),
+          "ReservationCaptured",
+          (meta, payload) ->
+              new ReservationCaptured(meta, payload.reservationId(), payload.money()),
+          "FundsCredited",
+          (meta, payload) -> new FundsCredited(meta, payload.transactionId(), payload.money()),
+          "FundsDebited",
+          (meta, payload) -> new FundsDebited(meta, payload.transactionId(), payload.money()),
+          "FundsReserved",
+          (meta, payload) -> new FundsReserved(meta, payload.reservationId(), payload.money()),
+          "ReservationCancelled",
+          (meta, payload) ->
+              new ReservationCancelled(meta, payload.reservationId(), payload.money()));
+
+  private final TokenStreamFactory tokenStreamFactory;
+  private final ObjectReadContext readContext;
 
   public EventStoreEntryToAccountEventMapper(ObjectMapper objectMapper) {
-    this.objectMapper = objectMapper;
-  }
-
-  private static Money extractMoney(JsonNode root) {
-    SupportedCurrency currency =
-        SupportedCurrency.valueOf(getRequiredField(root, CURRENCY).asString());
-    BigDecimal amount = getRequiredField(root, AMOUNT).decimalValue();
-    return Money.of(amount, currency);
+    this.tokenStreamFactory = objectMapper.tokenStreamFactory();
+    this.readContext = new MapperFeaturesReadContext(objectMapper.deserializationConfig());
   }
 
-  private static AccountEventMeta getAccountEventMeta(EventStore eventStore, JsonNode root) {
-    return AccountEventMeta.of(
-        EventId.of(eventStore.getEventId()),
-        AccountId.of(eventStore.getAccountId()),
-        Instant.parse(getRequiredField(root, OCCURRED_AT).asString()),
-        eventStore.getVersion());
+  private static SupportedCurrency parseCurrency(char[] chars, int offset, int length) {
+    for (SupportedCurrency currency : CURRENCIES) {
+      if (MapperUtils.contentEquals(currency.name(), chars, offset, length)) {
+        return currency;
+      }
+    }
+    return SupportedCurrency.valueOf(new String(chars, offset, length));
   }
 
   @Override
   public AccountEvent apply(EventStore eventStore) {
     String eventType = eventStore.getEventType();
-
-    return switch (eventType) {
-      case "AccountOpened" -> mapAccountOpened(eventStore);
-      case "AccountClosed" -> mapAccountClosed(eventStore);
-      case "ReservationCaptured" -> mapReservationCaptured(eventStore);
-      case "FundsCredited" -> mapFundsCredited(eventStore);
-      case "FundsDebited" -> mapFundsDebited(eventStore);
-      case "FundsReserved" -> mapFundsReserved(eventStore);
-      case "ReservationCancelled" -> mapReservationCancelled(eventStore);
-      default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
-    };
-  }
-
-  private ReservationCancelled mapReservationCancelled(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
-
-    String reservationId = getRequiredField(root, RESERVATION_ID).asString();
-
-    return new ReservationCancelled(
-        getAccountEventMeta(eventStore, root),
-        ReservationId.of(UUID.fromString(reservationId)),
-        extractMoney(root));
-  }
-
-  private FundsReserved mapFundsReserved(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
-
-    String reservationId = getRequiredField(root, RESERVATION_ID).asString();
-
-    return new FundsReserved(
-        getAccountEventMeta(eventStore, root),
-        ReservationId.of(UUID.fromString(reservationId)),
-        extractMoney(root));
+    EventDecoder decoder = DECODERS.get(eventType);
+    if (decoder == null) {
+      throw new IllegalArgumentException("Unknown event type: " + eventType);
+    }
+
+    Payload payload = parse(eventStore.getPayload().data());
+    AccountEventMeta meta =
+        AccountEventMeta.of(
+            EventId.of(eventStore.getEventId()),
+            AccountId.of(eventStore.getAccountId()),
+            payload.required(payload.occurredAt, OCCURRED_AT),
+            eventStore.getVersion());
+    return decoder.decode(meta, payload);
   }
 
-  private FundsDebited mapFundsDebited(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
-
-    String transactionId = root.get(TRANSACTION_ID).asString();
-
-    return new FundsDebited(
-        getAccountEventMeta(eventStore, root),
-        TransactionId.of(UUID.fromString(transactionId)),
-        extractMoney(root));
+  private Payload parse(String json) {
+    Payload payload = new Payload();
+    try (JsonParser parser = tokenStreamFactory.createParser(readContext, json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Event payload must be a JSON object");
+      }
+      String name;
+      while ((name = parser.nextName()) != null) {
+        JsonToken value = parser.nextToken();
+        if (value == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        switch (name) {
+          case OCCURRED_AT ->
+              payload.occurredAt =
+                  MapperUtils.parseInstant(
+                      parser.getStringCharacters(),
+                      parser.getStringOffset(),
+                      parser.getStringLength());
+          case CURRENCY ->
+              payload.currency =
+                  parseCurrency(
+                      parser.getStringCharacters(),
+                      parser.getStringOffset(),
+                      parser.getStringLength());
+          case AMOUNT -> payload.amount = parser.getDecimalValue();
+          case INITIAL_BALANCE -> payload.initialBalance = parser.getDecimalValue();
+          case TRANSACTION_ID ->
+              payload.transactionId =
+                  MapperUtils.parseUuid(
+                      parser.getStringCharacters(),
+                      parser.getStringOffset(),
+                      parser.getStringLength());
+          case RESERVATION_ID ->
+              payload.reservationId =
+                  MapperUtils.parseUuid(
+                      parser.getStringCharacters(),
+                      parser.getStringOffset(),
+                      parser.getStringLength());
+          default -> parser.skipChildren();
+        }
+      }
+    }
+    return payload;
   }
 
-  private FundsCredited mapFundsCredited(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
-
-    String transactionId = getRequiredField(root, TRANSACTION_ID).asString();
-
-    return new FundsCredited(
-        getAccountEventMeta(eventStore, root),
-        TransactionId.of(UUID.fromString(transactionId)),
-        extractMoney(root));
+  @FunctionalInterface
+  private interface EventDecoder {
+    AccountEvent decode(AccountEventMeta meta, Payload payload);
   }
 
-  private AccountClosed mapAccountClosed(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
-    return new AccountClosed(getAccountEventMeta(eventStore, root));
+  /** Union of the fields any event payload may carry, filled in a single parsing pass. */
+  private static final class Payload {
+
+    private Instant occurredAt;
+    private SupportedCurrency currency;
+    private BigDecimal amount;
+    private BigDecimal initialBalance;
+    private UUID transactionId;
+    private UUID reservationId;
+
+    private <T> T required(T value, String fieldName) {
+      if (value == null) {
+        throw new IllegalStateException("Missing required field '" + fieldName + "'");
+      }
+      return value;
+    }
+
+    private Money money() {
+      SupportedCurrency moneyCurrency = required(currency, CURRENCY);
+      return Money.of(required(amount, AMOUNT), moneyCurrency);
+    }
+
+    private TransactionId transactionId() {
+      return TransactionId.of(required(transactionId, TRANSACTION_ID));
+    }
+
+    private ReservationId reservationId() {
+      return ReservationId.of(required(reservationId, RESERVATION_ID));
+    }
   }
 
-  private ReservationCaptured mapReservationCaptured(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+  private static final class MapperFeaturesReadContext extends ObjectReadContext.Base {
 
-    String reservationId = getRequiredField(root, RESERVATION_ID).asString();
-
-    return new ReservationCaptured(
-        getAccountEventMeta(eventStore, root),
-        ReservationId.of(UUID.fromString(reservationId)),
-        extractMoney(root));
-  }
+    private final int streamReadFeatures;
+    private final int formatReadFeatures;
 
-  private AccountOpened mapAccountOpened(EventStore eventStore) {
-    JsonNode root = objectMapper.readTree(eventStore.getPayload().data());
+    private MapperFeaturesReadContext(DeserializationConfig deserializationConfig) {
+      this.streamReadFeatures = deserializationConfig.getStreamReadFeatures();
+      this.formatReadFeatures = deserializationConfig.getFormatReadFeatures();
+    }
 
-    SupportedCurrency currency =
-        SupportedCurrency.valueOf(getRequiredField(root, CURRENCY).asString());
-    BigDecimal amount = getRequiredField(root, INITIAL_BALANCE).decimalValue();
+    @Override
+    public int getStreamReadFeatures(int defaults) {
+      return streamReadFeatures;
+    }
 
-    return new AccountOpened(
-        getAccountEventMeta(eventStore, root), currency, Money.of(amount, currency));
+    @Override
+    public int getFormatReadFeatures(int defaults) {
+      return formatReadFeatures;
+    }
   }
 }
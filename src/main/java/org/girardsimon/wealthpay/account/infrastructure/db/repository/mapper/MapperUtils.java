@@ -1,9 +1,19 @@
 package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
 import tools.jackson.databind.JsonNode;
 
 public final class MapperUtils {
 
+  private static final int UUID_LENGTH = 36;
+  private static final long SECONDS_PER_DAY = 86_400L;
+  private static final int[] NANOS_SCALE = {
+    1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
   private MapperUtils() {}
 
   public static JsonNode getRequiredField(JsonNode root, String fieldName) {
@@ -13,4 +23,110 @@ public final class MapperUtils {
     }
     return jsonNode;
   }
+
+  public static boolean contentEquals(String value, char[] chars, int offset, int length) {
+    if (value.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses the canonical {@code 8-4-4-4-12} UUID form without building a String; any other form
+   * goes through {@link UUID#fromString}.
+   */
+  public static UUID parseUuid(char[] chars, int offset, int length) {
+    if (length != UUID_LENGTH
+        || chars[offset + 8] != '-'
+        || chars[offset + 13] != '-'
+        || chars[offset + 18] != '-'
+        || chars[offset + 23] != '-') {
+      return UUID.fromString(new String(chars, offset, length));
+    }
+    long mostSignificantBits =
+        hex(chars, offset, 8) << 32 | hex(chars, offset + 9, 4) << 16 | hex(chars, offset + 14, 4);
+    long leastSignificantBits = hex(chars, offset + 19, 4) << 48 | hex(chars, offset + 24, 12);
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  /**
+   * Parses the {@code yyyy-MM-ddTHH:mm:ss[.fraction]Z} form written by {@link Instant#toString}
+   * without building a String; any other form goes through {@link Instant#parse}.
+   */
+  public static Instant parseInstant(char[] chars, int offset, int length) {
+    int end = offset + length;
+    if (length < 20
+        || length > 30
+        || chars[offset + 4] != '-'
+        || chars[offset + 7] != '-'
+        || chars[offset + 10] != 'T'
+        || chars[offset + 13] != ':'
+        || chars[offset + 16] != ':'
+        || chars[end - 1] != 'Z') {
+      return Instant.parse(new String(chars, offset, length));
+    }
+    int year = digits(chars, offset, 4);
+    int month = digits(chars, offset + 5, 2);
+    int day = digits(chars, offset + 8, 2);
+    int hour = digits(chars, offset + 11, 2);
+    int minute = digits(chars, offset + 14, 2);
+    int second = digits(chars, offset + 17, 2);
+    int nanos = 0;
+    int fractionLength = length - 21;
+    if (fractionLength > 0) {
+      nanos = chars[offset + 19] == '.' ? digits(chars, offset + 20, fractionLength) : -1;
+      nanos = nanos < 0 ? -1 : nanos * NANOS_SCALE[fractionLength];
+    } else if (fractionLength == 0) {
+      nanos = -1; // a lone '.' before 'Z'
+    }
+    if ((year | month | day | hour | minute | second | nanos) < 0
+        || month < 1
+        || month > 12
+        || day < 1
+        || day > 31
+        || hour > 23
+        || minute > 59
+        || second > 59) {
+      return Instant.parse(new String(chars, offset, length));
+    }
+    long epochDay;
+    try {
+      epochDay = LocalDate.of(year, month, day).toEpochDay();
+    } catch (DateTimeException _) {
+      return Instant.parse(new String(chars, offset, length));
+    }
+    return Instant.ofEpochSecond(
+        epochDay * SECONDS_PER_DAY + hour * 3_600L + minute * 60L + second, nanos);
+  }
+
+  private static long hex(char[] chars, int offset, int count) {
+    long value = 0L;
+    for (int i = offset; i < offset + count; i++) {
+      int digit = Character.digit(chars[i], 16);
+      if (digit < 0) {
+        throw new IllegalArgumentException(
+            "Invalid UUID string: " + new String(chars, offset, count));
+      }
+      value = value << 4 | digit;
+    }
+    return value;
+  }
+
+  /** Returns the decimal value of {@code count} ASCII digits, or -1 if any char is not a digit. */
+  private static int digits(char[] chars, int offset, int count) {
+    int value = 0;
+    for (int i = offset; i < offset + count; i++) {
+      int digit = chars[i] - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
 }
@@ -7,6 +7,8 @@ import org.girardsimon.wealthpay.account.domain.exception.AccountIdMismatchExcep
 import org.girardsimon.wealthpay.account.domain.exception.AccountInactiveException;
 import org.girardsimon.wealthpay.account.domain.exception.AccountNotEmptyException;
 import org.girardsimon.wealthpay.account.domain.exception.AmountMustBePositiveException;
+import org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException;
+import org.girardsimon.wealthpay.account.domain.exception.IdempotencyKeyReusedException;
 import org.girardsimon.wealthpay.account.domain.exception.InsufficientFundsException;
 import org.girardsimon.wealthpay.account.domain.exception.InvalidAccountEventStreamException;
 import org.girardsimon.wealthpay.account.domain.exception.InvalidInitialBalanceException;
@@ -48,7 +50,7 @@ public class AccountExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(apiErrorDto);
   }
 
-  @ExceptionHandler({AccountInactiveException.class})
+  @ExceptionHandler({AccountInactiveException.class, DuplicateTransactionException.class})
   public ResponseEntity<ApiErrorDto> handleConflictException(Exception e) {
     log.warn("Conflict exception: ", e);
     ApiErrorDto apiErrorDto =
@@ -64,7 +66,8 @@ public class AccountExceptionHandler {
     InsufficientFundsException.class,
     ReservationConflictException.class,
     AccountNotEmptyException.class,
-    UnsupportedCurrencyException.class
+    UnsupportedCurrencyException.class,
+    IdempotencyKeyReusedException.class
   })
   public ResponseEntity<ApiErrorDto> handleUnprocessableEntityException(Exception e) {
     log.warn("Unprocessable Entity exception: ", e);
@@ -1,13 +1,17 @@
 package org.girardsimon.wealthpay.account.infrastructure.web;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 import org.girardsimon.wealthpay.account.api.generated.AccountsApi;
+import org.girardsimon.wealthpay.account.api.generated.model.AccountBalancesQueryRequestDto;
+import org.girardsimon.wealthpay.account.api.generated.model.AccountBalancesQueryResponseDto;
 import org.girardsimon.wealthpay.account.api.generated.model.AccountResponseDto;
 import org.girardsimon.wealthpay.account.api.generated.model.OpenAccountRequestDto;
 import org.girardsimon.wealthpay.account.api.generated.model.OpenAccountResponseDto;
 import org.girardsimon.wealthpay.account.application.AccountApplicationService;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.application.view.AccountBalances;
 import org.girardsimon.wealthpay.account.domain.command.OpenAccount;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
 import org.girardsimon.wealthpay.account.infrastructure.web.mapper.AccountBalanceViewDomainToDtoMapper;
@@ -23,14 +27,17 @@ public class OpenAccountController implements AccountsApi {
 
   private final OpenAccountDtoToDomainMapper openAccountDtoToDomainMapper;
   private final AccountBalanceViewDomainToDtoMapper accountBalanceViewDomainToDtoMapper;
+  private final OpenAccountReplayCache openAccountReplayCache;
 
   public OpenAccountController(
       AccountApplicationService accountApplicationService,
       OpenAccountDtoToDomainMapper openAccountDtoToDomainMapper,
-      AccountBalanceViewDomainToDtoMapper accountBalanceViewDomainToDtoMapper) {
+      AccountBalanceViewDomainToDtoMapper accountBalanceViewDomainToDtoMapper,
+      OpenAccountReplayCache openAccountReplayCache) {
     this.accountApplicationService = accountApplicationService;
     this.openAccountDtoToDomainMapper = openAccountDtoToDomainMapper;
     this.accountBalanceViewDomainToDtoMapper = accountBalanceViewDomainToDtoMapper;
+    this.openAccountReplayCache = openAccountReplayCache;
   }
 
   @Override
@@ -40,11 +47,30 @@ public class OpenAccountController implements AccountsApi {
     return ResponseEntity.ok(accountBalanceViewDomainToDtoMapper.apply(accountBalance));
   }
 
+  @Override
+  public ResponseEntity<AccountBalancesQueryResponseDto> queryAccountBalances(
+      AccountBalancesQueryRequestDto accountBalancesQueryRequestDto) {
+    List<AccountId> accountIds =
+        accountBalancesQueryRequestDto.getIds().stream().map(AccountId::of).toList();
+    AccountBalances accountBalances = accountApplicationService.getAccountBalances(accountIds);
+    return ResponseEntity.ok(
+        new AccountBalancesQueryResponseDto()
+            .accounts(
+                accountBalances.found().stream().map(accountBalanceViewDomainToDtoMapper).toList())
+            .notFoundIds(accountBalances.notFound().stream().map(AccountId::id).toList()));
+  }
+
   @Override
   public ResponseEntity<OpenAccountResponseDto> openAccount(
-      OpenAccountRequestDto openAccountRequestDto) {
+      OpenAccountRequestDto openAccountRequestDto, String idempotencyKey) {
     OpenAccount openAccount = openAccountDtoToDomainMapper.apply(openAccountRequestDto);
-    AccountId accountId = accountApplicationService.openAccount(openAccount);
+    AccountId accountId =
+        idempotencyKey == null
+            ? accountApplicationService.openAccount(openAccount)
+            : openAccountReplayCache.openAccount(
+                idempotencyKey,
+                openAccount,
+                () -> accountApplicationService.openAccount(openAccount, idempotencyKey));
     URI location =
         ServletUriComponentsBuilder.fromCurrentRequest()
             .path("/{id}")
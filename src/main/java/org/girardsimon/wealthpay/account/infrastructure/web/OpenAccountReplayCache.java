@@ -0,0 +1,87 @@
+package org.girardsimon.wealthpay.account.infrastructure.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.girardsimon.wealthpay.account.domain.command.OpenAccount;
+import org.girardsimon.wealthpay.account.domain.exception.IdempotencyKeyReusedException;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accounts recently opened under an {@code Idempotency-Key}, so that a retry received by this
+ * instance is answered from memory, and requests still in flight by key, so that a concurrent
+ * duplicate waits for the first request here instead of holding a connection blocked on the key in
+ * the database. Entries expire after {@code timeToLive}; the database keeps the keys longer and
+ * covers requests reaching other instances.
+ */
+@Component
+class OpenAccountReplayCache {
+
+  private final Cache<String, OpenedAccount> opened;
+  private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+  OpenAccountReplayCache(
+      @Value("${wealthpay.account.idempotency.cache.maximum-size}") long maximumSize,
+      @Value("${wealthpay.account.idempotency.cache.time-to-live}") Duration timeToLive) {
+    this.opened =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+  }
+
+  /*
+   * A failed request leaves nothing to replay: its duplicates then run, one of them leading again.
+   */
+  AccountId openAccount(
+      String idempotencyKey, OpenAccount openAccount, Supplier<AccountId> openAccountOnce) {
+    while (true) {
+      OpenedAccount cached = opened.getIfPresent(idempotencyKey);
+      if (cached != null) {
+        return cached.replay(idempotencyKey, openAccount);
+      }
+      InFlight own = new InFlight(openAccount, new CompletableFuture<>());
+      InFlight leader = inFlight.putIfAbsent(idempotencyKey, own);
+      if (leader == null) {
+        return lead(idempotencyKey, own, openAccountOnce);
+      }
+      try {
+        AccountId accountId = leader.accountId().join();
+        return new OpenedAccount(leader.openAccount(), accountId)
+            .replay(idempotencyKey, openAccount);
+      } catch (CompletionException _) {
+        // The leader failed: try again.
+      }
+    }
+  }
+
+  private AccountId lead(String idempotencyKey, InFlight own, Supplier<AccountId> openAccountOnce) {
+    try {
+      AccountId accountId = openAccountOnce.get();
+      opened.put(idempotencyKey, new OpenedAccount(own.openAccount(), accountId));
+      own.accountId().complete(accountId);
+      return accountId;
+    } catch (RuntimeException | Error e) {
+      own.accountId().completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(idempotencyKey, own);
+    }
+  }
+
+  private record OpenedAccount(OpenAccount openAccount, AccountId accountId) {
+
+    AccountId replay(String idempotencyKey, OpenAccount retried) {
+      if (!openAccount.equals(retried)) {
+        throw new IdempotencyKeyReusedException(idempotencyKey);
+      }
+      return accountId;
+    }
+  }
+
+  private record InFlight(OpenAccount openAccount, CompletableFuture<AccountId> accountId) {}
+}
@@ -0,0 +1,100 @@
+package org.girardsimon.wealthpay.shared.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Gathers the requests of concurrent callers into batches. A batch is opened by the first request
+ * and closed {@code window} later, or as soon as it holds {@code maxBatchSize} entries; it is then
+ * handed to the flusher on a virtual thread.
+ *
+ * <p>A batch is any container, filled by the callers of {@link #add} under the lock of the batcher,
+ * so it needs no synchronization of its own. It is no longer touched by the batcher once handed to
+ * the flusher.
+ *
+ * @param <B> the type of the batches
+ */
+public final class WindowedBatcher<B> {
+
+  private static final Executor FLUSHERS = Thread::startVirtualThread;
+
+  private final Supplier<B> newBatch;
+  private final ToIntFunction<B> sizeOf;
+  private final Consumer<B> flusher;
+  private final Executor delayedFlushers;
+  private final int maxBatchSize;
+  private final Lock lock = new ReentrantLock();
+  private B pending;
+
+  public WindowedBatcher(
+      Duration window,
+      int maxBatchSize,
+      Supplier<B> newBatch,
+      ToIntFunction<B> sizeOf,
+      Consumer<B> flusher) {
+    if (window.isNegative()) {
+      throw new IllegalArgumentException("window must not be negative");
+    }
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be >= 1");
+    }
+    this.newBatch = newBatch;
+    this.sizeOf = sizeOf;
+    this.flusher = flusher;
+    this.delayedFlushers =
+        CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, FLUSHERS);
+    this.maxBatchSize = maxBatchSize;
+    this.pending = newBatch.get();
+  }
+
+  /**
+   * Adds a request to the open batch through {@code adder}, which must leave at least one entry in
+   * it, and returns what {@code adder} returned.
+   */
+  public <R> R add(Function<B, R> adder) {
+    B batch;
+    R added;
+    boolean opened;
+    boolean full;
+    lock.lock();
+    try {
+      batch = pending;
+      opened = sizeOf.applyAsInt(batch) == 0;
+      added = adder.apply(batch);
+      full = sizeOf.applyAsInt(batch) >= maxBatchSize;
+      if (full) {
+        pending = newBatch.get();
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (full) {
+      FLUSHERS.execute(() -> flusher.accept(batch));
+    } else if (opened) {
+      delayedFlushers.execute(() -> flushOnceWindowElapsed(batch));
+    }
+    return added;
+  }
+
+  /* A batch that filled up before its window elapsed has been flushed already. */
+  private void flushOnceWindowElapsed(B batch) {
+    lock.lock();
+    try {
+      if (pending != batch) {
+        return;
+      }
+      pending = newBatch.get();
+    } finally {
+      lock.unlock();
+    }
+    flusher.accept(batch);
+  }
+}
@@ -0,0 +1,12 @@
+package org.girardsimon.wealthpay.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} methods of every module, whatever their configuration: beans only
+ * scheduled in some modes carry the condition themselves.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
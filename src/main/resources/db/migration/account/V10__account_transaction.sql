@@ -0,0 +1,18 @@
+-- One row per credit or debit applied to an account, keyed by its transaction id, so a replayed
+-- command is recognised with a single primary key probe instead of a scan of the JSONB payloads of
+-- the account stream. Rows are written in the transaction appending the events.
+
+CREATE TABLE IF NOT EXISTS account.account_transaction (
+    account_id      UUID        NOT NULL,
+    transaction_id  UUID        NOT NULL,
+    version         BIGINT      NOT NULL,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (account_id, transaction_id)
+);
+
+INSERT INTO account.account_transaction (account_id, transaction_id, version)
+SELECT account_id, (payload ->> 'transactionId')::UUID, version
+FROM account.event_store
+WHERE event_type IN ('FundsCredited', 'FundsDebited')
+ORDER BY account_id, version
+ON CONFLICT DO NOTHING;
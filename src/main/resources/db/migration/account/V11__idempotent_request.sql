@@ -0,0 +1,15 @@
+-- Requests sent with an Idempotency-Key header, one row per key, written in the transaction opening
+-- the account. A retry reusing the key gets the account opened by the first request back, and a
+-- concurrent duplicate waits on the first transaction through the primary key instead of running.
+-- request_fingerprint tells apart a retry from another request reusing the key. Rows older than
+-- the retention period are purged, and their key can be claimed again.
+
+CREATE TABLE IF NOT EXISTS account.idempotent_request (
+    idempotency_key      VARCHAR(255) PRIMARY KEY,
+    request_fingerprint  VARCHAR(255) NOT NULL,
+    account_id           UUID         NOT NULL,
+    created_at           TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotent_request_created_at
+    ON account.idempotent_request (created_at);
@@ -0,0 +1,10 @@
+-- Accounts whose credits are spread over bucket_count buckets, see AccountBuckets. Each bucket is an
+-- account stream of its own, opened with a zero balance when bucketing is enabled, so credits to the
+-- account race on bucket_count version sequences instead of one. The count never changes once set:
+-- it decides which bucket a transaction id is credited to, and so where a replay is recognised.
+
+CREATE TABLE IF NOT EXISTS account.account_bucket (
+    account_id    UUID        PRIMARY KEY,
+    bucket_count  INTEGER     NOT NULL CHECK (bucket_count >= 1),
+    created_at    TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
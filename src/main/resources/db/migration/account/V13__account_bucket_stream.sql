@@ -0,0 +1,9 @@
+-- Bucket streams of the accounts in account_bucket, one row per bucket, written along with the
+-- account_bucket row. Credits applied to a bucket are recorded in account_transaction under the
+-- account owning it rather than under the bucket, so that the primary key of the index rejects a
+-- credit replayed on the account itself or on another of its buckets.
+
+CREATE TABLE IF NOT EXISTS account.account_bucket_stream (
+    bucket_id   UUID PRIMARY KEY,
+    account_id  UUID NOT NULL
+);
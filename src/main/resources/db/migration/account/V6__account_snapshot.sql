@@ -0,0 +1,11 @@
+-- Latest snapshot of each Account aggregate, used to skip replaying the full event stream.
+-- schema_version identifies the layout of state: snapshots written with another layout are
+-- ignored on load and overwritten by the next snapshot.
+
+CREATE TABLE IF NOT EXISTS account.account_snapshot (
+    account_id      UUID        PRIMARY KEY,
+    version         BIGINT      NOT NULL,
+    schema_version  INTEGER     NOT NULL,
+    state           JSONB       NOT NULL,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
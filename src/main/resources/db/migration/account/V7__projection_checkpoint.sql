@@ -0,0 +1,19 @@
+-- Global feed of the event store for tailing projections.
+-- Sequence ids are handed out before commit, so a lower id can become visible after a higher one.
+-- Ordering by the id of the writing transaction first lets readers only consume transactions
+-- older than every transaction still in flight, which can no longer add rows before their position.
+
+ALTER TABLE account.event_store
+    ADD COLUMN transaction_id BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint);
+
+CREATE INDEX IF NOT EXISTS idx_event_store_transaction_id_id
+    ON account.event_store (transaction_id, id);
+
+-- Position of each projection in the feed, advanced in the transaction applying the events.
+
+CREATE TABLE IF NOT EXISTS account.projection_checkpoint (
+    projection_name VARCHAR(100) PRIMARY KEY,
+    transaction_id  BIGINT       NOT NULL,
+    event_store_id  BIGINT       NOT NULL,
+    updated_at      TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
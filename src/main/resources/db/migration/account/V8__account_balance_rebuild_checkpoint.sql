@@ -0,0 +1,10 @@
+-- Progress of a full rebuild of account_balance_view, one row per account id range.
+-- A range is done up to last_account_id: an interrupted rebuild resumes right after it.
+
+CREATE TABLE IF NOT EXISTS account.account_balance_rebuild_checkpoint (
+    partition_index  INTEGER     PRIMARY KEY,
+    partition_count  INTEGER     NOT NULL,
+    last_account_id  UUID        NULL,
+    completed        BOOLEAN     NOT NULL DEFAULT FALSE,
+    updated_at       TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,8 @@
+-- A rebuild either overwrites account_balance_view in place, or fills a shadow copy that is caught
+-- up from the event feed, starting at feed position (feed_transaction_id, feed_event_store_id),
+-- then swapped with the live table.
+
+ALTER TABLE account.account_balance_rebuild_checkpoint
+    ADD COLUMN mode                VARCHAR(20) NOT NULL DEFAULT 'IN_PLACE',
+    ADD COLUMN feed_transaction_id BIGINT      NULL,
+    ADD COLUMN feed_event_store_id BIGINT      NULL;
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -12,22 +15,42 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.girardsimon.wealthpay.account.application.response.AccountTransactionResponse;
+import org.girardsimon.wealthpay.account.application.response.AccountTransactionStatus;
 import org.girardsimon.wealthpay.account.application.response.CaptureReservationResponse;
 import org.girardsimon.wealthpay.account.application.response.ReservationCaptureStatus;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.application.view.AccountBalances;
 import org.girardsimon.wealthpay.account.domain.command.CaptureReservation;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.command.DebitAccount;
 import org.girardsimon.wealthpay.account.domain.command.OpenAccount;
+import org.girardsimon.wealthpay.account.domain.event.AccountClosed;
 import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
 import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
 import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
 import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
 import org.girardsimon.wealthpay.account.domain.event.ReservationCaptured;
+import org.girardsimon.wealthpay.account.domain.exception.AccountBucketsConflictException;
 import org.girardsimon.wealthpay.account.domain.exception.AccountHistoryNotFound;
+import org.girardsimon.wealthpay.account.domain.exception.AccountInactiveException;
+import org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException;
+import org.girardsimon.wealthpay.account.domain.exception.IdempotencyKeyReusedException;
+import org.girardsimon.wealthpay.account.domain.exception.InsufficientFundsException;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
 import org.girardsimon.wealthpay.account.domain.model.AccountIdGenerator;
 import org.girardsimon.wealthpay.account.domain.model.EventId;
@@ -35,16 +58,23 @@ import org.girardsimon.wealthpay.account.domain.model.EventIdGenerator;
 import org.girardsimon.wealthpay.account.domain.model.Money;
 import org.girardsimon.wealthpay.account.domain.model.ReservationId;
 import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class AccountApplicationServiceTest {
 
   AccountEventStore accountEventStore = mock(AccountEventStore.class);
+  AccountSnapshotStore accountSnapshotStore = mock(AccountSnapshotStore.class);
   AccountBalanceProjector accountBalanceProjector = mock(AccountBalanceProjector.class);
+  AccountTransactionIndex accountTransactionIndex = mock(AccountTransactionIndex.class);
+  IdempotentRequestStore idempotentRequestStore = mock(IdempotentRequestStore.class);
+  AccountBucketStore accountBucketStore = mock(AccountBucketStore.class);
+  PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
 
   Clock clock = Clock.fixed(Instant.parse("2025-11-16T15:00:00Z"), ZoneOffset.UTC);
 
@@ -54,9 +84,43 @@ class AccountApplicationServiceTest {
   AccountIdGenerator accountIdGenerator = () -> accountId;
   EventIdGenerator eventIdGenerator = () -> eventId;
 
+  AccountRepository accountRepository =
+      new AccountRepository(
+          accountEventStore, accountSnapshotStore, new SimpleMeterRegistry(), 100L, 1_000L);
+
+  AccountCommandRetrier accountCommandRetrier =
+      new AccountCommandRetrier(
+          new SimpleMeterRegistry(), 0L, Duration.ZERO, Duration.ofMillis(1), Duration.ZERO);
+
+  AccountCommandExecutor accountCommandExecutor =
+      new TransactionalAccountCommandExecutor(
+          accountRepository,
+          accountBalanceProjector,
+          mock(PlatformTransactionManager.class),
+          accountCommandRetrier);
+
   AccountApplicationService accountApplicationService =
       new AccountApplicationService(
-          accountEventStore, accountBalanceProjector, clock, accountIdGenerator, eventIdGenerator);
+          accountEventStore,
+          accountCommandExecutor,
+          accountRepository,
+          accountBalanceProjector,
+          accountTransactionIndex,
+          idempotentRequestStore,
+          accountBucketStore,
+          new AccountBucketRebalancer(
+              accountRepository,
+              accountBalanceProjector,
+              mock(PlatformTransactionManager.class),
+              accountCommandExecutor,
+              accountCommandRetrier,
+              new SimpleMeterRegistry(),
+              clock,
+              eventIdGenerator),
+          transactionManager,
+          clock,
+          accountIdGenerator,
+          eventIdGenerator);
 
   @Test
   void openAccount_saves_event_AccountOpened_when_account_does_not_exist() {
@@ -64,7 +128,7 @@ class AccountApplicationServiceTest {
     SupportedCurrency currency = SupportedCurrency.USD;
     Money initialBalance = new Money(BigDecimal.valueOf(10L), currency);
     OpenAccount openAccount = new OpenAccount(currency, initialBalance);
-    when(accountEventStore.loadEvents(accountId)).thenReturn(List.of());
+    givenEventsAfter(0L, List.of());
 
     // Act
     accountApplicationService.openAccount(openAccount);
@@ -78,6 +142,62 @@ class AccountApplicationServiceTest {
     inOrder.verify(accountBalanceProjector).project(List.of(accountOpened));
   }
 
+  @Test
+  void openAccount_with_idempotency_key_opens_account_when_key_is_claimed() {
+    // Arrange
+    SupportedCurrency currency = SupportedCurrency.USD;
+    Money initialBalance = new Money(BigDecimal.valueOf(10L), currency);
+    OpenAccount openAccount = new OpenAccount(currency, initialBalance);
+
+    // Act
+    AccountId opened = accountApplicationService.openAccount(openAccount, "key-1");
+
+    // Assert
+    AccountOpened accountOpened =
+        new AccountOpened(
+            AccountEventMeta.of(eventId, accountId, Instant.parse("2025-11-16T15:00:00Z"), 1L),
+            currency,
+            initialBalance);
+    InOrder inOrder = inOrder(idempotentRequestStore, accountEventStore);
+    inOrder
+        .verify(idempotentRequestStore)
+        .claim(new IdempotentRequest("key-1", "USD:10.00:USD", accountId));
+    inOrder.verify(accountEventStore).appendEvents(accountId, 0L, List.of(accountOpened));
+    assertThat(opened).isEqualTo(accountId);
+  }
+
+  @Test
+  void openAccount_with_idempotency_key_returns_earlier_account_when_key_already_used() {
+    // Arrange
+    SupportedCurrency currency = SupportedCurrency.USD;
+    OpenAccount openAccount = new OpenAccount(currency, Money.of(BigDecimal.TEN, currency));
+    AccountId earlierAccountId = AccountId.newId();
+    when(idempotentRequestStore.claim(any()))
+        .thenReturn(Optional.of(new IdempotentRequest("key-1", "USD:10.00:USD", earlierAccountId)));
+
+    // Act
+    AccountId opened = accountApplicationService.openAccount(openAccount, "key-1");
+
+    // Assert
+    assertThat(opened).isEqualTo(earlierAccountId);
+    verifyNoInteractions(accountEventStore, accountBalanceProjector);
+  }
+
+  @Test
+  void openAccount_with_idempotency_key_throws_when_key_used_by_a_different_request() {
+    // Arrange
+    SupportedCurrency currency = SupportedCurrency.USD;
+    OpenAccount openAccount = new OpenAccount(currency, Money.of(BigDecimal.TEN, currency));
+    when(idempotentRequestStore.claim(any()))
+        .thenReturn(
+            Optional.of(new IdempotentRequest("key-1", "USD:99.00:USD", AccountId.newId())));
+
+    // Act ... Assert
+    assertThatExceptionOfType(IdempotencyKeyReusedException.class)
+        .isThrownBy(() -> accountApplicationService.openAccount(openAccount, "key-1"));
+    verifyNoInteractions(accountEventStore, accountBalanceProjector);
+  }
+
   @Test
   void getAccountBalance_should_return_account_balance_view_for_given_id() {
     // Arrange
@@ -93,6 +213,28 @@ class AccountApplicationServiceTest {
     verifyNoInteractions(accountEventStore);
   }
 
+  @Test
+  void getAccountBalances_should_split_found_and_not_found_accounts_in_request_order() {
+    // Arrange
+    AccountId first = AccountId.newId();
+    AccountId missing = AccountId.newId();
+    AccountId second = AccountId.newId();
+    AccountBalanceView firstView = mock(AccountBalanceView.class);
+    AccountBalanceView secondView = mock(AccountBalanceView.class);
+    when(accountBalanceProjector.getAccountBalances(Set.of(first, missing, second)))
+        .thenReturn(Map.of(first, firstView, second, secondView));
+
+    // Act
+    AccountBalances accountBalances =
+        accountApplicationService.getAccountBalances(List.of(first, missing, second, first));
+
+    // Assert
+    assertAll(
+        () -> assertThat(accountBalances.found()).containsExactly(firstView, secondView),
+        () -> assertThat(accountBalances.notFound()).containsExactly(missing));
+    verifyNoInteractions(accountEventStore);
+  }
+
   @Test
   void captureReservation_should_save_reservation_captured_event_when_reservation_exists() {
     // Arrange
@@ -108,7 +250,7 @@ class AccountApplicationServiceTest {
     FundsReserved fundsReserved =
         new FundsReserved(accountEventMeta2, reservationId, reservedAmount);
     List<AccountEvent> accountEvents = List.of(accountOpened, fundsReserved);
-    when(accountEventStore.loadEvents(accountId)).thenReturn(accountEvents);
+    givenEventsAfter(0L, accountEvents);
     CaptureReservation captureReservation = new CaptureReservation(accountId, reservationId);
 
     // Act
@@ -147,7 +289,7 @@ class AccountApplicationServiceTest {
     FundsReserved fundsReserved =
         new FundsReserved(accountEventMeta2, reservationId, reservedAmount);
     List<AccountEvent> accountEvents = List.of(accountOpened, fundsReserved);
-    when(accountEventStore.loadEvents(accountId)).thenReturn(accountEvents);
+    givenEventsAfter(0L, accountEvents);
     ReservationId otherReservationId = ReservationId.newId();
     CaptureReservation captureReservation = new CaptureReservation(accountId, otherReservationId);
 
@@ -176,10 +318,415 @@ class AccountApplicationServiceTest {
     // Arrange
     CaptureReservation captureReservation =
         new CaptureReservation(accountId, ReservationId.newId());
-    when(accountEventStore.loadEvents(accountId)).thenReturn(List.of());
+    givenEventsAfter(0L, List.of());
 
     // Act ... Assert
     assertThatExceptionOfType(AccountHistoryNotFound.class)
         .isThrownBy(() -> accountApplicationService.captureReservation(captureReservation));
   }
+
+  @Test
+  void creditAccount_should_append_funds_credited_event_when_transaction_is_new() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountOpened accountOpened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd));
+    givenEventsAfter(0L, List.of(accountOpened));
+    TransactionId transactionId = TransactionId.newId();
+    Money amount = Money.of(BigDecimal.ONE, usd);
+
+    // Act
+    AccountTransactionResponse response =
+        accountApplicationService.creditAccount(
+            new CreditAccount(transactionId, accountId, amount));
+
+    // Assert
+    FundsCredited fundsCredited =
+        new FundsCredited(
+            AccountEventMeta.of(eventId, accountId, Instant.parse("2025-11-16T15:00:00Z"), 2L),
+            transactionId,
+            amount);
+    verify(accountEventStore).appendEvents(accountId, 1L, List.of(fundsCredited));
+    verify(accountBalanceProjector).project(List.of(fundsCredited));
+    assertThat(response)
+        .isEqualTo(
+            new AccountTransactionResponse(
+                accountId, transactionId, AccountTransactionStatus.APPLIED, 2L));
+  }
+
+  @Test
+  void creditAccount_should_return_recorded_outcome_without_loading_account_when_replayed() {
+    // Arrange
+    TransactionId transactionId = TransactionId.newId();
+    when(accountTransactionIndex.findVersion(accountId, transactionId)).thenReturn(Optional.of(7L));
+    SupportedCurrency usd = SupportedCurrency.USD;
+
+    // Act
+    AccountTransactionResponse response =
+        accountApplicationService.creditAccount(
+            new CreditAccount(transactionId, accountId, Money.of(BigDecimal.ONE, usd)));
+
+    // Assert
+    verifyNoInteractions(accountEventStore, accountSnapshotStore, accountBalanceProjector);
+    assertThat(response)
+        .isEqualTo(
+            new AccountTransactionResponse(
+                accountId, transactionId, AccountTransactionStatus.DUPLICATE, 7L));
+  }
+
+  @Test
+  void debitAccount_should_return_recorded_outcome_when_append_rejects_a_concurrent_replay() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountOpened accountOpened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd));
+    givenEventsAfter(0L, List.of(accountOpened));
+    TransactionId transactionId = TransactionId.newId();
+    when(accountTransactionIndex.findVersion(accountId, transactionId))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(2L));
+    doThrow(new DuplicateTransactionException(accountId, transactionId))
+        .when(accountEventStore)
+        .appendEvents(eq(accountId), eq(1L), any());
+
+    // Act
+    AccountTransactionResponse response =
+        accountApplicationService.debitAccount(
+            new DebitAccount(transactionId, accountId, Money.of(BigDecimal.ONE, usd)));
+
+    // Assert
+    verifyNoInteractions(accountBalanceProjector);
+    assertThat(response)
+        .isEqualTo(
+            new AccountTransactionResponse(
+                accountId, transactionId, AccountTransactionStatus.DUPLICATE, 2L));
+  }
+
+  @Test
+  void enableBuckets_opens_each_bucket_with_a_zero_balance() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    AccountBuckets buckets = new AccountBuckets(accountId, 2);
+    when(accountBucketStore.add(buckets)).thenReturn(true);
+
+    // Act
+    AccountBuckets enabled = accountApplicationService.enableBuckets(accountId, 2);
+
+    // Assert
+    assertThat(enabled).isEqualTo(buckets);
+    for (AccountId bucketId : buckets.bucketIds()) {
+      AccountOpened bucketOpened =
+          new AccountOpened(
+              AccountEventMeta.of(eventId, bucketId, Instant.parse("2025-11-16T15:00:00Z"), 1L),
+              usd,
+              Money.zero(usd));
+      verify(accountEventStore).appendEvents(bucketId, 0L, List.of(bucketOpened));
+      verify(accountBalanceProjector).project(List.of(bucketOpened));
+    }
+  }
+
+  @Test
+  void enableBuckets_checks_the_account_before_the_transaction_recording_its_buckets() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    AccountBuckets buckets = new AccountBuckets(accountId, 2);
+    when(accountBucketStore.add(buckets)).thenReturn(true);
+
+    // Act
+    accountApplicationService.enableBuckets(accountId, 2);
+
+    // Assert
+    InOrder inOrder = inOrder(accountEventStore, transactionManager, accountBucketStore);
+    inOrder.verify(accountEventStore).replayEventsAfter(eq(accountId), eq(0L), any());
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(accountBucketStore).add(buckets);
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void enableBuckets_throws_when_the_account_already_has_another_number_of_buckets() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    when(accountBucketStore.add(new AccountBuckets(accountId, 2))).thenReturn(false);
+    when(accountBucketStore.find(accountId))
+        .thenReturn(Optional.of(new AccountBuckets(accountId, 4)));
+
+    // Act ... Assert
+    assertThatExceptionOfType(AccountBucketsConflictException.class)
+        .isThrownBy(() -> accountApplicationService.enableBuckets(accountId, 2));
+    verify(accountEventStore, times(0)).appendEvents(any(), anyLong(), any());
+  }
+
+  @Test
+  void creditAccount_of_an_account_with_buckets_appends_to_the_bucket_of_the_transaction() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    AccountBuckets buckets = new AccountBuckets(accountId, 4);
+    when(accountBucketStore.find(accountId)).thenReturn(Optional.of(buckets));
+    TransactionId transactionId = TransactionId.newId();
+    AccountId bucketId = buckets.bucketFor(transactionId);
+    givenEventsAfter(
+        bucketId,
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), bucketId, Instant.now(), 1L),
+                usd,
+                Money.zero(usd))));
+    Money amount = Money.of(BigDecimal.ONE, usd);
+
+    // Act
+    AccountTransactionResponse response =
+        accountApplicationService.creditAccount(
+            new CreditAccount(transactionId, accountId, amount));
+
+    // Assert
+    FundsCredited fundsCredited =
+        new FundsCredited(
+            AccountEventMeta.of(eventId, bucketId, Instant.parse("2025-11-16T15:00:00Z"), 2L),
+            transactionId,
+            amount);
+    verify(accountTransactionIndex).findVersion(accountId, transactionId);
+    verify(accountEventStore).appendEvents(bucketId, 1L, List.of(fundsCredited));
+    verify(accountEventStore, times(0)).appendEvents(eq(accountId), anyLong(), any());
+    assertThat(response)
+        .isEqualTo(
+            new AccountTransactionResponse(
+                accountId, transactionId, AccountTransactionStatus.APPLIED, 2L));
+  }
+
+  @Test
+  void creditAccount_of_an_account_with_buckets_returns_a_credit_already_applied_to_it() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    AccountBuckets buckets = new AccountBuckets(accountId, 4);
+    when(accountBucketStore.find(accountId)).thenReturn(Optional.of(buckets));
+    TransactionId transactionId = TransactionId.newId();
+    AccountId bucketId = buckets.bucketFor(transactionId);
+    givenEventsAfter(
+        bucketId,
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), bucketId, Instant.now(), 1L),
+                usd,
+                Money.zero(usd))));
+    when(accountTransactionIndex.findVersion(accountId, transactionId))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(5L));
+    doThrow(new DuplicateTransactionException(accountId, transactionId))
+        .when(accountEventStore)
+        .appendEvents(eq(bucketId), eq(1L), any());
+
+    // Act
+    AccountTransactionResponse response =
+        accountApplicationService.creditAccount(
+            new CreditAccount(transactionId, accountId, Money.of(BigDecimal.ONE, usd)));
+
+    // Assert
+    verifyNoInteractions(accountBalanceProjector);
+    assertThat(response)
+        .isEqualTo(
+            new AccountTransactionResponse(
+                accountId, transactionId, AccountTransactionStatus.DUPLICATE, 5L));
+  }
+
+  @Test
+  void creditAccount_of_an_account_with_buckets_throws_when_the_account_is_closed() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.zero(usd)),
+            new AccountClosed(AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 2L))));
+    when(accountBucketStore.find(accountId))
+        .thenReturn(Optional.of(new AccountBuckets(accountId, 4)));
+    CreditAccount creditAccount =
+        new CreditAccount(TransactionId.newId(), accountId, Money.of(BigDecimal.ONE, usd));
+
+    // Act ... Assert
+    assertThatExceptionOfType(AccountInactiveException.class)
+        .isThrownBy(() -> accountApplicationService.creditAccount(creditAccount));
+    verify(accountEventStore, times(0)).appendEvents(any(), anyLong(), any());
+  }
+
+  @Test
+  void debitAccount_of_an_account_with_buckets_moves_their_funds_when_the_account_falls_short() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountBuckets buckets = new AccountBuckets(accountId, 1);
+    AccountId bucketId = buckets.bucket(0);
+    when(accountBucketStore.find(accountId)).thenReturn(Optional.of(buckets));
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.ONE, usd))));
+    givenEventsAfter(
+        bucketId,
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), bucketId, Instant.now(), 1L),
+                usd,
+                Money.zero(usd)),
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), bucketId, Instant.now(), 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.TEN, usd))));
+    TransactionId transactionId = TransactionId.newId();
+    Money amount = Money.of(BigDecimal.valueOf(5L), usd);
+
+    // Act
+    AccountTransactionResponse response =
+        accountApplicationService.debitAccount(new DebitAccount(transactionId, accountId, amount));
+
+    // Assert
+    FundsDebited fundsDebited =
+        new FundsDebited(
+            AccountEventMeta.of(eventId, accountId, Instant.parse("2025-11-16T15:00:00Z"), 3L),
+            transactionId,
+            amount);
+    InOrder inOrder = inOrder(accountEventStore);
+    inOrder.verify(accountEventStore).appendEvents(eq(bucketId), eq(2L), any());
+    inOrder.verify(accountEventStore).appendEvents(eq(accountId), eq(1L), any());
+    inOrder.verify(accountEventStore).appendEvents(accountId, 2L, List.of(fundsDebited));
+    assertThat(response)
+        .isEqualTo(
+            new AccountTransactionResponse(
+                accountId, transactionId, AccountTransactionStatus.APPLIED, 3L));
+  }
+
+  @Test
+  void debitAccount_of_an_account_with_buckets_throws_when_the_buckets_hold_nothing_either() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountBuckets buckets = new AccountBuckets(accountId, 1);
+    AccountId bucketId = buckets.bucket(0);
+    when(accountBucketStore.find(accountId)).thenReturn(Optional.of(buckets));
+    givenEventsAfter(
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.ONE, usd))));
+    givenEventsAfter(
+        bucketId,
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), bucketId, Instant.now(), 1L),
+                usd,
+                Money.zero(usd))));
+    DebitAccount debitAccount =
+        new DebitAccount(TransactionId.newId(), accountId, Money.of(BigDecimal.TEN, usd));
+
+    // Act ... Assert
+    assertThatExceptionOfType(InsufficientFundsException.class)
+        .isThrownBy(() -> accountApplicationService.debitAccount(debitAccount));
+    verify(accountEventStore, times(0)).appendEvents(any(), anyLong(), any());
+  }
+
+  @Test
+  void getAccountBalance_of_an_account_with_buckets_adds_the_balances_of_its_buckets() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountBuckets buckets = new AccountBuckets(accountId, 2);
+    when(accountBucketStore.find(accountId)).thenReturn(Optional.of(buckets));
+    when(accountBalanceProjector.getAccountBalance(accountId))
+        .thenReturn(
+            new AccountBalanceView(
+                accountId,
+                Money.of(BigDecimal.valueOf(5L), usd),
+                Money.of(BigDecimal.ONE, usd),
+                "OPENED",
+                3L));
+    AccountId projectedBucket = buckets.bucket(0);
+    when(accountBalanceProjector.getAccountBalances(buckets.bucketIds()))
+        .thenReturn(
+            Map.of(
+                projectedBucket,
+                new AccountBalanceView(
+                    projectedBucket,
+                    Money.of(BigDecimal.valueOf(2L), usd),
+                    Money.zero(usd),
+                    "OPENED",
+                    4L)));
+
+    // Act
+    AccountBalanceView accountBalanceView = accountApplicationService.getAccountBalance(accountId);
+
+    // Assert
+    assertThat(accountBalanceView)
+        .isEqualTo(
+            new AccountBalanceView(
+                accountId,
+                Money.of(BigDecimal.valueOf(7L), usd),
+                Money.of(BigDecimal.ONE, usd),
+                "OPENED",
+                3L));
+  }
+
+  private void givenEventsAfter(long afterVersion, List<AccountEvent> events) {
+    givenEventsAfter(accountId, afterVersion, events);
+  }
+
+  private void givenEventsAfter(AccountId streamId, long afterVersion, List<AccountEvent> events) {
+    doAnswer(
+            invocation -> {
+              Consumer<AccountEvent> consumer = invocation.getArgument(2);
+              events.forEach(consumer);
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(streamId), eq(afterVersion), any());
+  }
 }
@@ -0,0 +1,168 @@
+package org.girardsimon.wealthpay.account.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AccountBucketRebalancerTest {
+
+  AccountEventStore accountEventStore = mock(AccountEventStore.class);
+  AccountSnapshotStore accountSnapshotStore = mock(AccountSnapshotStore.class);
+  AccountBalanceProjector accountBalanceProjector = mock(AccountBalanceProjector.class);
+  AccountCommandExecutor accountCommandExecutor = mock(AccountCommandExecutor.class);
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  AccountRepository accountRepository =
+      new AccountRepository(accountEventStore, accountSnapshotStore, meterRegistry, 100L, 100L);
+
+  AccountBucketRebalancer rebalancer =
+      new AccountBucketRebalancer(
+          accountRepository,
+          accountBalanceProjector,
+          mock(PlatformTransactionManager.class),
+          accountCommandExecutor,
+          new AccountCommandRetrier(
+              meterRegistry, 1L, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ZERO),
+          meterRegistry,
+          Clock.fixed(Instant.parse("2025-11-16T15:00:00Z"), ZoneOffset.UTC),
+          EventId::newId);
+
+  SupportedCurrency usd = SupportedCurrency.USD;
+  AccountId accountId = AccountId.newId();
+  AccountBuckets buckets = new AccountBuckets(accountId, 2);
+  AccountId fundedBucket = buckets.bucket(0);
+  AccountId emptyBucket = buckets.bucket(1);
+
+  @BeforeEach
+  void givenOpenedAccountAndBuckets() {
+    givenEvents(accountId, opened(accountId, Money.of(BigDecimal.ONE, usd)));
+    givenEvents(
+        fundedBucket,
+        opened(fundedBucket, Money.zero(usd)),
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), fundedBucket, Instant.now(), 2L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.TEN, usd)));
+    givenEvents(emptyBucket, opened(emptyBucket, Money.zero(usd)));
+  }
+
+  private AccountOpened opened(AccountId streamId, Money initialBalance) {
+    return new AccountOpened(
+        AccountEventMeta.of(EventId.newId(), streamId, Instant.now(), 1L), usd, initialBalance);
+  }
+
+  private void givenEvents(AccountId streamId, AccountEvent... events) {
+    doAnswer(
+            invocation -> {
+              Consumer<AccountEvent> consumer = invocation.getArgument(2);
+              List.of(events).forEach(consumer);
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(streamId), eq(0L), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void rebalance_moves_the_balance_of_each_funded_bucket_to_the_account() {
+    // Act
+    boolean moved = rebalancer.rebalance(buckets);
+
+    // Assert
+    ArgumentCaptor<List<AccountEvent>> bucketEvents = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<AccountEvent>> accountEvents = ArgumentCaptor.forClass(List.class);
+    verify(accountEventStore).appendEvents(eq(fundedBucket), eq(2L), bucketEvents.capture());
+    verify(accountEventStore).appendEvents(eq(accountId), eq(1L), accountEvents.capture());
+    verify(accountEventStore, never()).appendEvents(eq(emptyBucket), anyLong(), anyList());
+    FundsDebited debited = (FundsDebited) bucketEvents.getValue().getFirst();
+    FundsCredited credited = (FundsCredited) accountEvents.getValue().getFirst();
+    assertAll(
+        () -> assertThat(moved).isTrue(),
+        () -> assertThat(debited.money()).isEqualTo(Money.of(BigDecimal.TEN, usd)),
+        () -> assertThat(credited.money()).isEqualTo(debited.money()),
+        () -> assertThat(credited.transactionId()).isEqualTo(debited.transactionId()),
+        () ->
+            assertThat(
+                    meterRegistry.get(AccountBucketRebalancer.TRANSFERS_METRIC).counter().count())
+                .isEqualTo(1.0));
+    verify(accountBalanceProjector).project(List.of(debited, credited));
+  }
+
+  @Test
+  void rebalance_makes_the_executor_forget_the_streams_of_each_transfer() {
+    // Act
+    rebalancer.rebalance(buckets);
+
+    // Assert
+    verify(accountCommandExecutor).forget(fundedBucket);
+    verify(accountCommandExecutor).forget(accountId);
+    verify(accountCommandExecutor, never()).forget(emptyBucket);
+  }
+
+  @Test
+  void rebalance_retries_a_transfer_losing_a_race_on_the_bucket() {
+    // Arrange
+    doThrow(new OptimisticLockingFailureException("Version mismatch"))
+        .doNothing()
+        .when(accountEventStore)
+        .appendEvents(eq(fundedBucket), eq(2L), anyList());
+
+    // Act
+    boolean moved = rebalancer.rebalance(buckets);
+
+    // Assert
+    assertThat(moved).isTrue();
+    verify(accountEventStore, times(2)).appendEvents(eq(fundedBucket), eq(2L), anyList());
+    verify(accountEventStore, times(1)).appendEvents(eq(accountId), eq(1L), anyList());
+  }
+
+  @Test
+  void rebalance_leaves_the_account_untouched_when_no_bucket_holds_funds() {
+    // Arrange
+    AccountBuckets idleBuckets = new AccountBuckets(AccountId.newId(), 1);
+    givenEvents(idleBuckets.bucket(0), opened(idleBuckets.bucket(0), Money.zero(usd)));
+
+    // Act
+    boolean moved = rebalancer.rebalance(idleBuckets);
+
+    // Assert
+    verify(accountEventStore, never()).appendEvents(any(), anyLong(), anyList());
+    verify(accountBalanceProjector, never()).project(anyList());
+    assertThat(moved).isFalse();
+  }
+}
@@ -0,0 +1,303 @@
+package org.girardsimon.wealthpay.account.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.testsupport.TestEventIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class AccountRepositoryTest {
+
+  AccountEventStore accountEventStore = mock(AccountEventStore.class);
+  AccountSnapshotStore accountSnapshotStore = mock(AccountSnapshotStore.class);
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  AccountRepository accountRepository =
+      new AccountRepository(accountEventStore, accountSnapshotStore, meterRegistry, 10L, 100L);
+
+  AccountId accountId = AccountId.newId();
+  SupportedCurrency usd = SupportedCurrency.USD;
+
+  private FundsCredited credited(long version, long amount) {
+    AccountEventMeta meta = AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), version);
+    return new FundsCredited(
+        meta, TransactionId.newId(), Money.of(BigDecimal.valueOf(amount), usd));
+  }
+
+  @Test
+  void load_replays_only_events_after_latest_snapshot() {
+    // Arrange
+    AccountSnapshot snapshot =
+        new AccountSnapshot(
+            accountId,
+            usd,
+            Money.of(BigDecimal.valueOf(100L), usd),
+            AccountStatus.OPENED,
+            20L,
+            Map.of());
+    when(accountSnapshotStore.loadLatestSnapshot(accountId)).thenReturn(Optional.of(snapshot));
+    givenEventsAfter(20L, credited(21L, 5L));
+
+    // Act
+    Account account = accountRepository.load(accountId);
+
+    // Assert
+    assertAll(
+        () -> assertThat(account.getVersion()).isEqualTo(21L),
+        () -> assertThat(account.getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(105L), usd)));
+    verify(accountEventStore, never()).replayEventsAfter(eq(accountId), eq(0L), any());
+  }
+
+  @Test
+  void load_replays_full_history_when_no_snapshot_exists() {
+    // Arrange
+    AccountEventMeta meta = AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L);
+    AccountOpened opened = new AccountOpened(meta, usd, Money.of(BigDecimal.TEN, usd));
+    when(accountSnapshotStore.loadLatestSnapshot(accountId)).thenReturn(Optional.empty());
+    givenEventsAfter(0L, opened, credited(2L, 5L));
+
+    // Act
+    Account account = accountRepository.load(accountId);
+
+    // Assert
+    assertAll(
+        () -> assertThat(account.getVersion()).isEqualTo(2L),
+        () -> assertThat(account.getBalance()).isEqualTo(Money.of(BigDecimal.valueOf(15L), usd)));
+    verify(accountEventStore, times(1)).replayEventsAfter(any(), anyLong(), any());
+  }
+
+  @Test
+  void append_saves_snapshot_when_new_events_cross_the_snapshot_interval() {
+    // Arrange
+    Account account = accountAtVersion(9L);
+    List<AccountEvent> events = credit(account);
+
+    // Act
+    accountRepository.append(account, events);
+
+    // Assert
+    verify(accountEventStore).appendEvents(accountId, 9L, events);
+    verify(accountSnapshotStore).saveSnapshot(account.toSnapshot());
+  }
+
+  @Test
+  void append_does_not_save_snapshot_within_the_snapshot_interval() {
+    // Arrange
+    Account account = accountAtVersion(10L);
+    List<AccountEvent> events = credit(account);
+
+    // Act
+    accountRepository.append(account, events);
+
+    // Assert
+    verify(accountEventStore).appendEvents(accountId, 10L, events);
+    verify(accountSnapshotStore, never()).saveSnapshot(any());
+  }
+
+  @Test
+  void load_serves_cached_state_and_only_reads_events_past_its_version() {
+    // Arrange
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(Optional.of(snapshotAt(20L)));
+    givenEventsAfter(20L, credited(21L, 5L));
+    givenEventsAfter(21L);
+
+    // Act
+    Account first = accountRepository.load(accountId);
+    Account second = accountRepository.load(accountId);
+
+    // Assert
+    assertAll(
+        () -> assertThat(second).isNotSameAs(first),
+        () -> assertThat(second.toSnapshot()).isEqualTo(first.toSnapshot()),
+        () ->
+            assertThat(
+                    meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0));
+    verify(accountSnapshotStore, times(1)).loadLatestSnapshot(accountId);
+    verify(accountEventStore).replayEventsAfter(eq(accountId), eq(21L), any());
+  }
+
+  @Test
+  void loadWithState_reuses_the_cached_state_when_no_event_was_appended_since() {
+    // Arrange
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(Optional.of(snapshotAt(20L)));
+    givenEventsAfter(20L);
+    AccountRepository.LoadedAccount first = accountRepository.loadWithState(accountId);
+
+    // Act
+    AccountRepository.LoadedAccount second = accountRepository.loadWithState(accountId);
+
+    // Assert
+    assertAll(
+        () -> assertThat(second.account()).isNotSameAs(first.account()),
+        () -> assertThat(second.state()).isSameAs(first.state()),
+        () -> assertThat(second.state()).isEqualTo(second.account().toSnapshot()));
+  }
+
+  @Test
+  void load_hands_out_copies_unaffected_by_handler_mutations() {
+    // Arrange
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(Optional.of(snapshotAt(20L)));
+    givenEventsAfter(20L);
+    Account mutated = accountRepository.load(accountId);
+    credit(mutated);
+
+    // Act
+    Account reloaded = accountRepository.load(accountId);
+
+    // Assert
+    assertAll(
+        () -> assertThat(reloaded.getVersion()).isEqualTo(20L),
+        () -> assertThat(reloaded.getBalance()).isEqualTo(Money.of(BigDecimal.TEN, usd)));
+  }
+
+  @Test
+  void append_caches_new_state_so_next_load_skips_snapshot_store() {
+    // Arrange
+    Account account = accountAtVersion(20L);
+    List<AccountEvent> events = credit(account);
+    givenEventsAfter(21L);
+
+    // Act
+    accountRepository.append(account, events);
+    Account reloaded = accountRepository.load(accountId);
+
+    // Assert
+    assertThat(reloaded.toSnapshot()).isEqualTo(account.toSnapshot());
+    verify(accountSnapshotStore, never()).loadLatestSnapshot(any());
+  }
+
+  @Test
+  void append_evicts_cached_state_on_optimistic_locking_failure() {
+    // Arrange
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(Optional.of(snapshotAt(20L)));
+    givenEventsAfter(20L);
+    Account account = accountRepository.load(accountId);
+    List<AccountEvent> events = credit(account);
+    doThrow(new OptimisticLockingFailureException("conflict"))
+        .when(accountEventStore)
+        .appendEvents(accountId, 20L, events);
+
+    // Act
+    assertThatExceptionOfType(OptimisticLockingFailureException.class)
+        .isThrownBy(() -> accountRepository.append(account, events));
+    accountRepository.load(accountId);
+
+    // Assert
+    verify(accountSnapshotStore, times(2)).loadLatestSnapshot(accountId);
+  }
+
+  @Test
+  void load_shares_an_in_flight_load_between_concurrent_callers_of_the_same_account()
+      throws Exception {
+    // Arrange
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(Optional.of(snapshotAt(20L)));
+    CountDownLatch replaying = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              replaying.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              Consumer<AccountEvent> consumer = invocation.getArgument(2);
+              consumer.accept(credited(21L, 5L));
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(accountId), eq(20L), any());
+    FutureTask<Account> firstLoad = new FutureTask<>(() -> accountRepository.load(accountId));
+    FutureTask<Account> secondLoad = new FutureTask<>(() -> accountRepository.load(accountId));
+
+    // Act
+    new Thread(firstLoad).start();
+    assertThat(replaying.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread secondCaller = new Thread(secondLoad);
+    secondCaller.start();
+    awaitWaiting(secondCaller);
+    release.countDown();
+    Account first = firstLoad.get(5, TimeUnit.SECONDS);
+    Account second = secondLoad.get(5, TimeUnit.SECONDS);
+
+    // Assert
+    assertAll(
+        () -> assertThat(second).isNotSameAs(first),
+        () -> assertThat(second.toSnapshot()).isEqualTo(first.toSnapshot()),
+        () -> assertThat(second.getVersion()).isEqualTo(21L));
+    verify(accountSnapshotStore, times(1)).loadLatestSnapshot(accountId);
+    verify(accountEventStore, times(1)).replayEventsAfter(any(), anyLong(), any());
+  }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+      Thread.sleep(1L);
+    }
+    assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+  }
+
+  private void givenEventsAfter(long afterVersion, AccountEvent... events) {
+    doAnswer(
+            invocation -> {
+              Consumer<AccountEvent> consumer = invocation.getArgument(2);
+              List.of(events).forEach(consumer);
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(accountId), eq(afterVersion), any());
+  }
+
+  private AccountSnapshot snapshotAt(long version) {
+    return new AccountSnapshot(
+        accountId, usd, Money.of(BigDecimal.TEN, usd), AccountStatus.OPENED, version, Map.of());
+  }
+
+  private Account accountAtVersion(long version) {
+    return Account.rehydrate(snapshotAt(version), List.of());
+  }
+
+  private List<AccountEvent> credit(Account account) {
+    CreditAccount creditAccount =
+        new CreditAccount(TransactionId.newId(), accountId, Money.of(BigDecimal.ONE, usd));
+    return account.handle(creditAccount, new TestEventIdGenerator(), Instant.now());
+  }
+}
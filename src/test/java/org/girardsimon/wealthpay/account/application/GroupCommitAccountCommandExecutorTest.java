@@ -0,0 +1,249 @@
+package org.girardsimon.wealthpay.account.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.testsupport.TestTransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class GroupCommitAccountCommandExecutorTest {
+
+  AccountEventStore accountEventStore = mock(AccountEventStore.class);
+  AccountSnapshotStore accountSnapshotStore = mock(AccountSnapshotStore.class);
+  AccountBalanceProjector accountBalanceProjector = mock(AccountBalanceProjector.class);
+  PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+  TransactionStatus transactionStatus = mock(TransactionStatus.class);
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  AccountRepository accountRepository =
+      new AccountRepository(accountEventStore, accountSnapshotStore, meterRegistry, 100L, 100L);
+
+  SupportedCurrency usd = SupportedCurrency.USD;
+
+  @BeforeEach
+  void openEveryAccount() {
+    when(accountSnapshotStore.loadLatestSnapshot(any()))
+        .thenAnswer(
+            invocation ->
+                Optional.of(
+                    new AccountSnapshot(
+                        invocation.getArgument(0),
+                        usd,
+                        Money.of(BigDecimal.TEN, usd),
+                        AccountStatus.OPENED,
+                        1L,
+                        Map.of())));
+    when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    when(transactionManager.getTransaction(writing())).thenReturn(transactionStatus);
+  }
+
+  private GroupCommitAccountCommandExecutor executor(int maxGroupSize) {
+    return new GroupCommitAccountCommandExecutor(
+        accountRepository,
+        accountBalanceProjector,
+        transactionManager,
+        meterRegistry,
+        Duration.ofHours(1),
+        maxGroupSize);
+  }
+
+  private static TransactionDefinition writing() {
+    return argThat(definition -> !definition.isReadOnly());
+  }
+
+  private CommandOutcome<Long> credit(Account account) {
+    CreditAccount creditAccount =
+        new CreditAccount(TransactionId.newId(), account.getId(), Money.of(BigDecimal.ONE, usd));
+    return new CommandOutcome<>(
+        account.handle(creditAccount, EventId::newId, Instant.now()), account.getVersion());
+  }
+
+  @Test
+  void execute_appends_a_group_in_one_transaction_and_fails_only_the_conflicting_command()
+      throws Exception {
+    // Arrange
+    AccountId first = AccountId.newId();
+    AccountId conflicting = AccountId.newId();
+    AccountId second = AccountId.newId();
+    OptimisticLockingFailureException conflict =
+        new OptimisticLockingFailureException("Version mismatch");
+    doThrow(conflict).when(accountEventStore).appendEvents(eq(conflicting), eq(1L), anyList());
+    GroupCommitAccountCommandExecutor executor = executor(3);
+
+    // Act
+    Future<Long> firstCommand;
+    Future<Long> conflictingCommand;
+    Future<Long> secondCommand;
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      firstCommand = callers.submit(() -> executor.execute(first, this::credit));
+      conflictingCommand = callers.submit(() -> executor.execute(conflicting, this::credit));
+      secondCommand = callers.submit(() -> executor.execute(second, this::credit));
+    }
+
+    // Assert
+    DistributionSummary groupSizes =
+        meterRegistry.get(GroupCommitAccountCommandExecutor.GROUP_SIZE_METRIC).summary();
+    assertAll(
+        () -> assertThat(firstCommand.get(5, TimeUnit.SECONDS)).isEqualTo(2L),
+        () -> assertThat(secondCommand.get(5, TimeUnit.SECONDS)).isEqualTo(2L),
+        () ->
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> conflictingCommand.get(5, TimeUnit.SECONDS))
+                .withCause(conflict),
+        () -> assertThat(groupSizes.count()).isEqualTo(1L),
+        () -> assertThat(groupSizes.totalAmount()).isEqualTo(3.0));
+    verify(transactionManager, times(1)).getTransaction(writing());
+    verify(transactionManager, times(1)).commit(transactionStatus);
+    verify(transactionStatus, times(1)).rollbackToSavepoint(any());
+    verify(accountEventStore).appendEvents(eq(first), eq(1L), anyList());
+    verify(accountEventStore).appendEvents(eq(second), eq(1L), anyList());
+  }
+
+  @Test
+  void execute_handles_a_command_again_on_the_state_left_by_the_preceding_one_of_its_account()
+      throws Exception {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    GroupCommitAccountCommandExecutor executor = executor(2);
+
+    // Act
+    Future<Long> firstCommand;
+    Future<Long> secondCommand;
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      firstCommand = callers.submit(() -> executor.execute(accountId, this::credit));
+      secondCommand = callers.submit(() -> executor.execute(accountId, this::credit));
+    }
+
+    // Assert
+    assertThat(
+            List.of(firstCommand.get(5, TimeUnit.SECONDS), secondCommand.get(5, TimeUnit.SECONDS)))
+        .containsExactlyInAnyOrder(2L, 3L);
+    verify(transactionManager, times(1)).commit(transactionStatus);
+    verify(transactionStatus, times(0)).rollbackToSavepoint(any());
+    verify(accountEventStore).appendEvents(eq(accountId), eq(1L), anyList());
+    verify(accountEventStore).appendEvents(eq(accountId), eq(2L), anyList());
+  }
+
+  @Test
+  void execute_writes_the_group_again_without_the_accounts_rejected_by_the_projection()
+      throws Exception {
+    // Arrange
+    AccountId kept = AccountId.newId();
+    AccountId rejected = AccountId.newId();
+    when(accountBalanceProjector.projectAll(anyList()))
+        .thenReturn(Set.of(rejected))
+        .thenReturn(Set.of());
+    GroupCommitAccountCommandExecutor executor = executor(2);
+
+    // Act
+    Future<Long> keptCommand;
+    Future<Long> rejectedCommand;
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      keptCommand = callers.submit(() -> executor.execute(kept, this::credit));
+      rejectedCommand = callers.submit(() -> executor.execute(rejected, this::credit));
+    }
+
+    // Assert
+    assertAll(
+        () -> assertThat(keptCommand.get(5, TimeUnit.SECONDS)).isEqualTo(2L),
+        () ->
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> rejectedCommand.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(OptimisticLockingFailureException.class));
+    verify(transactionStatus, times(1)).setRollbackOnly();
+    verify(transactionManager, times(2)).getTransaction(writing());
+    verify(accountEventStore, times(2)).appendEvents(eq(kept), eq(1L), anyList());
+    verify(accountEventStore, times(1)).appendEvents(eq(rejected), eq(1L), anyList());
+  }
+
+  @Test
+  void execute_loads_the_account_in_a_read_only_transaction() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    List<Boolean> readOnlyTransactionActive = new ArrayList<>();
+    doAnswer(
+            _ -> {
+              readOnlyTransactionActive.add(
+                  TransactionSynchronizationManager.isActualTransactionActive()
+                      && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(accountId), eq(1L), any());
+    GroupCommitAccountCommandExecutor executor =
+        new GroupCommitAccountCommandExecutor(
+            accountRepository,
+            accountBalanceProjector,
+            new TestTransactionManager(),
+            meterRegistry,
+            Duration.ofHours(1),
+            1);
+
+    // Act
+    executor.execute(
+        accountId, account -> new CommandOutcome<>(List.<AccountEvent>of(), account.getVersion()));
+
+    // Assert
+    assertThat(readOnlyTransactionActive).containsExactly(true);
+  }
+
+  @Test
+  void execute_returns_without_joining_a_group_when_the_command_emits_no_event() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    GroupCommitAccountCommandExecutor executor = executor(2);
+
+    // Act
+    Long version =
+        executor.execute(
+            accountId,
+            account -> new CommandOutcome<>(List.<AccountEvent>of(), account.getVersion()));
+
+    // Assert
+    assertThat(version).isEqualTo(1L);
+    verify(transactionManager, times(0)).getTransaction(writing());
+  }
+}
@@ -0,0 +1,217 @@
+package org.girardsimon.wealthpay.account.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.testsupport.TestEventIdGenerator;
+import org.girardsimon.wealthpay.account.testsupport.TestTransactionManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MailboxAccountCommandExecutorTest {
+
+  AccountEventStore accountEventStore = mock(AccountEventStore.class);
+  AccountSnapshotStore accountSnapshotStore = mock(AccountSnapshotStore.class);
+  AccountBalanceProjector accountBalanceProjector = mock(AccountBalanceProjector.class);
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  AccountRepository accountRepository =
+      new AccountRepository(accountEventStore, accountSnapshotStore, meterRegistry, 100L, 100L);
+
+  AccountId accountId = AccountId.newId();
+  SupportedCurrency usd = SupportedCurrency.USD;
+  TestEventIdGenerator eventIdGenerator = new TestEventIdGenerator();
+
+  private MailboxAccountCommandExecutor executor(Duration idleTimeout) {
+    return new MailboxAccountCommandExecutor(
+        accountRepository,
+        accountBalanceProjector,
+        mock(PlatformTransactionManager.class),
+        meterRegistry,
+        idleTimeout);
+  }
+
+  private CommandOutcome<Long> credit(Account account) {
+    CreditAccount creditAccount =
+        new CreditAccount(TransactionId.newId(), accountId, Money.of(BigDecimal.ONE, usd));
+    return new CommandOutcome<>(
+        account.handle(creditAccount, eventIdGenerator, Instant.now()), account.getVersion());
+  }
+
+  private void givenOpenedAccount() {
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(
+            Optional.of(
+                new AccountSnapshot(
+                    accountId,
+                    usd,
+                    Money.of(BigDecimal.TEN, usd),
+                    AccountStatus.OPENED,
+                    1L,
+                    Map.of())));
+  }
+
+  private double mailboxes() {
+    return meterRegistry.get(MailboxAccountCommandExecutor.MAILBOXES_METRIC).gauge().value();
+  }
+
+  @Test
+  void execute_runs_concurrent_commands_of_an_account_one_after_the_other_without_reloading()
+      throws Exception {
+    // Arrange
+    givenOpenedAccount();
+    MailboxAccountCommandExecutor executor = executor(Duration.ofMinutes(1));
+    int commands = 50;
+
+    // Act
+    List<Long> versions = new ArrayList<>();
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < commands; i++) {
+        results.add(callers.submit(() -> executor.execute(accountId, this::credit)));
+      }
+      for (Future<Long> result : results) {
+        versions.add(result.get(5, TimeUnit.SECONDS));
+      }
+    }
+
+    // Assert
+    ArgumentCaptor<Long> expectedVersions = ArgumentCaptor.forClass(Long.class);
+    verify(accountEventStore, times(commands))
+        .appendEvents(eq(accountId), expectedVersions.capture(), any());
+    assertAll(
+        () ->
+            assertThat(expectedVersions.getAllValues())
+                .isEqualTo(LongStream.rangeClosed(1L, commands).boxed().toList()),
+        () ->
+            assertThat(versions)
+                .containsExactlyInAnyOrderElementsOf(
+                    LongStream.rangeClosed(2L, commands + 1L).boxed().toList()));
+    verify(accountSnapshotStore, times(1)).loadLatestSnapshot(accountId);
+    verify(accountEventStore, times(1)).replayEventsAfter(eq(accountId), eq(1L), any());
+    verify(accountBalanceProjector, times(commands)).project(any());
+  }
+
+  @Test
+  void execute_loads_the_aggregate_in_a_read_only_transaction() {
+    // Arrange
+    givenOpenedAccount();
+    List<Boolean> readOnlyTransactionActive = new ArrayList<>();
+    doAnswer(
+            _ -> {
+              readOnlyTransactionActive.add(
+                  TransactionSynchronizationManager.isActualTransactionActive()
+                      && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(accountId), eq(1L), any());
+    MailboxAccountCommandExecutor executor =
+        new MailboxAccountCommandExecutor(
+            accountRepository,
+            accountBalanceProjector,
+            new TestTransactionManager(),
+            meterRegistry,
+            Duration.ofMinutes(1));
+
+    // Act
+    executor.execute(accountId, this::credit);
+
+    // Assert
+    assertThat(readOnlyTransactionActive).containsExactly(true);
+  }
+
+  @Test
+  void execute_reloads_the_aggregate_after_a_failed_command() {
+    // Arrange
+    givenOpenedAccount();
+    MailboxAccountCommandExecutor executor = executor(Duration.ofMinutes(1));
+    IllegalStateException failure = new IllegalStateException("rejected");
+
+    // Act
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(
+            () ->
+                executor.execute(
+                    accountId,
+                    _ -> {
+                      throw failure;
+                    }))
+        .isSameAs(failure);
+    Long version = executor.execute(accountId, this::credit);
+
+    // Assert
+    assertThat(version).isEqualTo(2L);
+    verify(accountEventStore, times(2)).replayEventsAfter(eq(accountId), eq(1L), any());
+    verify(accountEventStore).appendEvents(eq(accountId), eq(1L), any());
+  }
+
+  @Test
+  void forget_makes_the_next_command_reload_the_aggregate() {
+    // Arrange
+    givenOpenedAccount();
+    MailboxAccountCommandExecutor executor = executor(Duration.ofMinutes(1));
+    executor.execute(accountId, this::credit);
+
+    // Act
+    executor.forget(accountId);
+    Long version = executor.execute(accountId, this::credit);
+
+    // Assert
+    assertThat(version).isEqualTo(3L);
+    verify(accountEventStore).replayEventsAfter(eq(accountId), eq(2L), any());
+    verify(accountEventStore).appendEvents(eq(accountId), eq(2L), any());
+  }
+
+  @Test
+  void execute_removes_idle_mailboxes_and_reopens_them_on_demand() throws Exception {
+    // Arrange
+    givenOpenedAccount();
+    MailboxAccountCommandExecutor executor = executor(Duration.ofMillis(20));
+    executor.execute(accountId, this::credit);
+
+    // Act
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (mailboxes() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(5L);
+    }
+    double mailboxesWhenIdle = mailboxes();
+    Long version = executor.execute(accountId, this::credit);
+
+    // Assert
+    assertAll(
+        () -> assertThat(mailboxesWhenIdle).isZero(), () -> assertThat(version).isEqualTo(3L));
+  }
+}
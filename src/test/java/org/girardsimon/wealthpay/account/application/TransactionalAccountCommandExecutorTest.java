@@ -0,0 +1,163 @@
+package org.girardsimon.wealthpay.account.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.girardsimon.wealthpay.account.domain.command.CreditAccount;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.model.Account;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TransactionalAccountCommandExecutorTest {
+
+  AccountEventStore accountEventStore = mock(AccountEventStore.class);
+  AccountSnapshotStore accountSnapshotStore = mock(AccountSnapshotStore.class);
+  AccountBalanceProjector accountBalanceProjector = mock(AccountBalanceProjector.class);
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  AccountRepository accountRepository =
+      new AccountRepository(accountEventStore, accountSnapshotStore, meterRegistry, 100L, 100L);
+
+  TransactionalAccountCommandExecutor executor =
+      new TransactionalAccountCommandExecutor(
+          accountRepository,
+          accountBalanceProjector,
+          mock(PlatformTransactionManager.class),
+          new AccountCommandRetrier(
+              meterRegistry, 2L, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ZERO));
+
+  AccountId accountId = AccountId.newId();
+  SupportedCurrency usd = SupportedCurrency.USD;
+
+  @BeforeEach
+  void givenOpenedAccount() {
+    when(accountSnapshotStore.loadLatestSnapshot(accountId))
+        .thenReturn(
+            Optional.of(
+                new AccountSnapshot(
+                    accountId,
+                    usd,
+                    Money.of(BigDecimal.TEN, usd),
+                    AccountStatus.OPENED,
+                    1L,
+                    Map.of())));
+  }
+
+  private CommandOutcome<Long> credit(Account account) {
+    CreditAccount creditAccount =
+        new CreditAccount(TransactionId.newId(), accountId, Money.of(BigDecimal.ONE, usd));
+    return new CommandOutcome<>(
+        account.handle(creditAccount, EventId::newId, Instant.now()), account.getVersion());
+  }
+
+  private double counter(String metric) {
+    return meterRegistry.get(metric).counter().count();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void execute_rebases_on_the_concurrent_events_and_handles_the_command_again_after_a_conflict() {
+    // Arrange
+    FundsCredited concurrentCredit =
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 2L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.ONE, usd));
+    doNothing()
+        .doAnswer(
+            invocation -> {
+              invocation.getArgument(2, Consumer.class).accept(concurrentCredit);
+              return null;
+            })
+        .when(accountEventStore)
+        .replayEventsAfter(eq(accountId), eq(1L), any());
+    doThrow(new OptimisticLockingFailureException("Version mismatch"))
+        .when(accountEventStore)
+        .appendEvents(eq(accountId), eq(1L), anyList());
+
+    // Act
+    Long version = executor.execute(accountId, this::credit);
+
+    // Assert
+    assertAll(
+        () -> assertThat(version).isEqualTo(3L),
+        () -> assertThat(counter(AccountCommandRetrier.RETRIES_METRIC)).isEqualTo(1.0),
+        () -> assertThat(counter(AccountCommandRetrier.CONFLICTS_METRIC)).isZero());
+    verify(accountSnapshotStore, times(1)).loadLatestSnapshot(accountId);
+    verify(accountEventStore, times(2)).replayEventsAfter(eq(accountId), eq(1L), any());
+    verify(accountEventStore).appendEvents(eq(accountId), eq(2L), anyList());
+    verify(accountBalanceProjector, times(1)).project(anyList());
+  }
+
+  @Test
+  void execute_fails_with_the_conflict_once_retries_are_exhausted() {
+    // Arrange
+    OptimisticLockingFailureException conflict =
+        new OptimisticLockingFailureException("Version mismatch");
+    doThrow(conflict).when(accountEventStore).appendEvents(eq(accountId), eq(1L), anyList());
+
+    // Act
+    assertThatExceptionOfType(OptimisticLockingFailureException.class)
+        .isThrownBy(() -> executor.execute(accountId, this::credit))
+        .isSameAs(conflict);
+
+    // Assert
+    assertAll(
+        () -> assertThat(counter(AccountCommandRetrier.RETRIES_METRIC)).isEqualTo(2.0),
+        () -> assertThat(counter(AccountCommandRetrier.CONFLICTS_METRIC)).isEqualTo(1.0));
+    verify(accountEventStore, times(3)).appendEvents(eq(accountId), eq(1L), anyList());
+    verify(accountBalanceProjector, times(0)).project(anyList());
+  }
+
+  @Test
+  void execute_does_not_retry_a_command_rejected_by_the_aggregate() {
+    // Arrange
+    IllegalStateException rejection = new IllegalStateException("rejected");
+
+    // Act
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(
+            () ->
+                executor.execute(
+                    accountId,
+                    _ -> {
+                      throw rejection;
+                    }))
+        .isSameAs(rejection);
+
+    // Assert
+    assertAll(
+        () -> assertThat(counter(AccountCommandRetrier.RETRIES_METRIC)).isZero(),
+        () -> assertThat(counter(AccountCommandRetrier.CONFLICTS_METRIC)).isZero());
+    verify(accountEventStore, times(1)).replayEventsAfter(eq(accountId), eq(1L), any());
+  }
+}
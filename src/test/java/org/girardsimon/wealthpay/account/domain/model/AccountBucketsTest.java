@@ -0,0 +1,64 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AccountBucketsTest {
+
+  AccountId accountId = AccountId.newId();
+
+  @Test
+  void check_bucket_count_consistency() {
+    // Arrange ... Act ... Assert
+    assertAll(
+        () ->
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AccountBuckets(accountId, 0)),
+        () ->
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AccountBuckets(null, 4)));
+  }
+
+  @Test
+  void bucketIds_are_distinct_and_derived_from_the_account_id() {
+    // Arrange
+    AccountBuckets buckets = new AccountBuckets(accountId, 8);
+
+    // Act
+    List<AccountId> bucketIds = buckets.bucketIds();
+
+    // Assert
+    assertAll(
+        () -> assertThat(bucketIds).hasSize(8).doesNotHaveDuplicates().doesNotContain(accountId),
+        () -> assertThat(new AccountBuckets(accountId, 8).bucketIds()).isEqualTo(bucketIds),
+        () ->
+            assertThat(new AccountBuckets(AccountId.newId(), 8).bucketIds())
+                .doesNotContainAnyElementsOf(bucketIds));
+  }
+
+  @Test
+  void bucketFor_always_picks_the_same_bucket_for_a_transaction_and_spreads_transactions() {
+    // Arrange
+    AccountBuckets buckets = new AccountBuckets(accountId, 8);
+    TransactionId transactionId = TransactionId.newId();
+
+    // Act
+    Set<AccountId> used = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      used.add(buckets.bucketFor(TransactionId.newId()));
+    }
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(buckets.bucketFor(transactionId))
+                .isEqualTo(buckets.bucketFor(transactionId)),
+        () -> assertThat(used).containsExactlyInAnyOrderElementsOf(buckets.bucketIds()));
+  }
+}
@@ -1,13 +1,16 @@
 package org.girardsimon.wealthpay.account.domain.model;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
 import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
 import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
 import org.girardsimon.wealthpay.account.domain.exception.AccountHistoryNotFound;
 import org.girardsimon.wealthpay.account.domain.exception.InvalidAccountEventStreamException;
@@ -39,4 +42,98 @@ class AccountTest {
     assertThatExceptionOfType(AccountHistoryNotFound.class)
         .isThrownBy(() -> Account.rehydrate(history));
   }
+
+  @Test
+  void rehydrate_from_snapshot_matches_full_replay() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency currency = SupportedCurrency.USD;
+    ReservationId reservationId = ReservationId.newId();
+    Money reserved = Money.of(BigDecimal.valueOf(3L), currency);
+    AccountSnapshot snapshot =
+        new AccountSnapshot(
+            accountId,
+            currency,
+            Money.of(BigDecimal.valueOf(10L), currency),
+            AccountStatus.OPENED,
+            4L,
+            Map.of(reservationId, reserved));
+    AccountEventMeta meta = AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 5L);
+    AccountEvent credited =
+        new FundsCredited(meta, TransactionId.newId(), Money.of(BigDecimal.valueOf(5L), currency));
+
+    // Act
+    Account account = Account.rehydrate(snapshot, List.of(credited));
+
+    // Assert
+    assertThat(account.toSnapshot())
+        .isEqualTo(
+            new AccountSnapshot(
+                accountId,
+                currency,
+                Money.of(BigDecimal.valueOf(15L), currency),
+                AccountStatus.OPENED,
+                5L,
+                Map.of(reservationId, reserved)));
+  }
+
+  @Test
+  void rehydrate_from_snapshot_requires_contiguous_tail() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency currency = SupportedCurrency.USD;
+    AccountSnapshot snapshot =
+        new AccountSnapshot(
+            accountId,
+            currency,
+            Money.of(BigDecimal.valueOf(10L), currency),
+            AccountStatus.OPENED,
+            4L,
+            Map.of());
+    AccountEventMeta meta = AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 6L);
+    AccountEvent credited =
+        new FundsCredited(meta, TransactionId.newId(), Money.of(BigDecimal.valueOf(5L), currency));
+    List<AccountEvent> tail = List.of(credited);
+
+    // Act ... Assert
+    assertThatExceptionOfType(InvalidAccountEventStreamException.class)
+        .isThrownBy(() -> Account.rehydrate(snapshot, tail));
+  }
+
+  @Test
+  void rehydrator_applied_event_by_event_matches_list_rehydration() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency currency = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    List<AccountEvent> history =
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+                currency,
+                Money.of(BigDecimal.TEN, currency)),
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.valueOf(5L), currency)));
+    Account.Rehydrator rehydrator = Account.rehydrator();
+
+    // Act
+    for (AccountEvent event : history) {
+      rehydrator.accept(event);
+    }
+    Account account = rehydrator.build();
+
+    // Assert
+    assertThat(account.toSnapshot()).isEqualTo(Account.rehydrate(history).toSnapshot());
+  }
+
+  @Test
+  void rehydrator_without_events_reports_missing_history() {
+    // Arrange
+    Account.Rehydrator rehydrator = Account.rehydrator();
+
+    // Act ... Assert
+    assertThatExceptionOfType(AccountHistoryNotFound.class).isThrownBy(rehydrator::build);
+  }
 }
@@ -2,6 +2,7 @@ package org.girardsimon.wealthpay.account.domain.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.math.BigDecimal;
 import java.util.stream.Stream;
@@ -58,4 +59,41 @@ class MoneyTest {
     // Assert
     assertThat(money.amount()).isEqualTo(new BigDecimal("10.50"));
   }
+
+  @Test
+  void minor_units_follow_currency_fraction_digits() {
+    // Act
+    Money dollars = Money.of(new BigDecimal("10.50"), SupportedCurrency.USD);
+    Money yens = Money.of(new BigDecimal("1050"), SupportedCurrency.JPY);
+
+    // Assert
+    assertAll(
+        () -> assertThat(dollars.minorUnits()).isEqualTo(1_050L),
+        () -> assertThat(yens.minorUnits()).isEqualTo(1_050L),
+        () ->
+            assertThat(Money.ofMinorUnits(1_050L, SupportedCurrency.USD))
+                .isEqualTo(dollars)
+                .hasSameHashCodeAs(dollars),
+        () -> assertThat(dollars).isNotEqualTo(yens));
+  }
+
+  @Test
+  void rejects_amount_beyond_long_minor_units() {
+    // Arrange
+    BigDecimal amount = new BigDecimal("92233720368547758.08");
+
+    // Act ... Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> Money.of(amount, SupportedCurrency.USD));
+  }
+
+  @Test
+  void add_fails_instead_of_overflowing() {
+    // Arrange
+    Money max = Money.ofMinorUnits(Long.MAX_VALUE, SupportedCurrency.USD);
+    Money cent = Money.ofMinorUnits(1L, SupportedCurrency.USD);
+
+    // Act ... Assert
+    assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> max.add(cent));
+  }
 }
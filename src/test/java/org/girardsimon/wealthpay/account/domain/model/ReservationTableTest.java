@@ -0,0 +1,99 @@
+package org.girardsimon.wealthpay.account.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ReservationTableTest {
+
+  SupportedCurrency usd = SupportedCurrency.USD;
+
+  @Test
+  void keeps_running_total_of_open_reservations() {
+    // Arrange
+    ReservationTable table = new ReservationTable(usd);
+    ReservationId first = ReservationId.newId();
+    ReservationId second = ReservationId.newId();
+
+    // Act
+    table.put(first, 1_000L);
+    table.put(second, 250L);
+    table.put(first, 400L);
+    table.remove(second);
+    table.remove(ReservationId.newId());
+
+    // Assert
+    assertAll(
+        () -> assertThat(table.reservedMinorUnits()).isEqualTo(400L),
+        () -> assertThat(table.size()).isEqualTo(1),
+        () -> assertThat(table.get(first)).isEqualTo(Money.ofMinorUnits(400L, usd)),
+        () -> assertThat(table.get(second)).isNull(),
+        () -> assertThat(table.containsKey(second)).isFalse());
+  }
+
+  @Test
+  void removal_inside_a_probe_cluster_keeps_following_entries_reachable() {
+    // Arrange
+    ReservationTable table = new ReservationTable(usd);
+    List<ReservationId> colliding = new ArrayList<>();
+    for (long i = 0; i < 6; i++) {
+      // Identical xor of both halves, hence identical home slot
+      colliding.add(ReservationId.of(new UUID(42L ^ i, 7L ^ i)));
+    }
+    for (int i = 0; i < colliding.size(); i++) {
+      table.put(colliding.get(i), i + 1L);
+    }
+
+    // Act
+    table.remove(colliding.get(1));
+    table.remove(colliding.get(3));
+
+    // Assert
+    assertAll(
+        () -> assertThat(table.containsKey(colliding.get(0))).isTrue(),
+        () -> assertThat(table.containsKey(colliding.get(1))).isFalse(),
+        () -> assertThat(table.containsKey(colliding.get(2))).isTrue(),
+        () -> assertThat(table.containsKey(colliding.get(3))).isFalse(),
+        () -> assertThat(table.get(colliding.get(5))).isEqualTo(Money.ofMinorUnits(6L, usd)),
+        () -> assertThat(table.reservedMinorUnits()).isEqualTo(1L + 3L + 5L + 6L));
+  }
+
+  @Test
+  void behaves_like_a_hash_map_under_random_puts_and_removes() {
+    // Arrange
+    Random random = new Random(20251116L);
+    List<ReservationId> ids = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      ids.add(ReservationId.of(new UUID(random.nextLong(), random.nextLong())));
+    }
+    ReservationTable table = new ReservationTable(usd);
+    Map<ReservationId, Money> expected = new HashMap<>();
+
+    // Act
+    for (int operation = 0; operation < 50_000; operation++) {
+      ReservationId id = ids.get(random.nextInt(ids.size()));
+      if (random.nextInt(3) == 0) {
+        table.remove(id);
+        expected.remove(id);
+      } else {
+        long amount = 1L + random.nextInt(10_000);
+        table.put(id, amount);
+        expected.put(id, Money.ofMinorUnits(amount, usd));
+      }
+    }
+
+    // Assert
+    long expectedTotal = expected.values().stream().mapToLong(Money::minorUnits).sum();
+    assertAll(
+        () -> assertThat(table.toMap()).isEqualTo(expected),
+        () -> assertThat(table.size()).isEqualTo(expected.size()),
+        () -> assertThat(table.reservedMinorUnits()).isEqualTo(expectedTotal));
+  }
+}
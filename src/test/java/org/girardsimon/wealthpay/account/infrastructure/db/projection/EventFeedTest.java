@@ -0,0 +1,101 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.girardsimon.wealthpay.account.application.AccountEventStore;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.AbstractContainerTest;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.AccountEventRepository;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.AccountTransactionRepository;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountEventSerializer;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+@JooqTest
+@Import({
+  EventFeed.class,
+  AccountEventRepository.class,
+  AccountTransactionRepository.class,
+  EventStoreEntryToAccountEventMapper.class,
+  AccountEventSerializer.class,
+  ObjectMapper.class
+})
+class EventFeedTest extends AbstractContainerTest {
+
+  @Autowired private EventFeed eventFeed;
+  @Autowired private AccountEventStore accountEventStore;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private List<AccountEvent> history(AccountId accountId) {
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    return List.of(
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd)),
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 2L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.ONE, usd)));
+  }
+
+  private List<FeedEntry> entriesOf(AccountId accountId) {
+    return eventFeed.readAfter(FeedPosition.START, 100_000).stream()
+        .filter(entry -> entry.event().accountId().equals(accountId))
+        .toList();
+  }
+
+  @Test
+  void readAfter_returns_committed_events_in_feed_order() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    List<AccountEvent> events = history(accountId);
+    TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+    // REQUIRES_NEW forces the actual commit (otherwise @JooqTest rolls back everything)
+    txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    txTemplate.execute(
+        _ -> {
+          accountEventStore.appendEvents(accountId, 0L, events);
+          return null;
+        });
+
+    // Act
+    List<FeedEntry> entries = entriesOf(accountId);
+
+    // Assert
+    assertThat(entries).extracting(FeedEntry::event).containsExactlyElementsOf(events);
+    assertThat(entries).extracting(FeedEntry::position).isSorted();
+  }
+
+  @Test
+  void readAfter_skips_events_of_transactions_still_in_flight() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    accountEventStore.appendEvents(accountId, 0L, history(accountId));
+
+    // Act
+    List<FeedEntry> entries = entriesOf(accountId);
+
+    // Assert
+    assertThat(entries).isEmpty();
+  }
+}
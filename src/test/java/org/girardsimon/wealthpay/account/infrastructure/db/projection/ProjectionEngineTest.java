@@ -0,0 +1,213 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ProjectionEngineTest {
+
+  EventFeed eventFeed = mock(EventFeed.class);
+  ProjectionCheckpointRepository projectionCheckpointRepository =
+      mock(ProjectionCheckpointRepository.class);
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  Clock clock = Clock.fixed(Instant.parse("2025-11-16T15:00:10Z"), ZoneOffset.UTC);
+
+  RecordingProjection balances = new RecordingProjection("balances");
+  RecordingProjection statements = new RecordingProjection("statements");
+
+  AccountId accountId = AccountId.newId();
+
+  private ProjectionEngine engine(int batchSize) {
+    return new ProjectionEngine(
+        eventFeed,
+        projectionCheckpointRepository,
+        List.of(balances, statements),
+        mock(PlatformTransactionManager.class),
+        meterRegistry,
+        clock,
+        batchSize);
+  }
+
+  private FeedEntry entry(long transactionId, long eventStoreId, long version) {
+    AccountEventMeta meta = AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), version);
+    return new FeedEntry(
+        new FeedPosition(transactionId, eventStoreId),
+        new FundsCredited(
+            meta, TransactionId.newId(), Money.of(BigDecimal.ONE, SupportedCurrency.USD)));
+  }
+
+  @Test
+  void poll_reads_the_feed_once_and_feeds_each_projection_from_its_own_checkpoint() {
+    // Arrange
+    FeedEntry first = entry(700L, 1L, 1L);
+    FeedEntry second = entry(700L, 2L, 2L);
+    FeedEntry third = entry(702L, 3L, 3L);
+    when(projectionCheckpointRepository.lock(List.of("balances", "statements")))
+        .thenReturn(
+            Map.of("balances", FeedPosition.START, "statements", new FeedPosition(700L, 2L)));
+    when(eventFeed.readAfter(FeedPosition.START, 10)).thenReturn(List.of(first, second, third));
+
+    // Act
+    engine(10).poll();
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(balances.received)
+                .containsExactly(first.event(), second.event(), third.event()),
+        () -> assertThat(statements.received).containsExactly(third.event()));
+    verify(projectionCheckpointRepository).save("balances", new FeedPosition(702L, 3L));
+    verify(projectionCheckpointRepository).save("statements", new FeedPosition(702L, 3L));
+  }
+
+  @Test
+  void poll_never_moves_a_checkpoint_backwards() {
+    // Arrange
+    FeedEntry first = entry(700L, 1L, 1L);
+    when(projectionCheckpointRepository.lock(any()))
+        .thenReturn(
+            Map.of("balances", FeedPosition.START, "statements", new FeedPosition(900L, 5L)));
+    when(eventFeed.readAfter(FeedPosition.START, 10)).thenReturn(List.of(first));
+
+    // Act
+    engine(10).poll();
+
+    // Assert
+    assertThat(statements.received).isEmpty();
+    verify(projectionCheckpointRepository, never()).save(eq("statements"), any());
+  }
+
+  @Test
+  void poll_keeps_reading_while_batches_are_full() {
+    // Arrange
+    FeedEntry first = entry(700L, 1L, 1L);
+    FeedEntry second = entry(701L, 2L, 2L);
+    FeedPosition afterFirst = first.position();
+    when(projectionCheckpointRepository.lock(any()))
+        .thenReturn(Map.of("balances", FeedPosition.START, "statements", FeedPosition.START))
+        .thenReturn(Map.of("balances", afterFirst, "statements", afterFirst));
+    when(eventFeed.readAfter(FeedPosition.START, 1)).thenReturn(List.of(first));
+    when(eventFeed.readAfter(afterFirst, 1)).thenReturn(List.of());
+
+    // Act
+    engine(1).poll();
+
+    // Assert
+    verify(eventFeed).readAfter(afterFirst, 1);
+    assertThat(balances.received).containsExactly(first.event()).doesNotContain(second.event());
+  }
+
+  @Test
+  void poll_reports_age_of_oldest_unapplied_event_as_lag() {
+    // Arrange
+    FeedPosition balancesCheckpoint = new FeedPosition(700L, 1L);
+    when(projectionCheckpointRepository.lock(any()))
+        .thenReturn(Map.of("balances", balancesCheckpoint, "statements", balancesCheckpoint));
+    when(eventFeed.readAfter(any(), anyInt())).thenReturn(List.of());
+    when(projectionCheckpointRepository.find(any()))
+        .thenReturn(
+            Map.of("balances", balancesCheckpoint, "statements", new FeedPosition(800L, 9L)));
+    when(eventFeed.firstAppendedAtAfter(balancesCheckpoint))
+        .thenReturn(Optional.of(Instant.parse("2025-11-16T15:00:07Z")));
+    when(eventFeed.firstAppendedAtAfter(new FeedPosition(800L, 9L))).thenReturn(Optional.empty());
+
+    // Act
+    engine(10).poll();
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(
+                    meterRegistry
+                        .get(ProjectionEngine.LAG_METRIC)
+                        .tag("projection", "balances")
+                        .timeGauge()
+                        .value(TimeUnit.SECONDS))
+                .isEqualTo(3.0),
+        () ->
+            assertThat(
+                    meterRegistry
+                        .get(ProjectionEngine.LAG_METRIC)
+                        .tag("projection", "statements")
+                        .timeGauge()
+                        .value(TimeUnit.SECONDS))
+                .isZero());
+  }
+
+  @Test
+  void poll_reports_the_lag_of_a_projection_whose_batch_fails() {
+    // Arrange
+    FeedPosition checkpoint = new FeedPosition(700L, 1L);
+    when(projectionCheckpointRepository.lock(any()))
+        .thenReturn(Map.of("balances", checkpoint, "statements", checkpoint));
+    IllegalStateException failure = new IllegalStateException("feed unavailable");
+    when(eventFeed.readAfter(any(), anyInt())).thenThrow(failure);
+    when(projectionCheckpointRepository.find(any()))
+        .thenReturn(Map.of("balances", checkpoint, "statements", checkpoint));
+    when(eventFeed.firstAppendedAtAfter(checkpoint))
+        .thenReturn(Optional.of(Instant.parse("2025-11-16T15:00:04Z")));
+    ProjectionEngine engine = engine(10);
+
+    // Act
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(engine::poll)
+        .isSameAs(failure);
+
+    // Assert
+    assertThat(
+            meterRegistry
+                .get(ProjectionEngine.LAG_METRIC)
+                .tag("projection", "balances")
+                .timeGauge()
+                .value(TimeUnit.SECONDS))
+        .isEqualTo(6.0);
+  }
+
+  private static final class RecordingProjection implements Projection {
+
+    private final String name;
+    private final List<AccountEvent> received = new ArrayList<>();
+
+    private RecordingProjection(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public void apply(List<AccountEvent> events) {
+      received.addAll(events);
+    }
+  }
+}
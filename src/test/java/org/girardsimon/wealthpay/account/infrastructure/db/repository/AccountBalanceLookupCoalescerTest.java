@@ -0,0 +1,158 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.junit.jupiter.api.Test;
+
+class AccountBalanceLookupCoalescerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final List<Set<AccountId>> bulkLoads = new CopyOnWriteArrayList<>();
+
+  private static AccountBalanceView balanceOf(AccountId accountId) {
+    SupportedCurrency usd = SupportedCurrency.USD;
+    return new AccountBalanceView(
+        accountId, Money.of(BigDecimal.TEN, usd), Money.of(BigDecimal.ZERO, usd), "OPENED", 1L);
+  }
+
+  private AccountBalanceLookupCoalescer coalescer(
+      Map<AccountId, AccountBalanceView> balances, Duration window, int maxBatchSize) {
+    return new AccountBalanceLookupCoalescer(
+        accountIds -> {
+          bulkLoads.add(Set.copyOf(accountIds));
+          return balances;
+        },
+        window,
+        maxBatchSize,
+        meterRegistry);
+  }
+
+  @Test
+  void load_resolves_lookups_arriving_within_the_window_with_a_single_bulk_load() throws Exception {
+    // Arrange
+    AccountId first = AccountId.newId();
+    AccountId second = AccountId.newId();
+    AccountId unknown = AccountId.newId();
+    AccountBalanceView firstBalance = balanceOf(first);
+    AccountBalanceView secondBalance = balanceOf(second);
+    AccountBalanceLookupCoalescer coalescer =
+        coalescer(Map.of(first, firstBalance, second, secondBalance), Duration.ofMillis(200), 100);
+
+    // Act
+    CompletableFuture<AccountBalanceView> firstLookup = coalescer.load(first);
+    CompletableFuture<AccountBalanceView> secondLookup = coalescer.load(second);
+    CompletableFuture<AccountBalanceView> repeatedLookup = coalescer.load(first);
+    CompletableFuture<AccountBalanceView> unknownLookup = coalescer.load(unknown);
+
+    // Assert
+    assertThat(firstLookup.get(5, TimeUnit.SECONDS)).isEqualTo(firstBalance);
+    DistributionSummary batchSizes =
+        meterRegistry.get(AccountBalanceLookupCoalescer.BATCH_SIZE_METRIC).summary();
+    assertAll(
+        () -> assertThat(secondLookup.get(5, TimeUnit.SECONDS)).isEqualTo(secondBalance),
+        () -> assertThat(repeatedLookup).isSameAs(firstLookup),
+        () -> assertThat(unknownLookup.get(5, TimeUnit.SECONDS)).isNull(),
+        () -> assertThat(bulkLoads).containsExactly(Set.of(first, second, unknown)),
+        () -> assertThat(batchSizes.count()).isEqualTo(1L),
+        () -> assertThat(batchSizes.totalAmount()).isEqualTo(3.0));
+  }
+
+  @Test
+  void load_flushes_a_full_batch_without_waiting_for_the_window() throws Exception {
+    // Arrange
+    AccountId first = AccountId.newId();
+    AccountId second = AccountId.newId();
+    AccountId third = AccountId.newId();
+    AccountBalanceLookupCoalescer coalescer =
+        coalescer(
+            Map.of(first, balanceOf(first), second, balanceOf(second)), Duration.ofHours(1), 2);
+
+    // Act
+    CompletableFuture<AccountBalanceView> firstLookup = coalescer.load(first);
+    CompletableFuture<AccountBalanceView> secondLookup = coalescer.load(second);
+    CompletableFuture<AccountBalanceView> thirdLookup = coalescer.load(third);
+
+    // Assert
+    assertThat(secondLookup.get(5, TimeUnit.SECONDS)).isNotNull();
+    assertAll(
+        () -> assertThat(firstLookup).isCompleted(),
+        () -> assertThat(thirdLookup).isNotDone(),
+        () -> assertThat(bulkLoads).containsExactly(Set.of(first, second)));
+  }
+
+  @Test
+  void load_fails_every_lookup_of_a_batch_whose_bulk_load_failed() {
+    // Arrange
+    IllegalStateException failure = new IllegalStateException("database unavailable");
+    AccountBalanceLookupCoalescer coalescer =
+        new AccountBalanceLookupCoalescer(
+            _ -> {
+              throw failure;
+            },
+            Duration.ZERO,
+            1,
+            meterRegistry);
+
+    // Act
+    CompletableFuture<AccountBalanceView> lookup = coalescer.load(AccountId.newId());
+
+    // Assert
+    assertThatExceptionOfType(ExecutionException.class)
+        .isThrownBy(() -> lookup.get(5, TimeUnit.SECONDS))
+        .withCause(failure);
+  }
+
+  @Test
+  void load_fails_every_lookup_of_a_batch_whose_bulk_load_failed_with_an_error() {
+    // Arrange
+    StackOverflowError failure = new StackOverflowError("mapper recursion");
+    AccountBalanceLookupCoalescer coalescer =
+        new AccountBalanceLookupCoalescer(
+            _ -> {
+              throw failure;
+            },
+            Duration.ofMillis(200),
+            2,
+            meterRegistry);
+
+    // Act
+    CompletableFuture<AccountBalanceView> firstLookup = coalescer.load(AccountId.newId());
+    CompletableFuture<AccountBalanceView> secondLookup = coalescer.load(AccountId.newId());
+
+    // Assert
+    assertAll(
+        () ->
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> firstLookup.get(5, TimeUnit.SECONDS))
+                .withCause(failure),
+        () ->
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> secondLookup.get(5, TimeUnit.SECONDS))
+                .withCause(failure));
+  }
+
+  @Test
+  void constructor_rejects_a_non_positive_max_batch_size() {
+    // Act & Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> coalescer(Map.of(), Duration.ZERO, 0));
+  }
+}
@@ -5,10 +5,13 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView.ACCOUNT_BALANCE_VIEW;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
 import org.girardsimon.wealthpay.account.domain.event.AccountClosed;
@@ -35,7 +38,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.dao.OptimisticLockingFailureException;
 
 @JooqTest
-@Import({AccountBalanceReadModel.class, AccountBalanceViewEntryToDomainMapper.class})
+@Import({
+  AccountBalanceReadModel.class,
+  AccountBalanceViewEntryToDomainMapper.class,
+  SimpleMeterRegistry.class
+})
 class AccountBalanceReadModelTest extends AbstractContainerTest {
 
   @Autowired private DSLContext dslContext;
@@ -210,4 +217,221 @@ class AccountBalanceReadModelTest extends AbstractContainerTest {
     assertThatExceptionOfType(OptimisticLockingFailureException.class)
         .isThrownBy(() -> accountBalanceReadModel.project(events));
   }
+
+  @Test
+  void project_adds_the_deltas_of_each_batch_to_the_projected_row() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountOpened accountOpened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+            usd,
+            Money.of(BigDecimal.valueOf(1000L), usd));
+    accountBalanceReadModel.project(List.of(accountOpened));
+    List<AccountEvent> secondBatch =
+        List.of(
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.valueOf(500L), usd)),
+            new FundsReserved(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 3L),
+                ReservationId.newId(),
+                Money.of(BigDecimal.valueOf(200L), usd)),
+            new FundsDebited(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 4L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.valueOf(100L), usd)));
+    List<AccountEvent> thirdBatch =
+        List.of(
+            new AccountClosed(AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 5L)));
+
+    // Act
+    accountBalanceReadModel.project(secondBatch);
+    accountBalanceReadModel.project(thirdBatch);
+
+    // Assert
+    AccountBalanceView accountBalance = accountBalanceReadModel.getAccountBalance(accountId);
+    assertAll(
+        () -> assertThat(accountBalance.balance().amount()).isEqualByComparingTo("1400"),
+        () -> assertThat(accountBalance.reservedFunds().amount()).isEqualByComparingTo("200"),
+        () -> assertThat(accountBalance.status()).isEqualTo("CLOSED"),
+        () -> assertThat(accountBalance.version()).isEqualTo(5L));
+  }
+
+  @Test
+  void project_should_throw_optimistic_lock_exception_when_account_is_not_projected_yet() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    List<AccountEvent> events =
+        List.of(
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.TEN, SupportedCurrency.USD)));
+
+    // Act ... Assert
+    assertThatExceptionOfType(OptimisticLockingFailureException.class)
+        .isThrownBy(() -> accountBalanceReadModel.project(events));
+  }
+
+  @Test
+  void projectAll_writes_every_account_and_rejects_only_those_not_following_their_version() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    AccountId opened = AccountId.newId();
+    AccountId credited = AccountId.newId();
+    AccountId outdated = AccountId.newId();
+    accountBalanceReadModel.project(
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), credited, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd)),
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), outdated, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    List<AccountEvent> events =
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), opened, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.ONE, usd)),
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), credited, Instant.now(), 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.TWO, usd)),
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), outdated, Instant.now(), 3L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.TWO, usd)));
+
+    // Act
+    Set<AccountId> rejected = accountBalanceReadModel.projectAll(events);
+
+    // Assert
+    assertAll(
+        () -> assertThat(rejected).containsExactly(outdated),
+        () ->
+            assertThat(accountBalanceReadModel.getAccountBalance(opened).balance().amount())
+                .isEqualByComparingTo("1"),
+        () ->
+            assertThat(accountBalanceReadModel.getAccountBalance(credited).balance().amount())
+                .isEqualByComparingTo("12"),
+        () ->
+            assertThat(accountBalanceReadModel.getAccountBalance(credited).version()).isEqualTo(2L),
+        () ->
+            assertThat(accountBalanceReadModel.getAccountBalance(outdated).balance().amount())
+                .isEqualByComparingTo("10"));
+  }
+
+  @Test
+  void getAccountBalance_is_cached_until_a_projection_writes_the_account() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    accountBalanceReadModel.project(
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    AccountBalanceView firstRead = accountBalanceReadModel.getAccountBalance(accountId);
+    dslContext
+        .update(ACCOUNT_BALANCE_VIEW)
+        .set(ACCOUNT_BALANCE_VIEW.BALANCE, BigDecimal.valueOf(99L))
+        .where(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID.eq(accountId.id()))
+        .execute();
+
+    // Act
+    AccountBalanceView cachedRead = accountBalanceReadModel.getAccountBalance(accountId);
+    accountBalanceReadModel.project(
+        List.of(
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.ONE, usd))));
+    AccountBalanceView readAfterProjection = accountBalanceReadModel.getAccountBalance(accountId);
+
+    // Assert
+    assertAll(
+        () -> assertThat(cachedRead).isEqualTo(firstRead),
+        () -> assertThat(readAfterProjection.balance().amount()).isEqualByComparingTo("100"),
+        () -> assertThat(readAfterProjection.version()).isEqualTo(2L));
+  }
+
+  @Test
+  void getAccountBalances_returns_existing_accounts_and_leaves_out_unknown_ones() {
+    // Arrange
+    AccountId cached = AccountId.newId();
+    AccountId loaded = AccountId.newId();
+    AccountId unknown = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    accountBalanceReadModel.project(
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), cached, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd)),
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), loaded, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.ONE, usd))));
+    AccountBalanceView cachedView = accountBalanceReadModel.getAccountBalance(cached);
+
+    // Act
+    Map<AccountId, AccountBalanceView> balances =
+        accountBalanceReadModel.getAccountBalances(List.of(cached, loaded, unknown));
+
+    // Assert
+    assertAll(
+        () -> assertThat(balances).containsOnlyKeys(cached, loaded),
+        () -> assertThat(balances.get(cached)).isEqualTo(cachedView),
+        () -> assertThat(balances.get(loaded).balance().amount()).isEqualByComparingTo("1"),
+        () -> assertThat(balances.get(loaded).version()).isEqualTo(1L));
+  }
+
+  @Test
+  void apply_projects_several_accounts_and_skips_events_already_in_the_view() {
+    // Arrange
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    AccountId firstAccountId = AccountId.newId();
+    AccountId secondAccountId = AccountId.newId();
+    AccountEvent firstOpened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), firstAccountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd));
+    AccountEvent firstCredited =
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), firstAccountId, occurredAt, 2L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.ONE, usd));
+    AccountEvent secondOpened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), secondAccountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TWO, usd));
+    AccountEvent firstDebited =
+        new FundsDebited(
+            AccountEventMeta.of(EventId.newId(), firstAccountId, occurredAt, 3L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.valueOf(4L), usd));
+    accountBalanceReadModel.project(List.of(firstOpened));
+
+    // Act
+    accountBalanceReadModel.apply(List.of(firstOpened, firstCredited, secondOpened, firstDebited));
+
+    // Assert
+    AccountBalanceView firstBalance = accountBalanceReadModel.getAccountBalance(firstAccountId);
+    AccountBalanceView secondBalance = accountBalanceReadModel.getAccountBalance(secondAccountId);
+    assertAll(
+        () -> assertThat(firstBalance.balance()).isEqualTo(Money.of(BigDecimal.valueOf(7L), usd)),
+        () -> assertThat(firstBalance.version()).isEqualTo(3L),
+        () -> assertThat(secondBalance.balance()).isEqualTo(Money.of(BigDecimal.TWO, usd)),
+        () -> assertThat(secondBalance.version()).isEqualTo(1L));
+  }
 }
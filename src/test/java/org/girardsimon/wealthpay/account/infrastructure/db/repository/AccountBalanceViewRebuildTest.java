@@ -0,0 +1,216 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceRebuildCheckpoint.ACCOUNT_BALANCE_REBUILD_CHECKPOINT;
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBalanceView.ACCOUNT_BALANCE_VIEW;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.girardsimon.wealthpay.account.application.AccountEventStore;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsReserved;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.infrastructure.db.projection.EventFeed;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountBalanceViewEntryToDomainMapper;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountEventSerializer;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
+import org.girardsimon.wealthpay.account.jooq.tables.records.AccountBalanceViewRecord;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+@JooqTest
+@Import({
+  AccountBalanceViewRebuild.class,
+  AccountBalanceRebuildCheckpointRepository.class,
+  AccountBalanceReadModel.class,
+  AccountBalanceViewEntryToDomainMapper.class,
+  EventFeed.class,
+  AccountEventRepository.class,
+  AccountTransactionRepository.class,
+  EventStoreEntryToAccountEventMapper.class,
+  AccountEventSerializer.class,
+  ObjectMapper.class,
+  SimpleMeterRegistry.class
+})
+class AccountBalanceViewRebuildTest extends AbstractContainerTest {
+
+  @Autowired private DSLContext dslContext;
+  @Autowired private AccountBalanceViewRebuild accountBalanceViewRebuild;
+  @Autowired private AccountEventStore accountEventStore;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private EventStoreEntryToAccountEventMapper eventStoreEntryToAccountEventMapper;
+  @Autowired private AccountBalanceRebuildCheckpointRepository checkpointRepository;
+  @Autowired private AccountBalanceReadModel accountBalanceReadModel;
+  @Autowired private EventFeed eventFeed;
+
+  private TransactionTemplate committing() {
+    TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+    // REQUIRES_NEW forces the actual commit (otherwise @JooqTest rolls back everything)
+    txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return txTemplate;
+  }
+
+  private List<AccountEvent> history(AccountId accountId, BigDecimal credited) {
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    return List.of(
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd)),
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 2L),
+            TransactionId.newId(),
+            Money.of(credited, usd)),
+        new FundsReserved(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 3L),
+            ReservationId.newId(),
+            Money.of(BigDecimal.ONE, usd)));
+  }
+
+  private AccountBalanceViewRecord viewOf(AccountId accountId) {
+    return committing()
+        .execute(
+            _ ->
+                dslContext
+                    .selectFrom(ACCOUNT_BALANCE_VIEW)
+                    .where(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID.eq(accountId.id()))
+                    .fetchOne());
+  }
+
+  private List<Boolean> checkpoints() {
+    return committing()
+        .execute(
+            _ ->
+                dslContext
+                    .select(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.COMPLETED)
+                    .from(ACCOUNT_BALANCE_REBUILD_CHECKPOINT)
+                    .fetch(ACCOUNT_BALANCE_REBUILD_CHECKPOINT.COMPLETED));
+  }
+
+  @Test
+  void rebuild_recomputes_every_account_from_its_events_in_a_swapped_table() {
+    // Arrange
+    AccountId first = AccountId.newId();
+    AccountId second = AccountId.newId();
+    committing()
+        .executeWithoutResult(
+            _ -> {
+              accountEventStore.appendEvents(first, 0L, history(first, BigDecimal.ONE));
+              accountEventStore.appendEvents(second, 0L, history(second, BigDecimal.TWO));
+              dslContext
+                  .insertInto(ACCOUNT_BALANCE_VIEW)
+                  .set(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID, first.id())
+                  .set(ACCOUNT_BALANCE_VIEW.CURRENCY, "USD")
+                  .set(ACCOUNT_BALANCE_VIEW.BALANCE, BigDecimal.valueOf(999))
+                  .set(ACCOUNT_BALANCE_VIEW.RESERVED, BigDecimal.ZERO)
+                  .set(ACCOUNT_BALANCE_VIEW.STATUS, "OPENED")
+                  .set(ACCOUNT_BALANCE_VIEW.VERSION, 3L)
+                  .execute();
+            });
+
+    // Act
+    accountBalanceViewRebuild.rebuild();
+
+    // Assert
+    AccountBalanceViewRecord firstView = viewOf(first);
+    AccountBalanceViewRecord secondView = viewOf(second);
+    boolean shadowLeft =
+        committing()
+            .execute(
+                _ ->
+                    !dslContext.meta().getTables(AccountBalanceViewRebuild.SHADOW_TABLE).isEmpty());
+    assertAll(
+        () -> assertThat(shadowLeft).isFalse(),
+        () -> assertThat(checkpoints()).isEmpty(),
+        () -> assertThat(firstView.getBalance()).isEqualByComparingTo("11"),
+        () -> assertThat(firstView.getReserved()).isEqualByComparingTo("1"),
+        () -> assertThat(firstView.getVersion()).isEqualTo(3L),
+        () -> assertThat(secondView.getBalance()).isEqualByComparingTo("12"),
+        () -> assertThat(secondView.getCurrency()).isEqualTo("USD"),
+        () -> assertThat(secondView.getStatus()).isEqualTo("OPENED"));
+  }
+
+  @Test
+  void constructor_rejects_more_workers_than_the_connection_pool_can_serve() {
+    // Act & Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(
+            () ->
+                new AccountBalanceViewRebuild(
+                    dslContext,
+                    eventStoreEntryToAccountEventMapper,
+                    checkpointRepository,
+                    accountBalanceReadModel,
+                    eventFeed,
+                    transactionManager,
+                    RebuildMode.SHADOW,
+                    16,
+                    6,
+                    1,
+                    10))
+        .withMessageContaining("6 rebuild workers");
+  }
+
+  @Test
+  void rebuild_in_place_keeps_rows_projected_past_the_event_store() {
+    // Arrange
+    AccountBalanceViewRebuild inPlaceRebuild =
+        new AccountBalanceViewRebuild(
+            dslContext,
+            eventStoreEntryToAccountEventMapper,
+            checkpointRepository,
+            accountBalanceReadModel,
+            eventFeed,
+            transactionManager,
+            RebuildMode.IN_PLACE,
+            4,
+            2,
+            1,
+            10);
+    AccountId accountId = AccountId.newId();
+    committing()
+        .executeWithoutResult(
+            _ -> {
+              accountEventStore.appendEvents(accountId, 0L, history(accountId, BigDecimal.ONE));
+              dslContext
+                  .insertInto(ACCOUNT_BALANCE_VIEW)
+                  .set(ACCOUNT_BALANCE_VIEW.ACCOUNT_ID, accountId.id())
+                  .set(ACCOUNT_BALANCE_VIEW.CURRENCY, "USD")
+                  .set(ACCOUNT_BALANCE_VIEW.BALANCE, BigDecimal.valueOf(42))
+                  .set(ACCOUNT_BALANCE_VIEW.RESERVED, BigDecimal.ZERO)
+                  .set(ACCOUNT_BALANCE_VIEW.STATUS, "OPENED")
+                  .set(ACCOUNT_BALANCE_VIEW.VERSION, 4L)
+                  .execute();
+            });
+
+    // Act
+    inPlaceRebuild.rebuild();
+
+    // Assert
+    AccountBalanceViewRecord view = viewOf(accountId);
+    assertAll(
+        () -> assertThat(view.getBalance()).isEqualByComparingTo("42"),
+        () -> assertThat(view.getVersion()).isEqualTo(4L),
+        () -> assertThat(checkpoints()).isEmpty());
+  }
+}
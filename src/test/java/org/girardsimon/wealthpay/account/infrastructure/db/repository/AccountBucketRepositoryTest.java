@@ -0,0 +1,74 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountBucketStream.ACCOUNT_BUCKET_STREAM;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.girardsimon.wealthpay.account.application.AccountBucketStore;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
+import org.springframework.context.annotation.Import;
+
+@JooqTest
+@Import({AccountBucketRepository.class, SimpleMeterRegistry.class})
+class AccountBucketRepositoryTest extends AbstractContainerTest {
+
+  @Autowired private AccountBucketStore accountBucketStore;
+  @Autowired private DSLContext dslContext;
+
+  @Test
+  void add_records_the_buckets_of_an_account_only_once() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    AccountBuckets buckets = new AccountBuckets(accountId, 8);
+
+    // Act ... Assert
+    assertAll(
+        () -> assertThat(accountBucketStore.find(accountId)).isEmpty(),
+        () -> assertThat(accountBucketStore.add(buckets)).isTrue(),
+        () -> assertThat(accountBucketStore.add(new AccountBuckets(accountId, 4))).isFalse(),
+        () -> assertThat(accountBucketStore.find(accountId)).contains(buckets));
+  }
+
+  @Test
+  void findAll_leaves_out_accounts_without_buckets() {
+    // Arrange
+    AccountId bucketed = AccountId.newId();
+    AccountId plain = AccountId.newId();
+    accountBucketStore.add(new AccountBuckets(bucketed, 4));
+
+    // Act
+    Map<AccountId, AccountBuckets> buckets = accountBucketStore.findAll(List.of(bucketed, plain));
+
+    // Assert
+    assertThat(buckets).containsOnlyKeys(bucketed);
+  }
+
+  @Test
+  void add_registers_the_stream_of_each_bucket_under_the_account() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    AccountBuckets buckets = new AccountBuckets(accountId, 3);
+
+    // Act
+    accountBucketStore.add(buckets);
+
+    // Assert
+    Map<UUID, UUID> owners =
+        dslContext
+            .selectFrom(ACCOUNT_BUCKET_STREAM)
+            .where(ACCOUNT_BUCKET_STREAM.ACCOUNT_ID.eq(accountId.id()))
+            .fetchMap(ACCOUNT_BUCKET_STREAM.BUCKET_ID, ACCOUNT_BUCKET_STREAM.ACCOUNT_ID);
+    assertThat(owners.keySet())
+        .containsExactlyInAnyOrderElementsOf(
+            buckets.bucketIds().stream().map(AccountId::id).toList());
+  }
+}
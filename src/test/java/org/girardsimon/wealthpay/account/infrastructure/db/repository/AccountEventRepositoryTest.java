@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -43,6 +44,7 @@ import tools.jackson.databind.ObjectMapper;
 @JooqTest
 @Import({
   AccountEventRepository.class,
+  AccountTransactionRepository.class,
   EventStoreEntryToAccountEventMapper.class,
   AccountEventSerializer.class,
   ObjectMapper.class
@@ -51,6 +53,7 @@ class AccountEventRepositoryTest extends AbstractContainerTest {
 
   @Autowired private DSLContext dsl;
   @Autowired private AccountEventStore accountEventStore;
+  @Autowired private AccountEventRepository accountEventRepository;
   @Autowired private PlatformTransactionManager transactionManager;
 
   @Test
@@ -131,6 +134,136 @@ class AccountEventRepositoryTest extends AbstractContainerTest {
             assertThat(accountOpened.initialBalance().currency()).isEqualTo(SupportedCurrency.USD));
   }
 
+  @Test
+  void loadEventsAfter_returns_only_events_with_greater_version() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    AccountOpened opened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd));
+    FundsCredited firstCredit =
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 2L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.ONE, usd));
+    FundsCredited secondCredit =
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 3L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.TWO, usd));
+    accountEventStore.appendEvents(accountId, 0L, List.of(opened, firstCredit, secondCredit));
+
+    // Act
+    List<AccountEvent> events = accountEventStore.loadEventsAfter(accountId, 1L);
+
+    // Assert
+    assertThat(events).extracting(AccountEvent::version).containsExactly(2L, 3L);
+  }
+
+  @Test
+  void loadEventsRange_uses_index_range_scan_on_large_stream() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    insertFundsCreditedStream(accountId, 5_000);
+    for (int i = 0; i < 20; i++) {
+      insertFundsCreditedStream(AccountId.newId(), 500);
+    }
+    dsl.execute("ANALYZE account.event_store");
+
+    // Act
+    List<AccountEvent> events = accountEventStore.loadEventsRange(accountId, 4_001L, 4_010L);
+    String plan =
+        dsl.explain(accountEventRepository.selectEventsRange(accountId, 4_001L, 4_010L)).plan();
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(events)
+                .extracting(AccountEvent::version)
+                .containsExactly(
+                    4_001L, 4_002L, 4_003L, 4_004L, 4_005L, 4_006L, 4_007L, 4_008L, 4_009L, 4_010L),
+        () -> assertThat(plan).contains("Index").doesNotContain("Seq Scan"));
+  }
+
+  @Test
+  void loadEventsRange_rejects_inverted_bounds() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+
+    // Act ... Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> accountEventStore.loadEventsRange(accountId, 5L, 4L));
+  }
+
+  @Test
+  void replayEventsAfter_hands_over_events_in_version_order_across_fetch_batches() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    int streamLength = AccountEventRepository.REPLAY_FETCH_SIZE * 3 + 7;
+    insertFundsCreditedStream(accountId, streamLength);
+    List<Long> versions = new ArrayList<>();
+
+    // Act
+    accountEventStore.replayEventsAfter(accountId, 5L, event -> versions.add(event.version()));
+
+    // Assert
+    assertAll(
+        () -> assertThat(versions).hasSize(streamLength - 5),
+        () -> assertThat(versions.getFirst()).isEqualTo(6L),
+        () -> assertThat(versions).isSorted());
+  }
+
+  private void insertFundsCreditedStream(AccountId accountId, int length) {
+    dsl.execute(
+        """
+            INSERT INTO account.event_store (event_id, account_id, version, event_type, payload)
+            SELECT gen_random_uuid(), ?, v, 'FundsCredited',
+                   jsonb_build_object(
+                       'transactionId', gen_random_uuid()::text,
+                       'amount', 1,
+                       'currency', 'USD',
+                       'occurredAt', '2025-11-16T15:00:00Z')
+            FROM generate_series(1, ?) AS v
+            """,
+        accountId.id(),
+        length);
+  }
+
+  @Test
+  void appendEvents_persists_appends_larger_than_one_insert_statement() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    int eventCount = AccountEventRepository.MAX_ROWS_PER_INSERT * 2 + 1;
+    List<AccountEvent> events = new ArrayList<>(eventCount);
+    events.add(
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd)));
+    for (long version = 2L; version <= eventCount; version++) {
+      events.add(
+          new FundsCredited(
+              AccountEventMeta.of(EventId.newId(), accountId, occurredAt, version),
+              TransactionId.newId(),
+              Money.of(BigDecimal.ONE, usd)));
+    }
+
+    // Act
+    accountEventStore.appendEvents(accountId, 0L, events);
+
+    // Assert
+    List<AccountEvent> persisted = accountEventStore.loadEvents(accountId);
+    assertAll(
+        () -> assertThat(persisted).hasSize(eventCount),
+        () -> assertThat(persisted.getLast().version()).isEqualTo(eventCount));
+  }
+
   @Test
   void appendEvents_throws_OptimisticLockingFailureException_when_expectedVersion_is_outdated() {
     // Arrange
@@ -184,6 +317,42 @@ class AccountEventRepositoryTest extends AbstractContainerTest {
         .isThrownBy(() -> accountEventStore.appendEvents(accountId, 5L, creditedEvents));
   }
 
+  @Test
+  void appendEvents_writes_nothing_when_expectedVersion_is_outdated() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    SupportedCurrency usd = SupportedCurrency.USD;
+    Instant occurredAt = Instant.parse("2025-11-16T15:00:00Z");
+    AccountOpened opened =
+        new AccountOpened(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 1L),
+            usd,
+            Money.of(BigDecimal.TEN, usd));
+    FundsCredited credited =
+        new FundsCredited(
+            AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 2L),
+            TransactionId.newId(),
+            Money.of(BigDecimal.ONE, usd));
+    accountEventStore.appendEvents(accountId, 0L, List.of(opened, credited));
+    List<AccountEvent> staleEvents =
+        List.of(
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 2L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.ONE, usd)),
+            new FundsCredited(
+                AccountEventMeta.of(EventId.newId(), accountId, occurredAt, 3L),
+                TransactionId.newId(),
+                Money.of(BigDecimal.ONE, usd)));
+
+    // Act ... Assert
+    assertThatExceptionOfType(OptimisticLockingFailureException.class)
+        .isThrownBy(() -> accountEventStore.appendEvents(accountId, 1L, staleEvents));
+    assertThat(accountEventStore.loadEvents(accountId))
+        .extracting(AccountEvent::eventId)
+        .containsExactly(opened.eventId(), credited.eventId());
+  }
+
   @Test
   void appendEvents_throws_IllegalStateException_when_event_versions_have_gap() {
     // Arrange
@@ -0,0 +1,57 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AccountIdRangeTest {
+
+  @Test
+  void split_covers_the_whole_id_space_with_contiguous_ranges() {
+    // Act
+    List<AccountIdRange> ranges = AccountIdRange.split(3);
+
+    // Assert
+    assertAll(
+        () -> assertThat(ranges).hasSize(3),
+        () -> assertThat(ranges.getFirst().from()).isEqualTo(new UUID(0L, 0L)),
+        () -> assertThat(ranges.get(0).to()).isEqualTo(ranges.get(1).from()),
+        () -> assertThat(ranges.get(1).to()).isEqualTo(ranges.get(2).from()),
+        () -> assertThat(ranges.getLast().to()).isNull());
+  }
+
+  @Test
+  void split_cuts_the_id_space_in_ranges_of_equal_width() {
+    // Act
+    List<AccountIdRange> ranges = AccountIdRange.split(4);
+
+    // Assert
+    assertThat(ranges)
+        .extracting(AccountIdRange::from)
+        .containsExactly(
+            UUID.fromString("00000000-0000-0000-0000-000000000000"),
+            UUID.fromString("40000000-0000-0000-0000-000000000000"),
+            UUID.fromString("80000000-0000-0000-0000-000000000000"),
+            UUID.fromString("c0000000-0000-0000-0000-000000000000"));
+  }
+
+  @Test
+  void split_in_a_single_range_is_unbounded() {
+    // Act
+    List<AccountIdRange> ranges = AccountIdRange.split(1);
+
+    // Assert
+    assertThat(ranges).containsExactly(new AccountIdRange(new UUID(0L, 0L), null));
+  }
+
+  @Test
+  void split_rejects_a_non_positive_count() {
+    // Act & Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> AccountIdRange.split(0));
+  }
+}
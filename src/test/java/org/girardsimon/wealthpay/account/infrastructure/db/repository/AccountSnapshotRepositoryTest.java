@@ -0,0 +1,93 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.girardsimon.wealthpay.account.jooq.tables.AccountSnapshot.ACCOUNT_SNAPSHOT;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import org.girardsimon.wealthpay.account.application.AccountSnapshotStore;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.AccountSnapshot;
+import org.girardsimon.wealthpay.account.domain.model.AccountStatus;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.ReservationId;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotEntryToDomainMapper;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountSnapshotSerializer;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
+import org.springframework.context.annotation.Import;
+import tools.jackson.databind.ObjectMapper;
+
+@JooqTest
+@Import({
+  AccountSnapshotRepository.class,
+  AccountSnapshotSerializer.class,
+  AccountSnapshotEntryToDomainMapper.class,
+  ObjectMapper.class
+})
+class AccountSnapshotRepositoryTest extends AbstractContainerTest {
+
+  @Autowired private DSLContext dsl;
+  @Autowired private AccountSnapshotStore accountSnapshotStore;
+
+  private static AccountSnapshot snapshot(AccountId accountId, long version, long balance) {
+    SupportedCurrency usd = SupportedCurrency.USD;
+    return new AccountSnapshot(
+        accountId,
+        usd,
+        Money.of(BigDecimal.valueOf(balance), usd),
+        AccountStatus.OPENED,
+        version,
+        Map.of(ReservationId.newId(), Money.of(BigDecimal.ONE, usd)));
+  }
+
+  @Test
+  void saveSnapshot_then_loadLatestSnapshot_round_trips_state() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    AccountSnapshot snapshot = snapshot(accountId, 100L, 42L);
+
+    // Act
+    accountSnapshotStore.saveSnapshot(snapshot);
+    Optional<AccountSnapshot> loaded = accountSnapshotStore.loadLatestSnapshot(accountId);
+
+    // Assert
+    assertThat(loaded).contains(snapshot);
+  }
+
+  @Test
+  void saveSnapshot_does_not_overwrite_a_newer_snapshot() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    AccountSnapshot newer = snapshot(accountId, 200L, 20L);
+    AccountSnapshot older = snapshot(accountId, 100L, 10L);
+    accountSnapshotStore.saveSnapshot(newer);
+
+    // Act
+    accountSnapshotStore.saveSnapshot(older);
+
+    // Assert
+    assertThat(accountSnapshotStore.loadLatestSnapshot(accountId)).contains(newer);
+  }
+
+  @Test
+  void loadLatestSnapshot_ignores_snapshot_written_with_another_schema_version() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    accountSnapshotStore.saveSnapshot(snapshot(accountId, 100L, 10L));
+    dsl.update(ACCOUNT_SNAPSHOT)
+        .set(ACCOUNT_SNAPSHOT.SCHEMA_VERSION, AccountSnapshotSerializer.SCHEMA_VERSION + 1)
+        .where(ACCOUNT_SNAPSHOT.ACCOUNT_ID.eq(accountId.id()))
+        .execute();
+
+    // Act
+    Optional<AccountSnapshot> loaded = accountSnapshotStore.loadLatestSnapshot(accountId);
+
+    // Assert
+    assertThat(loaded).isEmpty();
+  }
+}
@@ -0,0 +1,211 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.girardsimon.wealthpay.account.application.AccountBucketStore;
+import org.girardsimon.wealthpay.account.application.AccountEventStore;
+import org.girardsimon.wealthpay.account.application.AccountTransactionIndex;
+import org.girardsimon.wealthpay.account.domain.event.AccountEvent;
+import org.girardsimon.wealthpay.account.domain.event.AccountEventMeta;
+import org.girardsimon.wealthpay.account.domain.event.AccountOpened;
+import org.girardsimon.wealthpay.account.domain.event.FundsCredited;
+import org.girardsimon.wealthpay.account.domain.event.FundsDebited;
+import org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException;
+import org.girardsimon.wealthpay.account.domain.model.AccountBuckets;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.EventId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.AccountEventSerializer;
+import org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper.EventStoreEntryToAccountEventMapper;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
+import org.springframework.context.annotation.Import;
+import tools.jackson.databind.ObjectMapper;
+
+@JooqTest
+@Import({
+  AccountEventRepository.class,
+  AccountTransactionRepository.class,
+  AccountBucketRepository.class,
+  SimpleMeterRegistry.class,
+  EventStoreEntryToAccountEventMapper.class,
+  AccountEventSerializer.class,
+  ObjectMapper.class
+})
+class AccountTransactionRepositoryTest extends AbstractContainerTest {
+
+  @Autowired private AccountEventStore accountEventStore;
+  @Autowired private AccountTransactionIndex accountTransactionIndex;
+  @Autowired private AccountTransactionRepository accountTransactionRepository;
+  @Autowired private AccountBucketStore accountBucketStore;
+  @Autowired private DSLContext dslContext;
+
+  SupportedCurrency usd = SupportedCurrency.USD;
+
+  private AccountId openedAccount() {
+    return opened(AccountId.newId());
+  }
+
+  private AccountId opened(AccountId accountId) {
+    accountEventStore.appendEvents(
+        accountId,
+        0L,
+        List.of(
+            new AccountOpened(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 1L),
+                usd,
+                Money.of(BigDecimal.TEN, usd))));
+    return accountId;
+  }
+
+  private AccountEvent credited(AccountId accountId, long version, TransactionId transactionId) {
+    return new FundsCredited(
+        AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), version),
+        transactionId,
+        Money.of(BigDecimal.ONE, usd));
+  }
+
+  @Test
+  void appendEvents_records_credits_and_debits_found_by_findVersion() {
+    // Arrange
+    AccountId accountId = openedAccount();
+    TransactionId credit = TransactionId.newId();
+    TransactionId debit = TransactionId.newId();
+
+    // Act
+    accountEventStore.appendEvents(
+        accountId,
+        1L,
+        List.of(
+            credited(accountId, 2L, credit),
+            new FundsDebited(
+                AccountEventMeta.of(EventId.newId(), accountId, Instant.now(), 3L),
+                debit,
+                Money.of(BigDecimal.ONE, usd))));
+
+    // Assert
+    assertAll(
+        () -> assertThat(accountTransactionIndex.findVersion(accountId, credit)).contains(2L),
+        () -> assertThat(accountTransactionIndex.findVersion(accountId, debit)).contains(3L),
+        () ->
+            assertThat(accountTransactionIndex.findVersion(accountId, TransactionId.newId()))
+                .isEmpty());
+  }
+
+  @Test
+  void appendEvents_rejects_a_transaction_id_already_applied_to_the_account() {
+    // Arrange
+    AccountId accountId = openedAccount();
+    TransactionId transactionId = TransactionId.newId();
+    accountEventStore.appendEvents(accountId, 1L, List.of(credited(accountId, 2L, transactionId)));
+    List<AccountEvent> replay = List.of(credited(accountId, 3L, transactionId));
+
+    // Act / Assert
+    assertThatExceptionOfType(DuplicateTransactionException.class)
+        .isThrownBy(() -> accountEventStore.appendEvents(accountId, 2L, replay));
+  }
+
+  @Test
+  void appendEvents_accepts_the_same_transaction_id_on_another_account() {
+    // Arrange
+    TransactionId transactionId = TransactionId.newId();
+    AccountId first = openedAccount();
+    AccountId second = openedAccount();
+    accountEventStore.appendEvents(first, 1L, List.of(credited(first, 2L, transactionId)));
+
+    // Act
+    accountEventStore.appendEvents(second, 1L, List.of(credited(second, 2L, transactionId)));
+
+    // Assert
+    assertThat(accountTransactionIndex.findVersion(second, transactionId)).contains(2L);
+  }
+
+  @Test
+  void findVersion_answers_from_the_filled_filter_for_recorded_transactions() {
+    // Arrange
+    AccountId accountId = openedAccount();
+    TransactionId transactionId = TransactionId.newId();
+    accountEventStore.appendEvents(accountId, 1L, List.of(credited(accountId, 2L, transactionId)));
+
+    // Act
+    accountTransactionRepository.fillFilter();
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(accountTransactionIndex.findVersion(accountId, transactionId)).contains(2L),
+        () ->
+            assertThat(accountTransactionIndex.findVersion(accountId, TransactionId.newId()))
+                .isEmpty());
+  }
+
+  @Test
+  void findVersion_finds_a_duplicate_recorded_by_another_instance_once_the_append_rejected_it() {
+    // Arrange
+    AccountId accountId = openedAccount();
+    TransactionId transactionId = TransactionId.newId();
+    accountTransactionRepository.fillFilter();
+    AccountTransactionRepository otherInstance =
+        new AccountTransactionRepository(dslContext, 1_000L, 0.01);
+    otherInstance.record(accountId, List.of(credited(accountId, 2L, transactionId)));
+    List<AccountEvent> replay = List.of(credited(accountId, 3L, transactionId));
+
+    // Act
+    assertThatExceptionOfType(DuplicateTransactionException.class)
+        .isThrownBy(() -> accountTransactionRepository.record(accountId, replay));
+
+    // Assert
+    assertThat(accountTransactionIndex.findVersion(accountId, transactionId)).contains(2L);
+  }
+
+  @Test
+  void appendEvents_records_the_credits_of_a_bucket_under_the_account_owning_it() {
+    // Arrange
+    AccountId accountId = openedAccount();
+    AccountBuckets buckets = new AccountBuckets(accountId, 2);
+    accountBucketStore.add(buckets);
+    AccountId bucketId = opened(buckets.bucket(0));
+    TransactionId transactionId = TransactionId.newId();
+
+    // Act
+    accountEventStore.appendEvents(bucketId, 1L, List.of(credited(bucketId, 2L, transactionId)));
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(accountTransactionIndex.findVersion(accountId, transactionId)).contains(2L),
+        () -> assertThat(accountTransactionIndex.findVersion(bucketId, transactionId)).isEmpty());
+  }
+
+  @Test
+  void appendEvents_rejects_a_bucket_credit_applied_to_the_account_by_another_instance() {
+    // Arrange
+    AccountId accountId = openedAccount();
+    AccountBuckets buckets = new AccountBuckets(accountId, 2);
+    accountBucketStore.add(buckets);
+    AccountId bucketId = opened(buckets.bucket(0));
+    TransactionId transactionId = TransactionId.newId();
+    accountTransactionRepository.fillFilter();
+    AccountTransactionRepository otherInstance =
+        new AccountTransactionRepository(dslContext, 1_000L, 0.01);
+    otherInstance.record(accountId, List.of(credited(accountId, 2L, transactionId)));
+    List<AccountEvent> replay = List.of(credited(bucketId, 2L, transactionId));
+
+    // Act
+    assertThatExceptionOfType(DuplicateTransactionException.class)
+        .isThrownBy(() -> accountEventStore.appendEvents(bucketId, 1L, replay));
+
+    // Assert
+    assertThat(accountTransactionIndex.findVersion(accountId, transactionId)).contains(2L);
+  }
+}
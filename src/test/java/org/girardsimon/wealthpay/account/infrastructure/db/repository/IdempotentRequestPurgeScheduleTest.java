@@ -0,0 +1,37 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.girardsimon.wealthpay.shared.config.SchedulingConfig;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+class IdempotentRequestPurgeScheduleTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(SchedulingConfig.class)
+          .withBean(
+              IdempotentRequestRepository.class,
+              () ->
+                  new IdempotentRequestRepository(
+                      mock(DSLContext.class), Clock.systemUTC(), Duration.ofHours(24)))
+          .withPropertyValues(
+              "wealthpay.account.projection.mode=INLINE",
+              "wealthpay.account.idempotency.purge-interval=1h");
+
+  @Test
+  void purgeExpired_is_scheduled_when_projections_run_inline() {
+    contextRunner.run(
+        context ->
+            assertThat(context.getBean(ScheduledTaskHolder.class).getScheduledTasks())
+                .anySatisfy(
+                    scheduledTask ->
+                        assertThat(scheduledTask.toString()).contains("purgeExpired")));
+  }
+}
@@ -0,0 +1,97 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.girardsimon.wealthpay.account.jooq.tables.IdempotentRequest.IDEMPOTENT_REQUEST;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.girardsimon.wealthpay.account.application.IdempotentRequest;
+import org.girardsimon.wealthpay.account.application.IdempotentRequestStore;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.shared.config.TimeConfig;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
+import org.springframework.context.annotation.Import;
+
+@JooqTest
+@Import({IdempotentRequestRepository.class, TimeConfig.class})
+class IdempotentRequestRepositoryTest extends AbstractContainerTest {
+
+  @Autowired private IdempotentRequestStore idempotentRequestStore;
+  @Autowired private IdempotentRequestRepository idempotentRequestRepository;
+  @Autowired private DSLContext dslContext;
+
+  private void expire(String idempotencyKey) {
+    dslContext
+        .update(IDEMPOTENT_REQUEST)
+        .set(IDEMPOTENT_REQUEST.CREATED_AT, OffsetDateTime.now().minusDays(2))
+        .where(IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY.eq(idempotencyKey))
+        .execute();
+  }
+
+  @Test
+  void claim_returns_the_request_that_claimed_the_key_first() {
+    // Arrange
+    String idempotencyKey = UUID.randomUUID().toString();
+    IdempotentRequest first =
+        new IdempotentRequest(idempotencyKey, "USD:10.00:USD", AccountId.newId());
+    IdempotentRequest retry =
+        new IdempotentRequest(idempotencyKey, "USD:10.00:USD", AccountId.newId());
+
+    // Act ... Assert
+    assertAll(
+        () -> assertThat(idempotentRequestStore.claim(first)).isEmpty(),
+        () -> assertThat(idempotentRequestStore.claim(retry)).contains(first));
+  }
+
+  @Test
+  void claim_claims_again_a_key_past_its_retention() {
+    // Arrange
+    String idempotencyKey = UUID.randomUUID().toString();
+    idempotentRequestStore.claim(
+        new IdempotentRequest(idempotencyKey, "USD:10.00:USD", AccountId.newId()));
+    expire(idempotencyKey);
+    IdempotentRequest later =
+        new IdempotentRequest(idempotencyKey, "EUR:5.00:EUR", AccountId.newId());
+
+    // Act ... Assert
+    assertAll(
+        () -> assertThat(idempotentRequestStore.claim(later)).isEmpty(),
+        () ->
+            assertThat(
+                    idempotentRequestStore.claim(
+                        new IdempotentRequest(idempotencyKey, "EUR:5.00:EUR", AccountId.newId())))
+                .contains(later));
+  }
+
+  @Test
+  void purgeExpired_deletes_only_the_keys_past_their_retention() {
+    // Arrange
+    String expiredKey = UUID.randomUUID().toString();
+    String recentKey = UUID.randomUUID().toString();
+    idempotentRequestStore.claim(
+        new IdempotentRequest(expiredKey, "USD:10.00:USD", AccountId.newId()));
+    idempotentRequestStore.claim(
+        new IdempotentRequest(recentKey, "USD:10.00:USD", AccountId.newId()));
+    expire(expiredKey);
+
+    // Act
+    idempotentRequestRepository.purgeExpired();
+
+    // Assert
+    assertAll(
+        () ->
+            assertThat(
+                    dslContext.fetchExists(
+                        IDEMPOTENT_REQUEST, IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY.eq(expiredKey)))
+                .isFalse(),
+        () ->
+            assertThat(
+                    dslContext.fetchExists(
+                        IDEMPOTENT_REQUEST, IDEMPOTENT_REQUEST.IDEMPOTENCY_KEY.eq(recentKey)))
+                .isTrue());
+  }
+}
@@ -0,0 +1,72 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TransactionIdBloomFilterTest {
+
+  @Test
+  void mightContain_answers_true_for_every_pair_put() {
+    // Arrange
+    TransactionIdBloomFilter filter = new TransactionIdBloomFilter(10_000L, 0.01);
+    UUID accountId = UUID.randomUUID();
+    List<UUID> transactionIds = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      transactionIds.add(UUID.randomUUID());
+    }
+
+    // Act
+    transactionIds.forEach(transactionId -> filter.put(accountId, transactionId));
+
+    // Assert
+    assertThat(transactionIds)
+        .allMatch(transactionId -> filter.mightContain(accountId, transactionId));
+  }
+
+  @Test
+  void mightContain_answers_false_for_most_pairs_never_put() {
+    // Arrange
+    TransactionIdBloomFilter filter = new TransactionIdBloomFilter(10_000L, 0.01);
+    UUID accountId = UUID.randomUUID();
+    for (int i = 0; i < 10_000; i++) {
+      filter.put(accountId, UUID.randomUUID());
+    }
+
+    // Act
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain(accountId, UUID.randomUUID())) {
+        falsePositives++;
+      }
+    }
+
+    // Assert
+    assertThat(falsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  void mightContain_tells_apart_the_same_transaction_id_on_another_account() {
+    // Arrange
+    TransactionIdBloomFilter filter = new TransactionIdBloomFilter(1_000L, 0.001);
+    UUID transactionId = UUID.randomUUID();
+
+    // Act
+    filter.put(UUID.randomUUID(), transactionId);
+
+    // Assert
+    assertThat(filter.mightContain(UUID.randomUUID(), transactionId)).isFalse();
+  }
+
+  @Test
+  void constructor_rejects_invalid_sizing() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> new TransactionIdBloomFilter(0L, 0.01));
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> new TransactionIdBloomFilter(1_000L, 1.0));
+  }
+}
@@ -161,4 +161,16 @@ class AccountEventSerializerTest {
     // Assert
     assertThat(serializedAccountEvent).isEqualTo(expectedPayload);
   }
+
+  @ParameterizedTest
+  @MethodSource("accountEventProvider")
+  void serialize_account_event_writes_compact_payload_in_declared_field_order(
+      AccountEvent accountEvent, JSONB expectedPayload) {
+    // Act
+    JSONB serializedAccountEvent = accountEventSerializer.apply(accountEvent);
+
+    // Assert
+    assertThat(serializedAccountEvent.data())
+        .isEqualTo(expectedPayload.data().replaceAll("\\s", ""));
+  }
 }
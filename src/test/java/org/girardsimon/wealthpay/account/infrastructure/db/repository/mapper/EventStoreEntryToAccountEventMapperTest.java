@@ -1,6 +1,7 @@
 package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -23,6 +24,7 @@ import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
 import org.girardsimon.wealthpay.account.domain.model.TransactionId;
 import org.girardsimon.wealthpay.account.jooq.tables.pojos.EventStore;
 import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -235,4 +237,76 @@ class EventStoreEntryToAccountEventMapperTest {
     // Assert
     assertThat(deserializedEvent).isEqualTo(expectedEvent);
   }
+
+  private static EventStore fundsCreditedRow(String payload) {
+    EventStore eventStore = new EventStore();
+    eventStore.setEventType("FundsCredited");
+    eventStore.setEventId(UUID.randomUUID());
+    eventStore.setAccountId(UUID.randomUUID());
+    eventStore.setVersion(2L);
+    eventStore.setPayload(JSONB.valueOf(payload));
+    return eventStore;
+  }
+
+  @Test
+  void deserialize_ignores_unknown_fields_and_accepts_any_field_order() {
+    // Arrange
+    EventStore eventStore =
+        fundsCreditedRow(
+            """
+            {
+                "occurredAt": "2025-11-16T15:00:00.123456Z",
+                "comment": {"source": ["batch"]},
+                "amount": 12.345,
+                "currency": "EUR",
+                "transactionId": "93c1fbc0-3d93-43f2-a127-b3c5d1c7722c"
+            }
+            """);
+
+    // Act
+    AccountEvent deserializedEvent = mapper.apply(eventStore);
+
+    // Assert
+    assertThat(deserializedEvent)
+        .isEqualTo(
+            new FundsCredited(
+                AccountEventMeta.of(
+                    EventId.of(eventStore.getEventId()),
+                    AccountId.of(eventStore.getAccountId()),
+                    Instant.parse("2025-11-16T15:00:00.123456Z"),
+                    2L),
+                TransactionId.of(UUID.fromString("93c1fbc0-3d93-43f2-a127-b3c5d1c7722c")),
+                Money.of(new BigDecimal("12.345"), SupportedCurrency.EUR)));
+  }
+
+  @Test
+  void deserialize_rejects_payload_missing_a_required_field() {
+    // Arrange
+    EventStore eventStore =
+        fundsCreditedRow(
+            """
+            {
+                "transactionId": "93c1fbc0-3d93-43f2-a127-b3c5d1c7722c",
+                "currency": "EUR",
+                "occurredAt": "2025-11-16T15:00:00Z"
+            }
+            """);
+
+    // Act ... Assert
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(() -> mapper.apply(eventStore))
+        .withMessage("Missing required field 'amount'");
+  }
+
+  @Test
+  void deserialize_rejects_unknown_event_type() {
+    // Arrange
+    EventStore eventStore = fundsCreditedRow("{}");
+    eventStore.setEventType("FundsTeleported");
+
+    // Act ... Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> mapper.apply(eventStore))
+        .withMessage("Unknown event type: FundsTeleported");
+  }
 }
@@ -0,0 +1,76 @@
+package org.girardsimon.wealthpay.account.infrastructure.db.repository.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MapperUtilsTest {
+
+  private static char[] padded(String value) {
+    return ("[" + value + "]").toCharArray();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2025-11-16T15:00:00Z",
+        "2025-11-16T15:00:00.1Z",
+        "2025-11-16T15:00:00.123Z",
+        "2025-11-16T15:00:00.123456Z",
+        "2025-11-16T15:00:00.123456789Z",
+        "1969-12-31T23:59:59.999Z",
+        "2024-02-29T00:00:00Z",
+        "+12025-01-01T00:00:00Z",
+        "2025-11-16T16:00:00+01:00"
+      })
+  void parseInstant_matches_Instant_parse(String value) {
+    // Act
+    Instant parsed = MapperUtils.parseInstant(padded(value), 1, value.length());
+
+    // Assert
+    assertThat(parsed).isEqualTo(Instant.parse(value));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2025-13-16T15:00:00Z", "2025-02-30T15:00:00Z", "2025-11-16T25:00:00Z"})
+  void parseInstant_rejects_invalid_instants(String value) {
+    // Arrange
+    char[] chars = padded(value);
+
+    // Act ... Assert
+    assertThatExceptionOfType(DateTimeParseException.class)
+        .isThrownBy(() -> MapperUtils.parseInstant(chars, 1, value.length()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "09518c66-ff5e-4596-9049-74dfbdf6f6db",
+        "FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF",
+        "00000000-0000-0000-0000-000000000000"
+      })
+  void parseUuid_matches_UUID_fromString(String value) {
+    // Act
+    UUID parsed = MapperUtils.parseUuid(padded(value), 1, value.length());
+
+    // Assert
+    assertThat(parsed).isEqualTo(UUID.fromString(value));
+  }
+
+  @Test
+  void parseUuid_rejects_non_hexadecimal_digits() {
+    // Arrange
+    String value = "09518c66-ff5e-4596-9049-74dfbdf6f6dz";
+    char[] chars = padded(value);
+
+    // Act ... Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> MapperUtils.parseUuid(chars, 1, value.length()));
+  }
+}
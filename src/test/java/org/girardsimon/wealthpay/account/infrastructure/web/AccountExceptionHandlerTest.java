@@ -14,6 +14,7 @@ import org.girardsimon.wealthpay.account.domain.exception.AccountIdMismatchExcep
 import org.girardsimon.wealthpay.account.domain.exception.AccountInactiveException;
 import org.girardsimon.wealthpay.account.domain.exception.AccountNotEmptyException;
 import org.girardsimon.wealthpay.account.domain.exception.AmountMustBePositiveException;
+import org.girardsimon.wealthpay.account.domain.exception.DuplicateTransactionException;
 import org.girardsimon.wealthpay.account.domain.exception.InsufficientFundsException;
 import org.girardsimon.wealthpay.account.domain.exception.InvalidAccountEventStreamException;
 import org.girardsimon.wealthpay.account.domain.exception.InvalidInitialBalanceException;
@@ -24,6 +25,7 @@ import org.girardsimon.wealthpay.account.domain.model.AccountId;
 import org.girardsimon.wealthpay.account.domain.model.Money;
 import org.girardsimon.wealthpay.account.domain.model.ReservationId;
 import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.girardsimon.wealthpay.account.domain.model.TransactionId;
 import org.girardsimon.wealthpay.shared.infrastructure.web.FakeController;
 import org.girardsimon.wealthpay.shared.infrastructure.web.FakeService;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -67,7 +69,13 @@ class AccountExceptionHandlerTest {
   }
 
   private static Stream<Arguments> allConflictExceptions() {
-    return Stream.of(Arguments.of(new AccountInactiveException(), "Account is inactive"));
+    AccountId accountId = AccountId.newId();
+    TransactionId transactionId = TransactionId.newId();
+    return Stream.of(
+        Arguments.of(new AccountInactiveException(), "Account is inactive"),
+        Arguments.of(
+            new DuplicateTransactionException(accountId, transactionId),
+            "Transaction " + transactionId.id() + " already applied to account " + accountId.id()));
   }
 
   private static Stream<Arguments> allUnprocessableContentExceptions() {
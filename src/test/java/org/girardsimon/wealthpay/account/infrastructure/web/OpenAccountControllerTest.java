@@ -1,6 +1,9 @@
 package org.girardsimon.wealthpay.account.infrastructure.web;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -10,14 +13,21 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.girardsimon.wealthpay.account.api.generated.model.AccountBalancesQueryRequestDto;
 import org.girardsimon.wealthpay.account.api.generated.model.AccountResponseDto;
 import org.girardsimon.wealthpay.account.api.generated.model.AccountStatusDto;
 import org.girardsimon.wealthpay.account.api.generated.model.OpenAccountRequestDto;
 import org.girardsimon.wealthpay.account.api.generated.model.SupportedCurrencyDto;
 import org.girardsimon.wealthpay.account.application.AccountApplicationService;
 import org.girardsimon.wealthpay.account.application.view.AccountBalanceView;
+import org.girardsimon.wealthpay.account.application.view.AccountBalances;
 import org.girardsimon.wealthpay.account.domain.command.OpenAccount;
 import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
 import org.girardsimon.wealthpay.account.infrastructure.web.mapper.AccountBalanceViewDomainToDtoMapper;
 import org.girardsimon.wealthpay.account.infrastructure.web.mapper.OpenAccountDtoToDomainMapper;
 import org.girardsimon.wealthpay.shared.infrastructure.web.GlobalExceptionHandler;
@@ -31,7 +41,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
 @WebMvcTest(OpenAccountController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, OpenAccountReplayCache.class})
 class OpenAccountControllerTest {
 
   @MockitoBean AccountApplicationService accountApplicationService;
@@ -68,6 +78,38 @@ class OpenAccountControllerTest {
         .andExpect(jsonPath("$.accountId").value(accountId.id().toString()));
   }
 
+  @Test
+  void openAccount_replays_the_first_response_for_a_retry_with_the_same_idempotency_key()
+      throws Exception {
+    // Arrange
+    OpenAccountRequestDto openAccountRequestDto =
+        new OpenAccountRequestDto()
+            .accountCurrency(SupportedCurrencyDto.USD)
+            .initialAmount(BigDecimal.valueOf(100.50))
+            .initialAmountCurrency(SupportedCurrencyDto.USD);
+    SupportedCurrency usd = SupportedCurrency.USD;
+    OpenAccount openAccount = new OpenAccount(usd, Money.of(BigDecimal.valueOf(100.50), usd));
+    when(openAccountDtoToDomainMapper.apply(openAccountRequestDto)).thenReturn(openAccount);
+    AccountId accountId = AccountId.newId();
+    String idempotencyKey = UUID.randomUUID().toString();
+    when(accountApplicationService.openAccount(openAccount, idempotencyKey)).thenReturn(accountId);
+
+    // Act ... Assert
+    for (int attempt = 0; attempt < 2; attempt++) {
+      mockMvc
+          .perform(
+              post("/accounts")
+                  .header("Idempotency-Key", idempotencyKey)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(openAccountRequestDto)))
+          .andExpect(status().isCreated())
+          .andExpect(header().string("Location", "http://localhost/accounts/" + accountId.id()))
+          .andExpect(jsonPath("$.accountId").value(accountId.id().toString()));
+    }
+    verify(accountApplicationService, times(1)).openAccount(openAccount, idempotencyKey);
+    verify(accountApplicationService, never()).openAccount(openAccount);
+  }
+
   @Test
   void openAccount_returns_structured_validation_error_when_body_invalid() throws Exception {
     // Arrange
@@ -115,4 +157,52 @@ class OpenAccountControllerTest {
         .andExpect(jsonPath("$.currency").value("USD"))
         .andExpect(jsonPath("$.status").value("OPENED"));
   }
+
+  @Test
+  void queryAccountBalances_should_return_200_with_found_accounts_and_not_found_ids()
+      throws Exception {
+    // Arrange
+    AccountId found = AccountId.newId();
+    AccountId missing = AccountId.newId();
+    AccountBalanceView accountBalanceView = mock(AccountBalanceView.class);
+    when(accountApplicationService.getAccountBalances(List.of(found, missing)))
+        .thenReturn(new AccountBalances(List.of(accountBalanceView), List.of(missing)));
+    when(accountBalanceViewDomainToDtoMapper.apply(accountBalanceView))
+        .thenReturn(
+            new AccountResponseDto()
+                .id(found.id())
+                .balanceAmount(BigDecimal.TEN)
+                .currency(SupportedCurrencyDto.USD)
+                .status(AccountStatusDto.OPENED));
+    AccountBalancesQueryRequestDto queryRequestDto =
+        new AccountBalancesQueryRequestDto().ids(List.of(found.id(), missing.id()));
+
+    // Act ... Assert
+    mockMvc
+        .perform(
+            post("/accounts/balances:query")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(queryRequestDto)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accounts[0].id").value(found.id().toString()))
+        .andExpect(jsonPath("$.accounts[0].balanceAmount").value("10"))
+        .andExpect(jsonPath("$.notFoundIds[0]").value(missing.id().toString()));
+  }
+
+  @Test
+  void queryAccountBalances_should_return_400_when_too_many_ids() throws Exception {
+    // Arrange
+    List<UUID> ids = Stream.generate(UUID::randomUUID).limit(1_001).toList();
+    AccountBalancesQueryRequestDto queryRequestDto = new AccountBalancesQueryRequestDto().ids(ids);
+
+    // Act ... Assert
+    mockMvc
+        .perform(
+            post("/accounts/balances:query")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(queryRequestDto)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("ids"))
+        .andExpect(jsonPath("$.errors[0].code").value("Size"));
+  }
 }
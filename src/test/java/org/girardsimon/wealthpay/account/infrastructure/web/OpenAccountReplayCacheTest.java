@@ -0,0 +1,131 @@
+package org.girardsimon.wealthpay.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.girardsimon.wealthpay.account.domain.command.OpenAccount;
+import org.girardsimon.wealthpay.account.domain.exception.IdempotencyKeyReusedException;
+import org.girardsimon.wealthpay.account.domain.model.AccountId;
+import org.girardsimon.wealthpay.account.domain.model.Money;
+import org.girardsimon.wealthpay.account.domain.model.SupportedCurrency;
+import org.junit.jupiter.api.Test;
+
+class OpenAccountReplayCacheTest {
+
+  OpenAccountReplayCache openAccountReplayCache =
+      new OpenAccountReplayCache(100L, Duration.ofMinutes(1));
+
+  SupportedCurrency usd = SupportedCurrency.USD;
+  OpenAccount openAccount = new OpenAccount(usd, Money.of(BigDecimal.TEN, usd));
+
+  @Test
+  void openAccount_runs_concurrent_duplicates_of_a_key_once() throws Exception {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    int duplicates = 20;
+
+    // Act
+    List<AccountId> opened = new ArrayList<>();
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<AccountId>> results = new ArrayList<>();
+      for (int i = 0; i < duplicates; i++) {
+        results.add(
+            clients.submit(
+                () ->
+                    openAccountReplayCache.openAccount(
+                        "key-1",
+                        new OpenAccount(usd, Money.of(BigDecimal.TEN, usd)),
+                        () -> {
+                          runs.incrementAndGet();
+                          await(release);
+                          return accountId;
+                        })));
+      }
+      Thread.sleep(50L);
+      release.countDown();
+      for (Future<AccountId> result : results) {
+        opened.add(result.get(5, TimeUnit.SECONDS));
+      }
+    }
+
+    // Assert
+    assertAll(
+        () -> assertThat(runs.get()).isEqualTo(1),
+        () -> assertThat(opened).hasSize(duplicates).containsOnly(accountId));
+  }
+
+  @Test
+  void openAccount_answers_a_retry_from_memory() {
+    // Arrange
+    AccountId accountId = AccountId.newId();
+    openAccountReplayCache.openAccount("key-1", openAccount, () -> accountId);
+
+    // Act
+    AccountId replayed =
+        openAccountReplayCache.openAccount(
+            "key-1",
+            openAccount,
+            () -> {
+              throw new AssertionError("retry must not open another account");
+            });
+
+    // Assert
+    assertThat(replayed).isEqualTo(accountId);
+  }
+
+  @Test
+  void openAccount_rejects_a_different_request_reusing_the_key() {
+    // Arrange
+    openAccountReplayCache.openAccount("key-1", openAccount, AccountId::newId);
+    OpenAccount otherRequest = new OpenAccount(usd, Money.of(BigDecimal.ONE, usd));
+
+    // Act ... Assert
+    assertThatExceptionOfType(IdempotencyKeyReusedException.class)
+        .isThrownBy(
+            () -> openAccountReplayCache.openAccount("key-1", otherRequest, AccountId::newId));
+  }
+
+  @Test
+  void openAccount_runs_the_request_again_when_the_first_one_failed() {
+    // Arrange
+    IllegalStateException failure = new IllegalStateException("database unavailable");
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(
+            () ->
+                openAccountReplayCache.openAccount(
+                    "key-1",
+                    openAccount,
+                    () -> {
+                      throw failure;
+                    }));
+    AccountId accountId = AccountId.newId();
+
+    // Act
+    AccountId opened = openAccountReplayCache.openAccount("key-1", openAccount, () -> accountId);
+
+    // Assert
+    assertThat(opened).isEqualTo(accountId);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package org.girardsimon.wealthpay.account.testsupport;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Opens transactions backed by no resource, so that code under test sees them active through {@link
+ * org.springframework.transaction.support.TransactionSynchronizationManager}.
+ */
+public class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+  @Override
+  protected Object doGetTransaction() {
+    return new Object();
+  }
+
+  @Override
+  protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+  @Override
+  protected void doCommit(DefaultTransactionStatus status) {}
+
+  @Override
+  protected void doRollback(DefaultTransactionStatus status) {}
+}
@@ -0,0 +1,61 @@
+package org.girardsimon.wealthpay.shared.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class WindowedBatcherTest {
+
+  private final BlockingQueue<List<String>> flushed = new LinkedBlockingQueue<>();
+
+  private WindowedBatcher<List<String>> batcher(Duration window, int maxBatchSize) {
+    return new WindowedBatcher<>(window, maxBatchSize, ArrayList::new, List::size, flushed::add);
+  }
+
+  @Test
+  void add_flushes_the_requests_added_within_the_window_together() throws Exception {
+    // Arrange
+    WindowedBatcher<List<String>> batcher = batcher(Duration.ofMillis(200), 100);
+
+    // Act
+    Boolean added = batcher.add(batch -> batch.add("first"));
+    batcher.add(batch -> batch.add("second"));
+
+    // Assert
+    assertAll(
+        () -> assertThat(added).isTrue(),
+        () -> assertThat(flushed.poll(5, TimeUnit.SECONDS)).containsExactly("first", "second"),
+        () -> assertThat(flushed).isEmpty());
+  }
+
+  @Test
+  void add_flushes_a_full_batch_without_waiting_for_the_window() throws Exception {
+    // Arrange
+    WindowedBatcher<List<String>> batcher = batcher(Duration.ofHours(1), 2);
+
+    // Act
+    batcher.add(batch -> batch.add("first"));
+    batcher.add(batch -> batch.add("second"));
+    batcher.add(batch -> batch.add("third"));
+
+    // Assert
+    assertAll(
+        () -> assertThat(flushed.poll(5, TimeUnit.SECONDS)).containsExactly("first", "second"),
+        () -> assertThat(flushed.poll(100, TimeUnit.MILLISECONDS)).isNull());
+  }
+
+  @Test
+  void constructor_rejects_a_negative_window() {
+    // Act & Assert
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> batcher(Duration.ofMillis(-1), 1));
+  }
+}